@@ -33,6 +33,9 @@ collect_ignore = [
 
 add_src_main_path("org.knime.python3")
 add_src_main_path("org.knime.python3.nodes")
+# knime.scripting.io of org.knime.python3.scripting takes precedence, only the modules that
+# are not part of it (e.g. _map_batches) are taken from org.knime.python3.scripting.nodes
+add_src_main_path("org.knime.python3.scripting.nodes")
 add_src_main_path("org.knime.python3.scripting")
 add_src_main_path("org.knime.python3.scripting.tests")
 add_src_main_path("org.knime.python3.views")
@@ -0,0 +1,183 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python3.arrow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.v2.schema.DataTableValueSchemaUtils;
+import org.knime.core.data.v2.schema.ValueSchema;
+import org.knime.core.data.v2.value.BooleanValueFactory;
+import org.knime.core.data.v2.value.DefaultRowKeyValueFactory;
+import org.knime.core.data.v2.value.DoubleValueFactory;
+import org.knime.core.data.v2.value.IntValueFactory;
+import org.knime.core.data.v2.value.LongValueFactory;
+import org.knime.core.data.v2.value.StringValueFactory;
+
+/**
+ * Tests the parsing and merging of the domain statistics that Python computes for each written batch.
+ */
+@SuppressWarnings("javadoc")
+public class DomainStatisticsTest {
+
+    /** Columns: row key, int, long, double, string, boolean */
+    private static ValueSchema createSchema() {
+        final var spec = new DataTableSpec(column("int", IntCell.TYPE), column("long", LongCell.TYPE),
+            column("double", DoubleCell.TYPE), column("string", StringCell.TYPE), column("boolean", BooleanCell.TYPE));
+        return DataTableValueSchemaUtils.create(spec, DefaultRowKeyValueFactory.INSTANCE, new IntValueFactory(),
+            new LongValueFactory(), new DoubleValueFactory(), new StringValueFactory(), new BooleanValueFactory());
+    }
+
+    private static DataColumnSpec column(final String name, final DataType type) {
+        return new DataColumnSpecCreator(name, type).createSpec();
+    }
+
+    @Test
+    public void testMergeBatches() throws IOException {
+        final var statistics = new DomainStatistics(10);
+        statistics.merge("""
+            {"1": {"min": 3, "max": 7}, "2": {"min": -5, "max": 10000000000},
+             "3": {"min": 0.5, "max": Infinity}, "4": {"values": ["a", "b"]}, "5": {}}""");
+        statistics.merge("""
+            {"1": {"min": 1, "max": 5}, "2": {}, "3": {"min": -Infinity, "max": 2.5},
+             "4": {"values": ["b", "c"]}}""");
+        statistics.initCoveredColumns(createSchema());
+
+        // the boolean column is not supported and its domain is computed by the DomainCalculator
+        assertEquals(Set.of(1, 2, 3, 4), statistics.getCoveredColumns());
+        assertNull(statistics.createDomain(5));
+
+        final var intDomain = statistics.createDomain(1);
+        assertEquals(new IntCell(1), intDomain.getLowerBound());
+        assertEquals(new IntCell(7), intDomain.getUpperBound());
+
+        final var longDomain = statistics.createDomain(2);
+        assertEquals(new LongCell(-5), longDomain.getLowerBound());
+        assertEquals(new LongCell(10000000000L), longDomain.getUpperBound());
+
+        final var doubleDomain = statistics.createDomain(3);
+        assertEquals(new DoubleCell(Double.NEGATIVE_INFINITY), doubleDomain.getLowerBound());
+        assertEquals(new DoubleCell(Double.POSITIVE_INFINITY), doubleDomain.getUpperBound());
+
+        final var stringDomain = statistics.createDomain(4);
+        assertEquals(List.<DataCell> of(new StringCell("a"), new StringCell("b"), new StringCell("c")),
+            List.copyOf(stringDomain.getValues()));
+        assertFalse(stringDomain.hasBounds());
+    }
+
+    @Test
+    public void testColumnWithOnlyMissingValuesHasNoBounds() throws IOException {
+        final var statistics = new DomainStatistics(10);
+        statistics.merge("{\"1\": {}, \"4\": {\"values\": []}}");
+        statistics.initCoveredColumns(createSchema());
+
+        final var intDomain = statistics.createDomain(1);
+        assertFalse(intDomain.hasBounds());
+        final var stringDomain = statistics.createDomain(4);
+        assertTrue(stringDomain.hasValues());
+        assertTrue(stringDomain.getValues().isEmpty());
+    }
+
+    @Test
+    public void testTooManyPossibleValues() throws IOException {
+        final var statistics = new DomainStatistics(2);
+        statistics.merge("{\"4\": {\"values\": [\"a\", \"b\"]}}");
+        statistics.merge("{\"4\": {\"values\": [\"a\", \"c\"]}}");
+        // once there are too many values, later batches don't add values again
+        statistics.merge("{\"4\": {\"values\": [\"a\"]}}");
+        statistics.initCoveredColumns(createSchema());
+
+        assertFalse(statistics.createDomain(4).hasValues());
+    }
+
+    @Test
+    public void testTooManyPossibleValuesInPython() throws IOException {
+        final var statistics = new DomainStatistics(10);
+        statistics.merge("{\"4\": {\"values\": [\"a\"]}}");
+        statistics.merge("{\"4\": {\"values\": null}}");
+        statistics.merge("{\"4\": {\"values\": [\"b\"]}}");
+        statistics.initCoveredColumns(createSchema());
+
+        assertFalse(statistics.createDomain(4).hasValues());
+    }
+
+    @Test
+    public void testColumnsOutsideOfSchemaAreNotCovered() throws IOException {
+        final var statistics = new DomainStatistics(10);
+        // column 0 holds the row keys and column 6 does not exist
+        statistics.merge("{\"0\": {\"values\": [\"Row0\"]}, \"1\": {\"min\": 0, \"max\": 1}, \"6\": {}}");
+        statistics.initCoveredColumns(createSchema());
+
+        assertEquals(Set.of(1), statistics.getCoveredColumns());
+    }
+
+    @Test
+    public void testInvalidStatistics() {
+        final var statistics = new DomainStatistics(10);
+        assertThrows(IOException.class, () -> statistics.merge("{\"1\": "));
+    }
+}
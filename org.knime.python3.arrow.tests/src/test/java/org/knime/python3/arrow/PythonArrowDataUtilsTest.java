@@ -49,7 +49,9 @@
 package org.knime.python3.arrow;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 import static org.knime.core.table.schema.DataSpecs.BYTE;
 import static org.knime.core.table.schema.DataSpecs.DOUBLE;
 import static org.knime.core.table.schema.DataSpecs.INT;
@@ -64,6 +66,7 @@
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.memory.RootAllocator;
@@ -78,7 +81,17 @@
 import org.knime.core.columnar.batch.WriteBatch;
 import org.knime.core.columnar.data.IntData.IntReadData;
 import org.knime.core.columnar.data.IntData.IntWriteData;
+import org.knime.core.columnar.filter.DefaultColumnSelection;
+import org.knime.core.columnar.store.BatchReadStore;
+import org.knime.core.data.DataColumnDomain;
+import org.knime.core.data.DataColumnDomainCreator;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.meta.DataColumnMetaData;
 import org.knime.core.table.schema.ColumnarSchema;
+import org.knime.python3.arrow.PythonArrowDataUtils.TableDomainAndMetadata;
 import org.knime.python3.testing.Python3ArrowTestUtils;
 
 /**
@@ -195,6 +208,183 @@ public void testMultipleInputsOutputs() throws Exception {
         }
     }
 
+    /**
+     * Test {@link PythonArrowDataUtils#createBatchRangeSource(PythonArrowDataSource, int, int)}.
+     */
+    @Test
+    public void testBatchRangeSource() {
+        final var source = new PythonArrowDataSource() {
+
+            @Override
+            public String getAbsolutePath() {
+                return "/tmp/data.arrow";
+            }
+
+            @Override
+            public boolean isFooterWritten() {
+                return false;
+            }
+
+            @Override
+            public long getRecordBatchOffset(final int index) {
+                return 100L * index;
+            }
+
+            @Override
+            public int numBatches() {
+                return 10;
+            }
+
+            @Override
+            public String[] getColumnNames() {
+                return new String[]{"a"};
+            }
+
+            @Override
+            public boolean hasColumnNames() {
+                return true;
+            }
+        };
+
+        final var range = PythonArrowDataUtils.createBatchRangeSource(source, 4, 3);
+        assertEquals(4, range.getFirstBatchIndex());
+        assertEquals(3, range.numBatches());
+        assertEquals(source.getAbsolutePath(), range.getAbsolutePath());
+        // Offsets are requested with the index in the file
+        assertEquals(500L, range.getRecordBatchOffset(5));
+
+        // A range of a range is relative to the outer range
+        final var nested = PythonArrowDataUtils.createBatchRangeSource(range, 1, 2);
+        assertEquals(5, nested.getFirstBatchIndex());
+        assertEquals(2, nested.numBatches());
+
+        assertThrows(IllegalArgumentException.class, () -> PythonArrowDataUtils.createBatchRangeSource(source, 8, 3));
+        assertThrows(IllegalArgumentException.class, () -> PythonArrowDataUtils.createBatchRangeSource(source, -1, 1));
+    }
+
+    /**
+     * Test that the {@link ConcatenatedBatchReadStore} provides the batches of all files in order and merges them on
+     * flush.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testConcatenatedStore() throws Exception {
+        final List<Path> paths = new ArrayList<>();
+        for (int idx = 0; idx < 3; idx++) {
+            try (final var store = createReadStore(idx)) {
+                paths.add(store.getFileHandle().asPath());
+            }
+        }
+        final var mergedPath = Python3ArrowTestUtils.createTmpKNIMEArrowPath();
+        try (final var store = new ConcatenatedBatchReadStore(paths, m_storeFactory, mergedPath, true)) {
+            assertEquals(3, store.numBatches());
+            checkBatches(store, 3);
+            store.flush();
+        }
+        for (final var path : paths) {
+            assertFalse(Files.exists(path));
+        }
+        try (final var merged = m_storeFactory.createReadStore(mergedPath)) {
+            assertEquals(3, merged.numBatches());
+            checkBatches(merged, 3);
+        }
+    }
+
+    /**
+     * Test that the {@link ConcatenatedBatchReadStore} only claims a uniform batch length if the row indices of the
+     * concatenation map to batches like in a single table.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testConcatenatedStoreBatchLength() throws Exception {
+        // 3 and 5 rows with chunk size 2: [2, 1] + [2, 2, 1] has a short batch in the middle
+        final var shortInTheMiddle = List.of(writeRows(0, 3, 2), writeRows(3, 5, 2));
+        assertFalse(ConcatenatedBatchReadStore.hasUniformBatchLength(shortInTheMiddle, m_storeFactory));
+
+        // different chunk sizes: [2, 2] + [3]
+        final var differentChunkSizes = List.of(writeRows(0, 4, 2), writeRows(4, 3, 3));
+        assertFalse(ConcatenatedBatchReadStore.hasUniformBatchLength(differentChunkSizes, m_storeFactory));
+
+        // 4 and 5 rows with chunk size 2: [2, 2] + [2, 2, 1] only has a short last batch
+        final var uniform = List.of(writeRows(0, 4, 2), writeRows(4, 5, 2));
+        assertTrue(ConcatenatedBatchReadStore.hasUniformBatchLength(uniform, m_storeFactory));
+        // a single short batch at the end is fine, too: [2, 2] + [1]
+        final var shortLast = List.of(writeRows(0, 4, 2), writeRows(4, 1, 2));
+        assertTrue(ConcatenatedBatchReadStore.hasUniformBatchLength(shortLast, m_storeFactory));
+
+        // random access by row index as done by the table
+        final var mergedPath = Python3ArrowTestUtils.createTmpKNIMEArrowPath();
+        try (final var store = new ConcatenatedBatchReadStore(uniform, m_storeFactory, mergedPath, true);
+                final var reader = store.createRandomAccessReader(new DefaultColumnSelection(1))) {
+            assertEquals(2, store.batchLength());
+            for (int row = 0; row < 9; row++) {
+                final var batch = reader.readRetained(row / store.batchLength());
+                assertEquals(row, ((IntReadData)batch.get(0)).getInt(row % store.batchLength()));
+                batch.release();
+            }
+        }
+        for (final var path : shortInTheMiddle) {
+            Files.deleteIfExists(path);
+        }
+        for (final var path : differentChunkSizes) {
+            Files.deleteIfExists(path);
+        }
+        for (final var path : shortLast) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /**
+     * Test {@link PythonArrowDataUtils#mergeDomainsAndMetadata(List, DataTableSpec, int)}.
+     */
+    @Test
+    public void testMergeDomains() {
+        final var spec = new DataTableSpec(new DataColumnSpecCreator("i", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("s", StringCell.TYPE).createSpec());
+        final var first = domains(
+            new DataColumnDomainCreator(null, new IntCell(3), new IntCell(5)).createDomain(),
+            new DataColumnDomainCreator(Set.of(new StringCell("a"))).createDomain());
+        final var second = domains(
+            new DataColumnDomainCreator(null, new IntCell(1), new IntCell(4)).createDomain(),
+            new DataColumnDomainCreator(Set.of(new StringCell("b"))).createDomain());
+
+        final var merged = PythonArrowDataUtils.mergeDomainsAndMetadata(List.of(first, second), spec, 60);
+        assertEquals(new IntCell(1), merged.getDomain(1).getLowerBound());
+        assertEquals(new IntCell(5), merged.getDomain(1).getUpperBound());
+        assertEquals(Set.of(new StringCell("a"), new StringCell("b")), merged.getDomain(2).getValues());
+
+        // Too many possible values
+        final var tooMany = PythonArrowDataUtils.mergeDomainsAndMetadata(List.of(first, second), spec, 1);
+        assertFalse(tooMany.getDomain(2).hasValues());
+    }
+
+    private static TableDomainAndMetadata domains(final DataColumnDomain... domains) {
+        return new TableDomainAndMetadata() {
+
+            @Override
+            public DataColumnDomain getDomain(final int colIndex) {
+                return domains[colIndex - 1];
+            }
+
+            @Override
+            public DataColumnMetaData[] getMetadata(final int colIndex) {
+                return new DataColumnMetaData[0];
+            }
+        };
+    }
+
+    private static void checkBatches(final BatchReadStore store, final int numBatches) throws IOException {
+        try (final var reader = store.createRandomAccessReader(new DefaultColumnSelection(1))) {
+            for (int idx = 0; idx < numBatches; idx++) {
+                final var batch = reader.readRetained(idx);
+                assertEquals(idx, ((IntReadData)batch.get(0)).getInt(0));
+                batch.release();
+            }
+        }
+    }
+
     private ArrowBatchStore createWriteStore() throws IOException {
         final var schema = ColumnarSchema.of(INT);
         final var path = Python3ArrowTestUtils.createTmpKNIMEArrowFileHandle();
@@ -213,6 +403,27 @@ private ArrowBatchReadStore createReadStore(final int idx) throws IOException {
         return m_storeFactory.createReadStore(path);
     }
 
+    /** Writes the values first, first + 1, ... in batches of chunkSize rows and returns the path of the file */
+    private Path writeRows(final int first, final int numRows, final int chunkSize) throws IOException {
+        final var path = Python3ArrowTestUtils.createTmpKNIMEArrowPath();
+        try (final var writeStore = createWriteStore()) {
+            try (final var writer = writeStore.getWriter()) {
+                for (int start = 0; start < numRows; start += chunkSize) {
+                    final var length = Math.min(chunkSize, numRows - start);
+                    final WriteBatch batch = writer.create(chunkSize);
+                    for (int i = 0; i < length; i++) {
+                        ((IntWriteData)batch.get(0)).setInt(i, first + start + i);
+                    }
+                    final var readBatch = batch.close(length);
+                    writer.write(readBatch);
+                    readBatch.release();
+                }
+            }
+            Files.copy(writeStore.getFileHandle().asPath(), path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return path;
+    }
+
     private void checkReadable(final DefaultPythonArrowDataSink dataSink, final int idx) throws IOException {
         try (final var readable = PythonArrowDataUtils.createReadable(dataSink, m_storeFactory);
                 var reader = readable.createSequentialReader()) {
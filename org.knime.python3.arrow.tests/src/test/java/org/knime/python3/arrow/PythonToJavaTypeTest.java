@@ -68,6 +68,7 @@
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.memory.RootAllocator;
@@ -165,6 +166,21 @@ public void testDouble() throws Exception {
         test("double", DOUBLE, valueChecker);
     }
 
+    /**
+     * Test transfer of a double column that Python compresses with each of the codecs that can be chosen for the
+     * tables written by Python.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCompressionCodecs() throws Exception {
+        final ValueChecker<DoubleReadData> valueChecker =
+            (data, b, r) -> assertEquals(r / 10.0 + b, data.getDouble(r), DOUBLE_COMPARISON_EPSILON);
+        for (final var codec : DefaultPythonArrowDataSink.COMPRESSION_CODECS) {
+            test("double", DOUBLE, valueChecker, sink -> sink.setCompressionCodec(codec));
+        }
+    }
+
     /**
      * Test transfer of a float column from Python.
      *
@@ -353,12 +369,20 @@ public void testDictEncodedVarBinary() throws Exception {
 
     private <T extends NullableReadData> void test(final String type, final DataSpecs.DataSpecWithTraits spec,
         final ValueChecker<T> valueChecker) throws Exception {
+        test(type, spec, valueChecker, sink -> {
+        });
+    }
+
+    private <T extends NullableReadData> void test(final String type, final DataSpecs.DataSpecWithTraits spec,
+        final ValueChecker<T> valueChecker, final Consumer<DefaultPythonArrowDataSink> sinkConfigurator)
+        throws Exception {
         try (final var pythonGateway = TestUtils.openPythonGateway()) {
             final var entryPoint = pythonGateway.getEntryPoint();
 
             // Define a Python data sink collecting the data
             final var outPath = Python3ArrowTestUtils.createTmpKNIMEArrowPath();
             final var dataSink = PythonArrowDataUtils.createSink(outPath);
+            sinkConfigurator.accept(dataSink);
 
             // Call Python
             entryPoint.testTypeFromPython(type, dataSink);
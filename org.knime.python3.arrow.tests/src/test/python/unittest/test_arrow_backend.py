@@ -1,10 +1,14 @@
+import json
 import os
 import tempfile
 import contextlib
+import gc
+import threading
 import unittest
 import pyarrow as pa
 
 import knime._arrow._backend as kab
+import knime._arrow._types as kat
 
 
 class DummyJavaDataSink:
@@ -118,6 +122,297 @@ class ArrowDataSinkTest(unittest.TestCase):
             sink.write(_create_rb(7))
             self.assertRaises(ValueError, lambda: sink.write(_create_rb(10)))
 
+    def test_domain_statistics(self):
+        rb = pa.record_batch(
+            data=[
+                pa.array(["r0", "r1", "r2"]),
+                pa.array([3, None, 1], type=pa.int32()),
+                pa.array([0.5, float("nan"), -2.0]),
+                pa.array(["a", "b", "a"]),
+                pa.array([None, None, None], type=pa.int64()),
+                pa.array([True, False, True]),
+            ],
+            names=["<RowID>", "int", "double", "string", "missing", "bool"],
+        )
+        statistics = json.loads(kab._compute_domain_statistics(rb, 60))
+        self.assertEqual(
+            statistics,
+            {
+                "1": {"min": 1, "max": 3},
+                "2": {"min": -2.0, "max": 0.5},
+                "3": {"values": ["a", "b"]},
+                "4": {},
+            },
+        )
+
+        # The batches written to the sink hold the KNIME extension types
+        wrapped_statistics = json.loads(
+            kab._compute_domain_statistics(kat.wrap_primitive_arrays(rb), 60)
+        )
+        self.assertEqual(wrapped_statistics, statistics)
+
+        # Too many distinct values
+        statistics = json.loads(kab._compute_domain_statistics(rb, 1))
+        self.assertEqual(statistics["3"], {"values": None})
+
+        # Sinks that don't support statistics only get the offsets
+        self.assertEqual(kab._get_max_domain_values(DummyJavaDataSink("")), -1)
+
+    def test_compression(self):
+        class CompressingJavaDataSink(DummyJavaDataSink):
+            def __init__(self, file_path, codec):
+                super().__init__(file_path)
+                self.codec = codec
+
+            def getCompressionCodec(self):
+                return self.codec
+
+        file_path = os.path.join(tempfile.gettempdir(), "test_file.arrow")
+        for codec in ["lz4", "zstd", "none"]:
+            java_data_sink = CompressingJavaDataSink(file_path, codec)
+            try:
+                with kab.ArrowDataSink(java_data_sink) as sink:
+                    sink.write(_create_rb(10))
+                    sink.write(_create_rb(10))
+                with pa.ipc.open_file(file_path) as reader:
+                    self.assertEqual(reader.num_record_batches, 2)
+                    self.assertEqual(reader.get_batch(1), _create_rb(10))
+            finally:
+                os.remove(file_path)
+
+        # Sinks without a codec write uncompressed batches
+        self.assertIsNone(kab._get_compression_codec(DummyJavaDataSink(file_path)))
+
+    def test_reporting_batches_in_groups(self):
+        class GroupReportingJavaDataSink(DummyJavaDataSink):
+            def __init__(self, file_path):
+                super().__init__(file_path)
+                self.offsets = []
+
+            def reportBatchesWritten(self, offsets, statistics):
+                self.offsets.extend(offsets)
+                self.num_batches += len(offsets)
+
+        file_path = os.path.join(tempfile.gettempdir(), "test_file.arrow")
+        java_data_sink = GroupReportingJavaDataSink(file_path)
+        try:
+            with kab.ArrowDataSink(java_data_sink) as sink:
+                for _ in range(40):
+                    sink.write(_create_rb(10))
+            self.assertEqual(java_data_sink.num_batches, 40)
+            self.assertEqual(java_data_sink.finalSize, 400)
+            self.assertEqual(java_data_sink.offsets, sorted(java_data_sink.offsets))
+            with pa.ipc.open_file(file_path) as reader:
+                self.assertEqual(reader.num_record_batches, 40)
+        finally:
+            os.remove(file_path)
+
+    def test_writing_synchronously(self):
+        backup_queue_size = kab.WRITE_QUEUE_SIZE
+        kab.WRITE_QUEUE_SIZE = 0
+        try:
+            with _sink_with_tmp_file() as (sink, java_data_sink):
+                sink.write(_create_rb(10))
+                # Reported before write returns
+                self.assertEqual(java_data_sink.num_batches, 1)
+                sink.write(_create_rb(7))
+                self.assertEqual(java_data_sink.num_batches, 2)
+        finally:
+            kab.WRITE_QUEUE_SIZE = backup_queue_size
+
+    def test_written_bytes_are_deterministic(self):
+        # The tool result cache on the Java side fingerprints the written files
+        class Lz4JavaDataSink(DummyJavaDataSink):
+            def getCompressionCodec(self):  # NOSONAR
+                return "lz4"
+
+        def write(file_name, java_sink_type, queue_size):
+            file_path = os.path.join(tempfile.gettempdir(), file_name)
+            backup_queue_size = kab.WRITE_QUEUE_SIZE
+            kab.WRITE_QUEUE_SIZE = queue_size
+            try:
+                with kab.ArrowDataSink(java_sink_type(file_path)) as sink:
+                    for num_rows in [10, 7, 3]:
+                        sink.write(_create_rb(num_rows))
+                with open(file_path, "rb") as f:
+                    return f.read()
+            finally:
+                kab.WRITE_QUEUE_SIZE = backup_queue_size
+                os.remove(file_path)
+
+        for java_sink_type in [DummyJavaDataSink, Lz4JavaDataSink]:
+            with self.subTest(java_sink_type=java_sink_type.__name__):
+                asynchronous = write("test_file_1.arrow", java_sink_type, 2)
+                synchronous = write("test_file_2.arrow", java_sink_type, 0)
+                self.assertEqual(asynchronous, synchronous)
+                again = write("test_file_3.arrow", java_sink_type, 2)
+                self.assertEqual(asynchronous, again)
+
+    def test_writer_thread_lifecycle(self):
+        class ThreadRecordingJavaDataSink(DummyJavaDataSink):
+            def __init__(self, file_path):
+                super().__init__(file_path)
+                self.calls = []
+
+            def __getattribute__(self, name):
+                attribute = super().__getattribute__(name)
+                if name.startswith("_") or not callable(attribute):
+                    return attribute
+                calls = super().__getattribute__("calls")
+
+                def record_call(*args, **kwargs):
+                    calls.append((name, threading.current_thread()))
+                    return attribute(*args, **kwargs)
+
+                return record_call
+
+            def getMaxPossibleNominalDomainValues(self):
+                return -1
+
+            def getCompressionCodec(self):
+                return "none"
+
+        file_path = os.path.join(tempfile.gettempdir(), "test_file.arrow")
+        java_data_sink = ThreadRecordingJavaDataSink(file_path)
+        try:
+            sink = kab.ArrowDataSink(java_data_sink)
+            # No thread is started until the first batch is written
+            self.assertIsNone(sink._writer_thread)
+            for _ in range(5):
+                sink.write(_create_rb(10))
+            writer_thread = sink._writer_thread
+            self.assertTrue(writer_thread.is_alive())
+            sink.close()
+            self.assertFalse(writer_thread.is_alive())
+            # Only the calling thread talks to Java
+            self.assertEqual(java_data_sink.num_batches, 5)
+            called_methods = {name for name, _ in java_data_sink.calls}
+            self.assertIn("getCompressionCodec", called_methods)
+            self.assertIn("reportBatchWritten", called_methods)
+            self.assertIn("setFinalSize", called_methods)
+            self.assertEqual(
+                {thread for _, thread in java_data_sink.calls},
+                {threading.current_thread()},
+            )
+        finally:
+            os.remove(file_path)
+
+    def test_writer_errors_surface(self):
+        class FailingJavaDataSink(DummyJavaDataSink):
+            def reportBatchWritten(self, offset):
+                raise RuntimeError("Invalid batch")
+
+        # The error is raised by close if no further batch is written
+        file_path = os.path.join(tempfile.gettempdir(), "test_file.arrow")
+        sink = kab.ArrowDataSink(FailingJavaDataSink(file_path))
+        try:
+            sink.write(_create_rb(10))
+            self.assertRaises(RuntimeError, sink.close)
+            # Closing again does not raise the error twice
+            sink.close()
+        finally:
+            os.remove(file_path)
+
+        # Or by the next write
+        sink = kab.ArrowDataSink(FailingJavaDataSink(file_path))
+        try:
+            sink.write(_create_rb(10))
+            sink._writer_thread.join(timeout=0.1)
+            with self.assertRaises(RuntimeError):
+                for _ in range(10):
+                    sink.write(_create_rb(10))
+                    sink._writer_thread.join(timeout=0.1)
+            sink.close()
+        finally:
+            os.remove(file_path)
+
+
+
+class DummyJavaDataSource:
+    def __init__(self, file_path):
+        self.file_path = file_path
+
+    def getAbsolutePath(self):
+        return self.file_path
+
+    def isFooterWritten(self):
+        return True
+
+    def hasColumnNames(self):
+        return False
+
+
+class ArrowDataSourceTest(unittest.TestCase):
+    def setUp(self):
+        self._file_path = os.path.join(tempfile.gettempdir(), "test_source.arrow")
+        self._batches = [_create_rb(1000) for _ in range(5)]
+        with pa.ipc.new_file(self._file_path, self._batches[0].schema) as writer:
+            for batch in self._batches:
+                writer.write(batch)
+
+    def tearDown(self) -> None:
+        os.remove(self._file_path)
+
+    def test_prefetching_batches(self):
+        with kab.ArrowDataSource(DummyJavaDataSource(self._file_path)) as source:
+            self.assertEqual(list(source.batches(num_batches_ahead=0)), self._batches)
+            self.assertEqual(list(source.batches()), self._batches)
+            # A memory cap smaller than one batch still reads one batch ahead
+            self.assertEqual(
+                list(source.batches(num_batches_ahead=3, max_prefetch_bytes=1)),
+                self._batches,
+            )
+
+            # Stopping early stops the prefetching thread
+            batches = source.batches(num_batches_ahead=2)
+            self.assertEqual(next(batches), self._batches[0])
+            batches.close()
+
+    def test_prefetching_threads_are_stopped(self):
+        def prefetcher_threads():
+            return [
+                t
+                for t in threading.enumerate()
+                if t.name == "knime-arrow-prefetcher"
+            ]
+
+        with kab.ArrowDataSource(DummyJavaDataSource(self._file_path)) as source:
+            # No thread is started before the first batch is requested
+            batches = source.batches(num_batches_ahead=2)
+            self.assertEqual([], prefetcher_threads())
+            del batches
+
+            # Dropping a partially consumed generator stops the thread
+            batches = source.batches(num_batches_ahead=2)
+            self.assertEqual(next(batches), self._batches[0])
+            threads = prefetcher_threads()
+            self.assertEqual(1, len(threads))
+            del batches
+            gc.collect()
+            self.assertFalse(threads[0].is_alive())
+
+            batches = source.batches(num_batches_ahead=2)
+            self.assertEqual(next(batches), self._batches[0])
+            threads = prefetcher_threads()
+        # Closing the source stops the thread
+        self.assertFalse(threads[0].is_alive())
+        self.assertRaises(RuntimeError, lambda: next(batches))
+
+    def test_prefetching_surfaces_errors(self):
+        with kab.ArrowDataSource(DummyJavaDataSource(self._file_path)) as source:
+            get_batch = source._get_batch
+
+            def failing_get_batch(index):
+                if index == 2:
+                    raise RuntimeError("Reading failed")
+                return get_batch(index)
+
+            source._get_batch = failing_get_batch
+            batches = source.batches(num_batches_ahead=2)
+            self.assertEqual(next(batches), self._batches[0])
+            self.assertEqual(next(batches), self._batches[1])
+            self.assertRaises(RuntimeError, lambda: next(batches))
+
 
 if __name__ == "__main__":
     unittest.main()
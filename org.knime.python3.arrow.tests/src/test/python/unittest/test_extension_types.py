@@ -124,6 +124,53 @@ class TimeExtensionTypeTest(unittest.TestCase):
             OverflowError, factory.decode, nano_of_day=self._too_large_nanos
         )
 
+    def test_vectorized_decoding(self):
+        import pyarrow as pa
+
+        day_nano = pa.struct([("0", pa.int64()), ("1", pa.int64())])
+        second_nano = pa.struct([("0", pa.int64()), ("1", pa.int32())])
+        cases = [
+            (et.LocalDateValueFactory(), pa.array([0, -1, 19000, None], pa.int64())),
+            (
+                et.LocalTimeValueFactory(),
+                pa.array([0, 1_999, 86_399_999_999_999, None], pa.int64()),
+            ),
+            (
+                et.LocalDateTimeValueFactory(),
+                pa.array(
+                    [{"0": 0, "1": 1_999}, {"0": -365, "1": 3_600_000_000_000}, None],
+                    day_nano,
+                ),
+            ),
+            (
+                et.DurationValueFactory(),
+                pa.array(
+                    [{"0": 3, "1": 1_999}, {"0": -86_400, "1": 500_000_000}, None],
+                    second_nano,
+                ),
+            ),
+        ]
+        for factory, storage in cases:
+            with self.subTest(factory=type(factory).__name__):
+                decoded = factory.decode_array(storage)
+                self.assertIsNotNone(decoded)
+                self.assertEqual(
+                    [factory.decode(v) for v in storage.to_pylist()],
+                    decoded.to_pylist(),
+                )
+
+        # values that cannot be represented are left to the per value decoding
+        self.assertIsNone(
+            et.LocalDateValueFactory().decode_array(
+                pa.array([self._too_large_days], pa.int64())
+            )
+        )
+        self.assertIsNone(
+            et.DurationValueFactory().decode_array(
+                pa.array([{"0": 2**62, "1": 0}], second_nano)
+            )
+        )
+
     def test_passing_arrow_time_types_to_knime(self):
         import pyarrow as pa
 
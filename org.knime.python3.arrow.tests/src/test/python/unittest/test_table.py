@@ -7,6 +7,7 @@ import knime_schema as ks
 from knime.api.schema import _ColumnSlicingOperation
 import knime.api.table as kt
 import knime._arrow._table as kat
+import knime._arrow._types as katy
 
 
 class TableTest(unittest.TestCase):
@@ -322,6 +323,103 @@ class ArrowTableTest:
 
         pd.testing.assert_frame_equal(data, data2)
 
+    def test_lazy_to_pandas(self, file_name, is_empty):
+        table = self._generate_test_table(file_name)
+        data = table.to_pandas()
+        lazy_data = table.to_pandas(lazy=True)
+        assert lazy_data.shape == data.shape
+        assert list(lazy_data.columns) == list(data.columns)
+        pd.testing.assert_index_equal(lazy_data.index, data.index)
+        pd.testing.assert_series_equal(lazy_data["IntCol"], data["IntCol"])
+        # accessing single columns does not convert the complete table
+        assert lazy_data._data_frame is None
+
+        assert lazy_data.head(2).shape == data.head(2).shape
+        pd.testing.assert_frame_equal(lazy_data.to_pandas(), data)
+
+    def test_pyarrow_dtype_backend(self, file_name, is_empty):
+        if not hasattr(pd, "ArrowDtype"):
+            pytest.skip("pandas.ArrowDtype requires pandas 1.5")
+        table = self._generate_test_table(file_name)
+        data = table.to_pandas(dtype_backend="pyarrow")
+        assert isinstance(data["IntCol"].dtype, pd.ArrowDtype)
+        assert isinstance(data["StringCol"].dtype, pd.ArrowDtype)
+        other = kt.Table.from_pandas(data)
+        assert other.column_names == table.column_names
+
+        # DataFrames with only Arrow backed columns are used without conversion
+        arrow_backed = kt.Table.from_pandas(data[["IntCol", "StringCol"]])
+        assert arrow_backed.to_pyarrow().equals(
+            table[["IntCol", "StringCol"]].to_pyarrow()
+        )
+
+        with pytest.raises(ValueError):
+            table.to_pandas(dtype_backend="numpy")
+
+    def test_to_from_polars(self, file_name, is_empty):
+        pl = pytest.importorskip("polars")
+        table = self._generate_test_table(file_name)[["IntCol", "StringCol"]]
+        data = table.to_polars()
+        assert data.columns == ["<RowID>", "IntCol", "StringCol"]
+        assert data.height == table.num_rows
+
+        lazy_data = table.to_polars(lazy=True)
+        assert isinstance(lazy_data, pl.LazyFrame)
+        assert lazy_data.select("IntCol").collect().height == table.num_rows
+
+        other = kt.Table.from_polars(data)
+        assert other.column_names == table.column_names
+        assert other.to_pyarrow().equals(table.to_pyarrow())
+
+    def test_to_polars_extension_types(self, file_name, is_empty):
+        pl = pytest.importorskip("polars")
+        table = self._generate_test_table(file_name)[
+            ["TimestampCol", "TimestampListCol", "StringSetCol", "URICol"]
+        ]
+        data = table.to_polars()
+        assert data.columns == ["<RowID>"] + list(table.column_names)
+        assert data.height == table.num_rows
+
+        lazy_data = table.to_polars(lazy=True)
+        assert isinstance(lazy_data, pl.LazyFrame)
+        assert lazy_data.collect().height == table.num_rows
+
+    def test_to_duckdb_relation(self, file_name, is_empty):
+        duckdb = pytest.importorskip("duckdb")
+        table = self._generate_test_table(file_name)[["IntCol", "StringCol"]]
+        relation = table.to_duckdb_relation()
+        assert relation.columns == ["<RowID>", "IntCol", "StringCol"]
+        assert relation.aggregate("count(*)").fetchone()[0] == table.num_rows
+
+        with duckdb.connect() as connection:
+            relation = table.to_duckdb_relation(connection=connection)
+            assert relation.aggregate("count(*)").fetchone()[0] == table.num_rows
+
+        table = self._generate_test_table(file_name)[["TimestampCol", "URICol"]]
+        relation = table.to_duckdb_relation()
+        assert relation.aggregate("count(*)").fetchone()[0] == table.num_rows
+
+    def test_to_polars_and_duckdb_stream_batches(self, file_name, is_empty):
+        pl = pytest.importorskip("polars")
+        pytest.importorskip("duckdb")
+        table = self._generate_test_table(file_name)
+        reader = table._to_native_batch_reader(None)
+        assert isinstance(reader, pa.RecordBatchReader)
+        assert sum(batch.num_rows for batch in reader) == table.num_rows
+
+        data = table.to_polars()
+        assert data.height == table.num_rows
+        if not is_empty:
+            # decoded by the vectorized decoders of the value factories
+            assert data.schema["Local Date"] == pl.Date
+            assert data.schema["Local Time"] == pl.Time
+
+        lazy_data = table.to_polars(lazy=True)
+        assert lazy_data.select("IntCol").collect().height == table.num_rows
+
+        relation = table.to_duckdb_relation()
+        assert relation.aggregate("count(*)").fetchone()[0] == table.num_rows
+
     def test_to_batches(self, file_name, is_empty):
         table = self._generate_test_table(file_name)
         batches = list(table.to_batches())
@@ -336,6 +434,13 @@ class ArrowTableTest:
         assert isinstance(batches[0], kt.Table)
         assert table.num_columns == batches[0].num_columns
 
+        prefetched = list(table.batches(num_batches_ahead=2))
+        assert [b.to_pyarrow() for b in prefetched] == [
+            b.to_pyarrow() for b in batches
+        ]
+        with pytest.raises(ValueError):
+            next(table.batches(num_batches_ahead=-1))
+
     def test_schema(self, file_name, is_empty):
         table = self._generate_test_table(file_name)
         schema = table.schema
@@ -532,6 +637,66 @@ class ArrowTableTest:
         with pytest.raises(ValueError):
             kt.Table.from_pyarrow(_create_pyarrow_table([10, 10, 12]))
 
+    def test_split_table_by_bytes(self, file_name, is_empty):
+        def _create_pyarrow_table(batch_sizes, value=0):
+            return pa.Table.from_batches(
+                [
+                    pa.record_batch(data=[pa.array([value] * size)], names=["data"])
+                    for size in batch_sizes
+                ]
+            )
+
+        arrow_table = kat.ArrowTable(_create_pyarrow_table([10, 10, 7]))
+
+        # Narrow tables are merged into a single batch
+        batches = arrow_table._split_table(arrow_table._table)
+        assert [len(b) for b in batches] == [27]
+
+        # Wide tables are split such that each batch has about the target size
+        wide_table = _create_pyarrow_table([10, 10, 7], value=b"x" * 1000)
+        arrow_table._MAX_NUM_BYTES_PER_BATCH = wide_table.nbytes // 4
+        batches = arrow_table._split_table(wide_table)
+        assert [len(b) for b in batches] == [6, 6, 6, 6, 3]
+        assert pa.Table.from_batches(batches).equals(wide_table)
+
+        # Chunks that line up with the batches are not copied
+        arrow_table._MAX_NUM_BYTES_PER_BATCH = wide_table.nbytes * 10 // 27 + 1
+        batches = arrow_table._split_table(wide_table)
+        assert [len(b) for b in batches] == [10, 10, 7]
+
+        # Struct dict encoded columns are encoded anew for each batch
+        values = [f"value{i % 4}" for i in range(27)]
+        dict_table = katy.wrap_primitive_arrays(
+            pa.Table.from_batches(
+                [
+                    pa.record_batch(
+                        [
+                            pa.array([b"x" * 1000] * size),
+                            pa.array(values[start : start + size]).dictionary_encode(),
+                        ],
+                        names=["data", "dict"],
+                    )
+                    for start, size in [(0, 10), (10, 10), (20, 7)]
+                ]
+            )
+        )
+        assert katy.is_dict_encoded_value_factory_type(dict_table.schema[1].type)
+        arrow_table._MAX_NUM_BYTES_PER_BATCH = dict_table.nbytes // 4
+        batches = arrow_table._split_table(dict_table)
+        assert [len(b) for b in batches] != [10, 10, 7]
+        offset = 0
+        for batch in batches:
+            # KNIME decodes each batch on its own
+            decoded = katy.unwrap_primitive_arrays(pa.Table.from_batches([batch]))
+            assert decoded[1].to_pylist() == values[offset : offset + len(batch)]
+            offset += len(batch)
+        assert offset == len(values)
+
+        # Chunks that are not encoded on their own are kept as batches
+        sliced_table = dict_table.slice(3)
+        batches = arrow_table._split_table(sliced_table)
+        assert [len(b) for b in batches] == [7, 10, 7]
+
 
 class BatchOutputTableTest(unittest.TestCase):
     @classmethod
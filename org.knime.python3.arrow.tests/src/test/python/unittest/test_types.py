@@ -109,6 +109,76 @@ class PandasToPyArrowConversionTest(unittest.TestCase):
         self.assertEqual(df["missing"].to_list(), read_t[1].to_pylist())
         self.assertEqual(df["strings"].to_list(), read_t[2].to_pylist())
 
+    def test_dictionary_type_wrapping_save_load(self):
+        df = pd.DataFrame(
+            {
+                "RowKey": ["Row1", "Row2", "Row3", "Row4", "Row5"],
+                "categories": pd.Categorical(["b", "a", None, "b", "a"]),
+            }
+        )
+        raw_t = pa.Table.from_pandas(df)
+        self.assertIsInstance(raw_t.schema[1].type, pa.DictionaryType)
+        wrapped_t = katy.wrap_primitive_arrays(raw_t)
+        self.assertTrue(
+            katy.is_dict_encoded_value_factory_type(wrapped_t.schema[1].type)
+        )
+        storage = wrapped_t[1].chunk(0).storage
+        self.assertEqual([1, 0, None, 1, 0], storage.field(0).to_pylist())
+        self.assertEqual(["b", "a", None, None, None], storage.field(1).to_pylist())
+
+        read_t = _read_write_ipc(wrapped_t)
+        self.assertEqual(
+            ["b", "a", None, "b", "a"],
+            read_t[1].chunk(0).dictionary_decode().to_pylist(),
+        )
+
+        # dictionary encoded strings are only kept if explicitly requested
+        unwrapped_t = katy.unwrap_primitive_arrays(read_t)
+        self.assertNotIsInstance(unwrapped_t.schema[1].type, pa.DictionaryType)
+
+        unwrapped_t = katy.unwrap_primitive_arrays(read_t, preserve_dictionary=True)
+        self.assertIsInstance(unwrapped_t.schema[1].type, pa.DictionaryType)
+        self.assertEqual(["b", "a", None, "b", "a"], unwrapped_t[1].to_pylist())
+
+    def test_dictionary_type_written_in_multiple_batches(self):
+        import knime._arrow._table as kat
+
+        values = ["b", "a", None, "c", "b", "a", "c", "a", "b", "c", "a", "b"]
+        df = pd.DataFrame(
+            {
+                "RowKey": [f"Row{i}" for i in range(len(values))],
+                "categories": pd.Categorical(values),
+            }
+        )
+        # two chunks that don't line up with the batches that are written
+        raw_t = pa.concat_tables(
+            [
+                pa.Table.from_pandas(df.iloc[:5], preserve_index=False),
+                pa.Table.from_pandas(df.iloc[5:], preserve_index=False),
+            ]
+        )
+        wrapped_t = katy.wrap_primitive_arrays(raw_t)
+        table = kat.ArrowTable(wrapped_t)
+        table._MAX_NUM_BYTES_PER_BATCH = wrapped_t.nbytes // 4
+        batches = table._split_table(wrapped_t)
+        self.assertGreater(len(batches), 2)
+        self.assertNotEqual([5, 7], [len(b) for b in batches])
+
+        # KNIME decodes each batch on its own
+        offset = 0
+        for batch in batches:
+            read_t = _read_write_ipc(pa.Table.from_batches([batch]))
+            unwrapped_t = katy.unwrap_primitive_arrays(read_t, preserve_dictionary=True)
+            self.assertIsInstance(unwrapped_t.schema[1].type, pa.DictionaryType)
+            self.assertEqual(
+                values[offset : offset + len(batch)], unwrapped_t[1].to_pylist()
+            )
+            offset += len(batch)
+        self.assertEqual(len(values), offset)
+
+        read_t = _read_write_ipc(pa.Table.from_batches(batches))
+        self.assertEqual(values, katy.unwrap_primitive_arrays(read_t)[1].to_pylist())
+
 
 def _read_write_ipc(input_table):
     with tempfile.TemporaryFile() as tmpfile:
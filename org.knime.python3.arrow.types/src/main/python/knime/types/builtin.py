@@ -61,6 +61,31 @@ import knime._arrow._pandas as kap
 _start_of_epoch = dt.datetime(1970, 1, 1)
 _microsecond_delta = dt.timedelta(microseconds=1)
 _second_delta = dt.timedelta(seconds=1)
+_micros_per_day = 24 * 60 * 60 * 1000 * 1000
+_nanos_per_day = _micros_per_day * 1000
+_min_day_of_epoch = (dt.date.min - _start_of_epoch.date()).days
+_max_day_of_epoch = (dt.date.max - _start_of_epoch.date()).days
+
+
+def _is_in_range(array, min_value, max_value):
+    import pyarrow.compute as pc
+
+    min_max = pc.min_max(array)
+    return min_max["min"].as_py() is None or (
+        min_max["min"].as_py() >= min_value and min_max["max"].as_py() <= max_value
+    )
+
+
+def _integer_fields(storage):
+    """The fields of a struct storage with two integer fields as int64 arrays"""
+    import pyarrow as pa
+
+    if not pa.types.is_struct(storage.type) or storage.type.num_fields != 2:
+        return None
+    fields = storage.flatten()
+    if not all(pa.types.is_integer(f.type) for f in fields):
+        return None
+    return [f.cast(pa.int64()) for f in fields]
 
 
 def _before_or_after(value):
@@ -240,6 +265,24 @@ class LocalDateTimeValueFactory(kt.PythonValueFactory):
                     f"the data range only allows dates from {dt.date.min} to {dt.date.max}"
                 ) from None
 
+    def decode_array(self, storage):
+        import pyarrow as pa
+        import pyarrow.compute as pc
+
+        fields = _integer_fields(storage)
+        if fields is None:
+            return None
+        day_of_epoch, nano_of_day = fields
+        if not _is_in_range(
+            day_of_epoch, _min_day_of_epoch, _max_day_of_epoch
+        ) or not _is_in_range(nano_of_day, 0, _nanos_per_day - 1):
+            # decode() raises a meaningful error for these values
+            return None
+        micros = pc.add(
+            pc.multiply(day_of_epoch, _micros_per_day), pc.divide(nano_of_day, 1000)
+        )
+        return micros.cast(pa.timestamp("us"))
+
     def encode(self, datetime):
         if datetime is None:
             return None
@@ -281,6 +324,23 @@ class DurationValueFactory(kt.PythonValueFactory):
                     f"the data range only allows dates from {dt.date.min} to {dt.date.max}"
                 ) from None
 
+    def decode_array(self, storage):
+        import pyarrow as pa
+        import pyarrow.compute as pc
+
+        fields = _integer_fields(storage)
+        if fields is None:
+            return None
+        seconds, nanos = fields
+        try:
+            micros = pc.add_checked(
+                pc.multiply_checked(seconds, 1000 * 1000), pc.divide(nanos, 1000)
+            )
+        except pa.ArrowInvalid:
+            # the duration does not fit into microseconds, decode() handles it
+            return None
+        return micros.cast(pa.duration("us"))
+
     def encode(self, value):
         if value is None:
             return None
@@ -315,6 +375,15 @@ class LocalDateValueFactory(kt.PythonValueFactory):
                     f"the data range only allows dates from {dt.date.min} to {dt.date.max}"
                 ) from None
 
+    def decode_array(self, storage):
+        import pyarrow as pa
+
+        if not pa.types.is_integer(storage.type) or not _is_in_range(
+            storage, _min_day_of_epoch, _max_day_of_epoch
+        ):
+            return None
+        return storage.cast(pa.int32()).cast(pa.date32())
+
     def encode(self, date):
         if date is None:
             return None
@@ -346,6 +415,16 @@ class LocalTimeValueFactory(kt.PythonValueFactory):
                     f" {dt.date.min} to {dt.date.max}"
                 ) from None
 
+    def decode_array(self, storage):
+        import pyarrow as pa
+        import pyarrow.compute as pc
+
+        if not pa.types.is_integer(storage.type) or not _is_in_range(
+            storage, 0, _nanos_per_day - 1
+        ):
+            return None
+        return pc.divide(storage.cast(pa.int64()), 1000).cast(pa.time64("us"))
+
     def encode(self, time):
         if time is None:
             return None
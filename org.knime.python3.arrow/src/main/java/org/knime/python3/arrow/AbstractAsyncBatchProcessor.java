@@ -95,7 +95,8 @@ protected AbstractAsyncBatchProcessor(final Supplier<SequentialBatchReadable> ba
     }
 
     /**
-     * Called when the reader is lazily initialized when the first batch has arrived.
+     * Called when the reader is lazily initialized when the first batch has arrived. Called before
+     * {@link #initReaderFromReadable(SequentialBatchReadable)}.
      */
     protected void lazyInit() {
     }
@@ -104,6 +105,14 @@ protected SequentialBatchReader initReaderFromReadable(final SequentialBatchRead
         return readable.createSequentialReader();
     }
 
+    /**
+     * @return whether the batches need to be read and given to {@link #processNextBatchImpl(ReadBatch)}. Only called
+     *         after {@link #lazyInit()}.
+     */
+    protected boolean isBatchReadRequired() {
+        return true;
+    }
+
     /**
      * This method is invoked for each batch, potentially in parallel for multiple batches. Should be implemented by
      * derived classes to perform the actual work.
@@ -119,10 +128,10 @@ protected SequentialBatchReader initReaderFromReadable(final SequentialBatchRead
 
     private synchronized void initReader() {
         if (m_reader == null) {
+            lazyInit();
+
             m_readable = m_batchReadableSupplier.get();
             m_reader = initReaderFromReadable(m_readable);
-
-            lazyInit();
         }
     }
 
@@ -151,6 +160,9 @@ private void asyncProcessNextBatch() {
             if (m_reader == null) {
                 initReader();
             }
+            if (!isBatchReadRequired()) {
+                return;
+            }
 
             // Read the next batch in a synchronized block, otherwise two threads might actually do that at the
             // same time and both receive the same batch.
@@ -0,0 +1,276 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python3.arrow;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.knime.core.columnar.arrow.ArrowColumnStoreFactory;
+import org.knime.core.columnar.arrow.PathBackedFileHandle;
+import org.knime.core.columnar.batch.RandomAccessBatchReader;
+import org.knime.core.columnar.batch.ReadBatch;
+import org.knime.core.columnar.filter.ColumnSelection;
+import org.knime.core.columnar.filter.DefaultColumnSelection;
+import org.knime.core.columnar.store.BatchReadStore;
+import org.knime.core.columnar.store.FileHandle;
+import org.knime.core.table.schema.ColumnarSchema;
+
+/**
+ * A {@link BatchReadStore} that provides the batches of multiple Arrow files written by Python as one virtual
+ * concatenation. The batches are not copied when the store is created. The files are only merged into one file at
+ * {@link #getFileHandle()} when the store is {@link #flush() flushed}, which happens before the table is saved.
+ *
+ * KNIME maps row indices to batches assuming that all batches but the last one have {@link #batchLength()} rows. The
+ * store can only back a table if the files satisfy this together, see
+ * {@link #hasUniformBatchLength(List, ArrowColumnStoreFactory)}. Otherwise it may only be read batch by batch.
+ */
+final class ConcatenatedBatchReadStore implements BatchReadStore, Flushable {
+
+    private final List<BatchReadStore> m_stores;
+
+    private final List<Path> m_paths;
+
+    /** The global index of the first batch of each store, followed by the total number of batches */
+    private final int[] m_firstBatchIndices;
+
+    private final ArrowColumnStoreFactory m_storeFactory;
+
+    private final PathBackedFileHandle m_mergedFile;
+
+    private final boolean m_deletePartsOnClose;
+
+    private boolean m_flushed;
+
+    private boolean m_closed;
+
+    /**
+     * Open the given Arrow files and provide their batches as one store.
+     *
+     * @param paths the Arrow files in the order of concatenation. All files must have the same schema and must have a
+     *            footer.
+     * @param storeFactory used to open the files and to write the merged file
+     * @param mergedFile the file the batches of all files are written to on {@link #flush()}
+     * @param deletePartsOnClose if the files at paths should be deleted when this store is closed
+     */
+    @SuppressWarnings("resource") // the stores are closed in #close
+    ConcatenatedBatchReadStore(final List<Path> paths, final ArrowColumnStoreFactory storeFactory,
+        final Path mergedFile, final boolean deletePartsOnClose) {
+        m_paths = List.copyOf(paths);
+        m_stores = m_paths.stream().map(storeFactory::createReadStore).map(BatchReadStore.class::cast).toList();
+        m_firstBatchIndices = new int[m_stores.size() + 1];
+        for (int i = 0; i < m_stores.size(); i++) { // NOSONAR
+            m_firstBatchIndices[i + 1] = m_firstBatchIndices[i] + m_stores.get(i).numBatches();
+        }
+        m_storeFactory = storeFactory;
+        m_mergedFile = new PathBackedFileHandle(mergedFile);
+        m_deletePartsOnClose = deletePartsOnClose;
+    }
+
+    @Override
+    public ColumnarSchema getSchema() {
+        return m_stores.get(0).getSchema();
+    }
+
+    @Override
+    public RandomAccessBatchReader createRandomAccessReader(final ColumnSelection selection) {
+        return new ConcatenatedBatchReader(selection);
+    }
+
+    @Override
+    public int numBatches() {
+        return m_firstBatchIndices[m_stores.size()];
+    }
+
+    @Override
+    public int batchLength() {
+        return m_stores.isEmpty() ? 0 : m_stores.get(0).batchLength();
+    }
+
+    /**
+     * Checks whether the concatenation of the given files has the same batch length in all batches but the last one.
+     * This is the case if all files have the same batch length and the last batch of every file but the last one is
+     * full, i.e. if the same chunk size has been used for all files and only the last file has a short tail batch.
+     *
+     * @param paths the Arrow files in the order of concatenation, all must have a footer
+     * @param storeFactory used to open the files
+     * @return {@code true} if the row indices of the concatenation map to batches like in a single file
+     * @throws IOException if a file cannot be read
+     */
+    static boolean hasUniformBatchLength(final List<Path> paths, final ArrowColumnStoreFactory storeFactory)
+        throws IOException {
+        var batchLength = -1;
+        for (int i = 0; i < paths.size(); i++) { // NOSONAR
+            try (final var store = storeFactory.createReadStore(paths.get(i))) {
+                final var numBatches = store.numBatches();
+                if (numBatches == 0) {
+                    continue;
+                }
+                if (batchLength == -1) {
+                    batchLength = store.batchLength();
+                }
+                final var isLast = i == paths.size() - 1;
+                if (isLast) {
+                    // a last file with a single batch may be shorter, its batch is the last batch of the table
+                    if (numBatches > 1 ? store.batchLength() != batchLength : store.batchLength() > batchLength) {
+                        return false;
+                    }
+                } else if (store.batchLength() != batchLength || lastBatchLength(store) != batchLength) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static int lastBatchLength(final BatchReadStore store) throws IOException {
+        try (final var reader =
+            store.createRandomAccessReader(new DefaultColumnSelection(store.getSchema().numColumns()))) {
+            final var batch = reader.readRetained(store.numBatches() - 1);
+            try {
+                return batch.length();
+            } finally {
+                batch.release();
+            }
+        }
+    }
+
+    @Override
+    public FileHandle getFileHandle() {
+        return m_mergedFile;
+    }
+
+    /**
+     * Writes the batches of all files to the merged file. Does nothing if the store has been flushed before.
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        if (m_flushed) {
+            return;
+        }
+        try (final var writeStore = m_storeFactory.createStore(getSchema(), m_mergedFile);
+                final var reader = createRandomAccessReader(new DefaultColumnSelection(getSchema().numColumns()))) {
+            final var writer = writeStore.getWriter();
+            for (int i = 0; i < numBatches(); i++) { // NOSONAR
+                final ReadBatch batch = reader.readRetained(i);
+                try {
+                    writer.write(batch);
+                } finally {
+                    batch.release();
+                }
+            }
+        }
+        m_flushed = true;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (m_closed) {
+            return;
+        }
+        m_closed = true;
+        for (final var store : m_stores) {
+            store.close();
+        }
+        if (m_deletePartsOnClose) {
+            for (final var path : m_paths) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private final class ConcatenatedBatchReader implements RandomAccessBatchReader {
+
+        private final RandomAccessBatchReader[] m_readers;
+
+        private final ColumnSelection m_selection;
+
+        private ConcatenatedBatchReader(final ColumnSelection selection) {
+            m_readers = new RandomAccessBatchReader[m_stores.size()];
+            m_selection = selection;
+        }
+
+        @Override
+        public ReadBatch readRetained(final int index) throws IOException {
+            if (index < 0 || index >= numBatches()) {
+                throw new IndexOutOfBoundsException(
+                    String.format("Batch index %d out of bounds for %d batches.", index, numBatches()));
+            }
+            // binarySearch returns the position of the store that starts at index or (-insertionPoint - 1)
+            var storeIdx = Arrays.binarySearch(m_firstBatchIndices, index);
+            if (storeIdx < 0) {
+                storeIdx = -storeIdx - 2;
+            }
+            // Skip stores without batches that start at the same index
+            while (m_firstBatchIndices[storeIdx + 1] <= index) {
+                storeIdx++;
+            }
+            return getReader(storeIdx).readRetained(index - m_firstBatchIndices[storeIdx]);
+        }
+
+        private synchronized RandomAccessBatchReader getReader(final int storeIdx) {
+            if (m_readers[storeIdx] == null) {
+                m_readers[storeIdx] = m_stores.get(storeIdx).createRandomAccessReader(m_selection);
+            }
+            return m_readers[storeIdx];
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            for (final var reader : m_readers) {
+                if (reader != null) {
+                    reader.close();
+                }
+            }
+        }
+    }
+}
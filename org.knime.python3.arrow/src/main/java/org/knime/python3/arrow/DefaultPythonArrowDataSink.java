@@ -51,8 +51,10 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.knime.core.columnar.store.BatchReadStore;
+import org.knime.core.node.NodeLogger;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.table.schema.ColumnarSchema;
 import org.knime.python3.PythonException;
@@ -65,6 +67,20 @@
  */
 public final class DefaultPythonArrowDataSink implements PythonArrowDataSink {
 
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DefaultPythonArrowDataSink.class);
+
+    /**
+     * System property to choose the codec that Python uses to compress the tables it writes. One of "none" (the
+     * default) or "lz4" (LZ4 frame, like the tables written by KNIME). Other codecs are not accepted because the Java
+     * readers can only decompress LZ4.
+     */
+    static final String COMPRESSION_CODEC_PROPERTY = "knime.python.arrow.compression";
+
+    private static final String DEFAULT_COMPRESSION_CODEC = "none";
+
+    /** The codecs that can be chosen with {@link #COMPRESSION_CODEC_PROPERTY} */
+    static final Set<String> COMPRESSION_CODECS = Set.of("lz4", "none");
+
     private final Path m_path;
 
     private final List<Long> m_recordBatchOffsets;
@@ -75,10 +91,15 @@ public final class DefaultPythonArrowDataSink implements PythonArrowDataSink {
 
     private List<BatchListener> m_batchListeners;
 
+    private DomainStatistics m_domainStatistics;
+
+    private String m_compressionCodec;
+
     DefaultPythonArrowDataSink(final Path path) {
         m_path = path;
         m_recordBatchOffsets = new ArrayList<>();
         m_batchListeners = new ArrayList<>();
+        m_compressionCodec = getConfiguredCompressionCodec();
     }
 
     @Override
@@ -94,6 +115,57 @@ public void reportBatchWritten(final long offset) throws Exception {
         }
     }
 
+    @Override
+    public void reportBatchWrittenWithStatistics(final long offset, final String statistics) throws Exception {
+        if (m_domainStatistics != null) {
+            m_domainStatistics.merge(statistics);
+        }
+        reportBatchWritten(offset);
+    }
+
+    @Override
+    public int getMaxPossibleNominalDomainValues() {
+        return m_domainStatistics == null ? -1 : m_domainStatistics.getMaxPossibleValues();
+    }
+
+    /**
+     * Let Python compute domain statistics for each batch. Must be called before the sink is given to Python.
+     *
+     * @param maxPossibleValues the maximum number of possible values of string columns
+     * @return the statistics that are merged for each reported batch
+     */
+    DomainStatistics enableDomainStatistics(final int maxPossibleValues) {
+        m_domainStatistics = new DomainStatistics(maxPossibleValues);
+        return m_domainStatistics;
+    }
+
+    private static String getConfiguredCompressionCodec() {
+        final var codec = System.getProperty(COMPRESSION_CODEC_PROPERTY, DEFAULT_COMPRESSION_CODEC);
+        if (!COMPRESSION_CODECS.contains(codec)) {
+            LOGGER.errorWithFormat("Unknown compression codec '%s' for Python tables. Must be one of %s. Using %s.",
+                codec, COMPRESSION_CODECS, DEFAULT_COMPRESSION_CODEC);
+            return DEFAULT_COMPRESSION_CODEC;
+        }
+        return codec;
+    }
+
+    /**
+     * Overwrite the codec that was configured by {@link #COMPRESSION_CODEC_PROPERTY} when the sink was created. Must
+     * be called before the sink is given to Python.
+     *
+     * @param codec one of {@link #COMPRESSION_CODECS}
+     */
+    void setCompressionCodec(final String codec) {
+        CheckUtils.checkArgument(COMPRESSION_CODECS.contains(codec),
+            "Unknown compression codec '%s'. Must be one of %s.", codec, COMPRESSION_CODECS);
+        m_compressionCodec = codec;
+    }
+
+    @Override
+    public String getCompressionCodec() {
+        return m_compressionCodec;
+    }
+
     @Override
     public void setColumnarSchema(final ColumnarSchema schema) {
         m_schema = schema;
@@ -48,6 +48,7 @@
  */
 package org.knime.python3.arrow;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -55,7 +56,9 @@
 import org.knime.core.columnar.batch.RandomAccessBatchReadable;
 import org.knime.core.columnar.batch.ReadBatch;
 import org.knime.core.columnar.batch.SequentialBatchReadable;
+import org.knime.core.columnar.batch.SequentialBatchReader;
 import org.knime.core.columnar.data.NullableReadData;
+import org.knime.core.columnar.filter.FilteredColumnSelection;
 import org.knime.core.data.DataColumnDomain;
 import org.knime.core.data.columnar.domain.ColumnarDomainCalculator;
 import org.knime.core.data.columnar.domain.DomainWritableConfig;
@@ -79,6 +82,8 @@ final class DomainCalculator extends AbstractAsyncBatchProcessor {
 
     private Map<Integer, ColumnarDomainCalculator<? extends NullableReadData, DataColumnMetaData[]>> m_metadataCalculators;
 
+    private final DomainStatistics m_statistics;
+
     /**
      * Create a new DomainCalculator that will get the batches from the {@link SequentialBatchReadable} supplied
      * by the given {@link Supplier}. The {@link Supplier} is called when the first batch is checked.
@@ -91,7 +96,23 @@ final class DomainCalculator extends AbstractAsyncBatchProcessor {
      */
     public static DomainCalculator fromSequentialReadable(final Supplier<SequentialBatchReadable> batchReadableSupplier,
         final Supplier<DomainWritableConfig> configSupplier) {
-        return new DomainCalculator(batchReadableSupplier, configSupplier);
+        return new DomainCalculator(batchReadableSupplier, configSupplier, null);
+    }
+
+    /**
+     * Create a new DomainCalculator like {@link #fromSequentialReadable(Supplier, Supplier)} that takes the domains of
+     * the columns covered by the given {@link DomainStatistics} from the statistics instead of reading the batches.
+     *
+     * @param batchReadableSupplier a {@link Supplier} for the {@link SequentialBatchReadable}. Only called once and the
+     *            {@link SequentialBatchReadable} is closed with DomainCalculator#close().
+     * @param configSupplier A {@link Supplier} for the {@link DomainWritableConfig} specifying which domains should be
+     *            calculated and how. Must initialize the covered columns of the statistics.
+     * @param statistics the statistics that Python computed while writing the batches
+     * @return A DomainCalculator that calculates domains of the columns in the {@link SequentialBatchReadable}.
+     */
+    public static DomainCalculator fromSequentialReadable(final Supplier<SequentialBatchReadable> batchReadableSupplier,
+        final Supplier<DomainWritableConfig> configSupplier, final DomainStatistics statistics) {
+        return new DomainCalculator(batchReadableSupplier, configSupplier, statistics);
     }
 
     /**
@@ -114,16 +135,36 @@ public static DomainCalculator fromRandomAccessReadable(
     }
 
     private DomainCalculator(final Supplier<SequentialBatchReadable> batchReadableSupplier,
-        final Supplier<DomainWritableConfig> configSupplier) {
+        final Supplier<DomainWritableConfig> configSupplier, final DomainStatistics statistics) {
         super(batchReadableSupplier, NUM_THREADS, "python-domain-batch-processor");
         m_configSupplier = configSupplier;
+        m_statistics = statistics;
     }
 
     @Override
     protected void lazyInit() {
         final var config = m_configSupplier.get();
-        m_domainCalculators = config.createDomainCalculators();
-        m_metadataCalculators = config.createMetadataCalculators();
+        m_domainCalculators = new HashMap<>(config.createDomainCalculators());
+        m_metadataCalculators = new HashMap<>(config.createMetadataCalculators());
+        if (m_statistics != null) {
+            // The domains of these columns are merged from the statistics of Python. Their metadata (e.g. of
+            // extension types) is not part of the statistics and still computed from the batches.
+            m_domainCalculators.keySet().removeAll(m_statistics.getCoveredColumns());
+        }
+    }
+
+    @Override
+    protected SequentialBatchReader initReaderFromReadable(final SequentialBatchReadable readable) {
+        // Only read the columns that still need a calculator
+        final int[] columns = Stream
+            .concat(m_domainCalculators.keySet().stream(), m_metadataCalculators.keySet().stream())
+            .mapToInt(Integer::intValue).distinct().sorted().toArray();
+        return readable.createSequentialReader(new FilteredColumnSelection(readable.getSchema().numColumns(), columns));
+    }
+
+    @Override
+    protected boolean isBatchReadRequired() {
+        return !m_domainCalculators.isEmpty() || !m_metadataCalculators.isEmpty();
     }
 
     @SuppressWarnings("unchecked")
@@ -190,6 +231,9 @@ public DataColumnMetaData[] getMetadata(final int colIndex) {
     }
 
     private DataColumnDomain getDomainDontWait(final int colIndex) {
+        if (m_statistics != null && m_statistics.getCoveredColumns().contains(colIndex)) {
+            return m_statistics.createDomain(colIndex);
+        }
         if (m_domainCalculators != null) {
             final ColumnarDomainCalculator<?, DataColumnDomain> calculator = m_domainCalculators.get(colIndex);
             if (calculator != null) {
@@ -0,0 +1,233 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python3.arrow;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnDomain;
+import org.knime.core.data.DataColumnDomainCreator;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.v2.ValueFactory;
+import org.knime.core.data.v2.schema.ValueSchema;
+import org.knime.core.data.v2.value.DoubleValueFactory;
+import org.knime.core.data.v2.value.IntValueFactory;
+import org.knime.core.data.v2.value.LongValueFactory;
+import org.knime.core.data.v2.value.StringValueFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * Domain statistics that Python computes for each batch while writing it to a {@link DefaultPythonArrowDataSink}. The
+ * statistics of all batches are merged here such that the {@link DomainCalculator} does not need to read the batches
+ * again for the columns of standard types (int, long, double and string).
+ *
+ * The statistics of one batch are a JSON object mapping the column index to an object with the fields {@code "min"}
+ * and {@code "max"} (omitted if the column only has missing values) for numeric columns or {@code "values"} (the
+ * distinct values or {@code null} if there are too many) for string columns.
+ */
+final class DomainStatistics {
+
+    // Python writes NaN and Infinity as they are
+    private static final ObjectMapper MAPPER =
+        JsonMapper.builder().enable(JsonReadFeature.ALLOW_NON_NUMERIC_NUMBERS).build();
+
+    private final int m_maxPossibleValues;
+
+    private final Map<Integer, ColumnStatistics> m_columns = new HashMap<>();
+
+    /** The value factories of the columns whose domain is provided by the statistics */
+    private Map<Integer, ValueFactory<?, ?>> m_coveredColumns = Map.of();
+
+    /**
+     * @param maxPossibleValues the maximum number of possible values of string columns
+     */
+    DomainStatistics(final int maxPossibleValues) {
+        m_maxPossibleValues = maxPossibleValues;
+    }
+
+    int getMaxPossibleValues() {
+        return m_maxPossibleValues;
+    }
+
+    /**
+     * Merge the statistics of the next batch.
+     *
+     * @param statistics the statistics of the batch as JSON
+     * @throws IOException if the statistics cannot be parsed
+     */
+    synchronized void merge(final String statistics) throws IOException {
+        final JsonNode json;
+        try {
+            json = MAPPER.readTree(statistics);
+        } catch (JsonProcessingException ex) {
+            throw new IOException("Invalid domain statistics from Python.", ex);
+        }
+        final var fields = json.fields();
+        while (fields.hasNext()) {
+            final var field = fields.next();
+            m_columns.computeIfAbsent(Integer.valueOf(field.getKey()), i -> new ColumnStatistics())
+                .merge(field.getValue(), m_maxPossibleValues);
+        }
+    }
+
+    /**
+     * Determines the columns for which the domain can be created from the statistics. Must be called after the
+     * statistics of the first batch have been merged.
+     *
+     * @param schema the schema of the table
+     */
+    synchronized void initCoveredColumns(final ValueSchema schema) {
+        m_coveredColumns = new HashMap<>();
+        for (final var colIdx : m_columns.keySet()) {
+            // NB: Column 0 holds the row keys
+            if (colIdx > 0 && colIdx < schema.numColumns() && isSupported(schema.getValueFactory(colIdx))) {
+                m_coveredColumns.put(colIdx, schema.getValueFactory(colIdx));
+            }
+        }
+    }
+
+    /**
+     * @return the indices of the columns whose domain is provided by {@link #createDomain(int)}
+     */
+    synchronized Set<Integer> getCoveredColumns() {
+        return Set.copyOf(m_coveredColumns.keySet());
+    }
+
+    private static boolean isSupported(final ValueFactory<?, ?> valueFactory) {
+        return valueFactory instanceof IntValueFactory || valueFactory instanceof LongValueFactory
+            || valueFactory instanceof DoubleValueFactory || valueFactory instanceof StringValueFactory;
+    }
+
+    /**
+     * @param colIndex the index of the column
+     * @return the domain of the column or {@code null} if the column is not covered by the statistics
+     */
+    synchronized DataColumnDomain createDomain(final int colIndex) {
+        final var valueFactory = m_coveredColumns.get(colIndex);
+        if (valueFactory == null) {
+            return null;
+        }
+        final var column = m_columns.get(colIndex);
+        if (valueFactory instanceof StringValueFactory) {
+            final Set<DataCell> values;
+            if (column.m_values == null) {
+                values = null;
+            } else {
+                values = new LinkedHashSet<>();
+                column.m_values.forEach(v -> values.add(new StringCell(v)));
+            }
+            return new DataColumnDomainCreator(values).createDomain();
+        }
+        return new DataColumnDomainCreator(toCell(column.m_min, valueFactory), toCell(column.m_max, valueFactory))
+            .createDomain();
+    }
+
+    private static DataCell toCell(final JsonNode value, final ValueFactory<?, ?> valueFactory) {
+        if (value == null) {
+            return null;
+        } else if (valueFactory instanceof IntValueFactory) {
+            return new IntCell(value.asInt());
+        } else if (valueFactory instanceof LongValueFactory) {
+            return new LongCell(value.asLong());
+        } else {
+            return new DoubleCell(value.asDouble());
+        }
+    }
+
+    private static final class ColumnStatistics {
+
+        private JsonNode m_min;
+
+        private JsonNode m_max;
+
+        /** The distinct values or null if there are too many */
+        private Set<String> m_values = new LinkedHashSet<>();
+
+        private void merge(final JsonNode batchStatistics, final int maxPossibleValues) {
+            final var min = batchStatistics.get("min");
+            if (min != null && !min.isNull() && (m_min == null || compare(min, m_min) < 0)) {
+                m_min = min;
+            }
+            final var max = batchStatistics.get("max");
+            if (max != null && !max.isNull() && (m_max == null || compare(max, m_max) > 0)) {
+                m_max = max;
+            }
+            if (batchStatistics.has("values") && m_values != null) {
+                final var values = batchStatistics.get("values");
+                if (values.isNull()) {
+                    m_values = null;
+                } else {
+                    values.forEach(v -> m_values.add(v.asText()));
+                    if (m_values.size() > maxPossibleValues) {
+                        m_values = null;
+                    }
+                }
+            }
+        }
+
+        private static int compare(final JsonNode a, final JsonNode b) {
+            if (a.isIntegralNumber() && b.isIntegralNumber()) {
+                return Long.compare(a.asLong(), b.asLong());
+            }
+            return Double.compare(a.asDouble(), b.asDouble());
+        }
+    }
+}
@@ -48,6 +48,8 @@
  */
 package org.knime.python3.arrow;
 
+import java.util.List;
+
 import org.knime.core.table.schema.ColumnarSchema;
 import org.knime.python3.PythonDataSink;
 
@@ -77,6 +79,58 @@ default String getIdentifier() {
      */
     void reportBatchWritten(long offset) throws Exception; // TODO(dictionary) add offsets for dictionary batches
 
+    /**
+     * Report that the next batch has been written to the file together with the domain statistics that Python computed
+     * for the batch. Called instead of {@link #reportBatchWritten(long)} if {@link #getMaxPossibleNominalDomainValues()}
+     * is not negative.
+     *
+     * @param offset the offset of the batch
+     * @param statistics the domain statistics of the batch as JSON
+     * @throws Exception
+     */
+    default void reportBatchWrittenWithStatistics(final long offset, final String statistics) throws Exception {
+        reportBatchWritten(offset);
+    }
+
+    /**
+     * Report that the next batches have been written to the file. Python writes batches in the background and reports
+     * them in groups to save round trips. Equivalent to calling {@link #reportBatchWritten(long)} or
+     * {@link #reportBatchWrittenWithStatistics(long, String)} for each batch in order.
+     *
+     * @param offsets the offsets of the batches in ascending order
+     * @param statistics the domain statistics of the batches as JSON, an entry is {@code null} if no statistics were
+     *            computed for the batch
+     * @throws Exception
+     */
+    default void reportBatchesWritten(final List<? extends Number> offsets, final List<String> statistics)
+        throws Exception {
+        for (int i = 0; i < offsets.size(); i++) {
+            final var offset = offsets.get(i).longValue();
+            final var batchStatistics = statistics.get(i);
+            if (batchStatistics == null) {
+                reportBatchWritten(offset);
+            } else {
+                reportBatchWrittenWithStatistics(offset, batchStatistics);
+            }
+        }
+    }
+
+    /**
+     * @return the maximum number of distinct values Python should collect for string columns when computing domain
+     *         statistics or -1 if the sink does not use domain statistics
+     */
+    default int getMaxPossibleNominalDomainValues() {
+        return -1;
+    }
+
+    /**
+     * @return the codec Python should use to compress the record batch bodies ({@code "lz4"}) or {@code "none"} to
+     *         write them uncompressed
+     */
+    default String getCompressionCodec() {
+        return "none";
+    }
+
     /**
      * TODO check if this can be removed. We can now also read the schema from the arrow file directly
      *
@@ -88,4 +88,15 @@ default String getIdentifier() {
      * @return the total number of batches
      */
     int numBatches();
+
+    /**
+     * Sources can expose a window of consecutive record batches of the file only. In this case {@link #numBatches()}
+     * is the number of batches in the window and this method returns the index of the first batch of the window in
+     * the file.
+     *
+     * @return the index of the first record batch of this source in the file
+     */
+    default int getFirstBatchIndex() {
+        return 0;
+    }
 }
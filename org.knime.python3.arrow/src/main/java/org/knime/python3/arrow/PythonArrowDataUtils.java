@@ -52,7 +52,11 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import org.knime.core.columnar.arrow.ArrowBatchReadStore;
@@ -64,11 +68,15 @@
 import org.knime.core.columnar.arrow.PathBackedFileHandle;
 import org.knime.core.columnar.batch.RandomAccessBatchReadable;
 import org.knime.core.columnar.batch.SequentialBatchReadable;
+import org.knime.core.columnar.store.BatchReadStore;
 import org.knime.core.columnar.store.ColumnStoreFactory;
+import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnDomain;
+import org.knime.core.data.DataColumnDomainCreator;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataValueComparator;
 import org.knime.core.data.IDataRepository;
 import org.knime.core.data.columnar.ColumnStoreFactoryRegistry;
 import org.knime.core.data.columnar.domain.DefaultDomainWritableConfig;
@@ -77,6 +85,7 @@
 import org.knime.core.data.columnar.table.ColumnarRowWriteTable;
 import org.knime.core.data.columnar.table.ColumnarRowWriteTableSettings;
 import org.knime.core.data.columnar.table.UnsavedColumnarContainerTable;
+import org.knime.core.data.container.DataContainer;
 import org.knime.core.data.meta.DataColumnMetaData;
 import org.knime.core.data.v2.RowKeyValueFactory;
 import org.knime.core.data.v2.ValueFactory;
@@ -86,6 +95,7 @@
 import org.knime.core.data.v2.schema.ValueSchema;
 import org.knime.core.data.v2.value.DefaultRowKeyValueFactory;
 import org.knime.core.data.v2.value.VoidRowKeyFactory;
+import org.knime.core.node.util.CheckUtils;
 import org.knime.core.table.schema.ColumnarSchema;
 import org.knime.core.table.schema.DataSpec;
 import org.knime.core.table.schema.traits.DataTraits;
@@ -189,6 +199,26 @@ public static PythonArrowDataSource createSource(final ArrowBatchReadStore store
             store.numBatches(), columnNames);
     }
 
+    /**
+     * Create a {@link PythonArrowDataSource} that provides a window of consecutive record batches of the given source.
+     * No data is copied; the returned source reads from the same file as the given source.
+     *
+     * @param source the source which holds the data
+     * @param firstBatchIndex the index of the first batch of the window (relative to the given source)
+     * @param numBatches the number of batches in the window
+     * @return the {@link PythonArrowDataSource} that can be given to a {@link PythonEntryPoint} and will be wrapped
+     *         into a Python object for easy access to the data
+     */
+    public static PythonArrowDataSource createBatchRangeSource(final PythonArrowDataSource source,
+        final int firstBatchIndex, final int numBatches) {
+        CheckUtils.checkArgument(firstBatchIndex >= 0 && numBatches >= 0
+            && firstBatchIndex + numBatches <= source.numBatches(),
+            "The batch range [%s, %s) is not within the %s batches of the source.", firstBatchIndex,
+            firstBatchIndex + numBatches, source.numBatches());
+        return new PythonArrowBatchRangeDataSource(source, source.getFirstBatchIndex() + firstBatchIndex,
+            numBatches);
+    }
+
     /**
      * Create a {@link PythonArrowDataSink} that writes an Arrow file to the given path.
      *
@@ -223,7 +253,8 @@ public static RowKeyChecker createRowKeyChecker(final DefaultPythonArrowDataSink
 
     /**
      * Create a {@link DomainCalculator} that computes the domain of each batch asynchronously when they are provided
-     * from Python
+     * from Python. Python computes the domain statistics of columns with standard types while writing the batches;
+     * these columns are not read again.
      *
      * @param sink the {@link PythonArrowDataSink} that data is written to
      * @param storeFactory an {@link ArrowColumnStoreFactory} to create the readable
@@ -237,14 +268,18 @@ public static DomainCalculator createDomainCalculator(final DefaultPythonArrowDa
         final ArrowColumnStoreFactory storeFactory, final int maxPossibleNominalDomainValues,
         final IDataRepository dataRepository) {
         // Create the domain calculator
+        final var statistics = sink.enableDomainStatistics(maxPossibleNominalDomainValues);
         final Supplier<SequentialBatchReadable> batchReadableSupplier = () -> createReadable(sink, storeFactory);
         final Supplier<DomainWritableConfig> configSupplier = () -> {
             // NB: The schema will be known when this method is called
             final ValueSchema schema =
                 PythonArrowDataUtils.createColumnarValueSchema(sink, TableDomainAndMetadata.empty(), dataRepository);
+            // NB: Python reports the statistics of a batch before the listener below is notified
+            statistics.initCoveredColumns(schema);
             return new DefaultDomainWritableConfig(schema, maxPossibleNominalDomainValues, false);
         };
-        final var domainCalculator = DomainCalculator.fromSequentialReadable(batchReadableSupplier, configSupplier);
+        final var domainCalculator =
+            DomainCalculator.fromSequentialReadable(batchReadableSupplier, configSupplier, statistics);
 
         // Register a listener that processes a batch as soon as available
         sink.registerBatchListener(() -> {
@@ -298,6 +333,170 @@ public static UnsavedColumnarContainerTable createTable(final DefaultPythonArrow
                 /*Python already wrote everything to disk.*/});
     }
 
+    /**
+     * Creates one {@link UnsavedColumnarContainerTable table} that contains the rows of all provided
+     * {@link DefaultPythonArrowDataSink dataSinks} in the given order. The batches are not copied: The table reads
+     * directly from the files of all sinks and the files are only merged into one file before the table is saved. The
+     * domains of the sinks are merged; the metadata is taken from the first sink that is not empty.
+     *
+     * Note that the row keys must be checked across the sinks by the caller. The sinks must have a uniform batch
+     * length, see {@link #hasUniformBatchLength(List, ArrowColumnStoreFactory)}. Otherwise their rows have to be
+     * copied into a new table.
+     *
+     * @param dataSinks filled by Python, all sinks must have the same schema
+     * @param domainsAndMetadata the domain and metadata of each sink
+     * @param maxPossibleNominalDomainValues the maximum number of possible values for merged nominal domains
+     * @param storeFactory for creation Arrow stores in Java
+     * @param dataRepository the {@link IDataRepository} to use for this table
+     * @return the table with the content written into all dataSinks
+     * @throws IOException if the file for the merged table could not be created
+     * @throws IllegalArgumentException if the sinks have different schemas or no uniform batch length
+     */
+    @SuppressWarnings("resource") // the store will be closed when the table is cleared
+    public static UnsavedColumnarContainerTable createConcatenatedTable(final List<DefaultPythonArrowDataSink> dataSinks,
+        final List<TableDomainAndMetadata> domainsAndMetadata, final int maxPossibleNominalDomainValues,
+        final ArrowColumnStoreFactory storeFactory, final IDataRepository dataRepository) throws IOException {
+        CheckUtils.checkArgument(dataSinks.size() == domainsAndMetadata.size(),
+            "Got %s sinks but %s domains. This is an implementation error.", dataSinks.size(),
+            domainsAndMetadata.size());
+        final List<Path> paths = new ArrayList<>(dataSinks.size());
+        final List<TableDomainAndMetadata> nonEmptyDomains = new ArrayList<>(dataSinks.size());
+        long size = 0;
+        var firstNonEmpty = 0;
+        for (int i = dataSinks.size() - 1; i >= 0; i--) { // NOSONAR
+            final var path = dataSinks.get(i).getPath();
+            if (!isEmpty(path)) {
+                firstNonEmpty = i;
+                paths.add(0, path);
+                nonEmptyDomains.add(0, domainsAndMetadata.get(i));
+                size += dataSinks.get(i).getSize();
+            }
+        }
+        if (paths.size() <= 1) {
+            // Nothing to concatenate
+            return createTable(dataSinks.get(firstNonEmpty), domainsAndMetadata.get(firstNonEmpty), storeFactory,
+                dataRepository);
+        }
+
+        // All sinks must provide the same columns
+        final var arrowSchema = ArrowReaderWriterUtils.readSchema(paths.get(0).toFile());
+        final var columnarSchema = ArrowSchemaUtils.convertSchema(arrowSchema);
+        final var columnNames = ArrowSchemaUtils.extractColumnNames(arrowSchema);
+        for (final var path : paths.subList(1, paths.size())) {
+            final var otherSchema = ArrowReaderWriterUtils.readSchema(path.toFile());
+            CheckUtils.checkArgument(
+                columnarSchema.equals(ArrowSchemaUtils.convertSchema(otherSchema))
+                    && Arrays.equals(columnNames, ArrowSchemaUtils.extractColumnNames(otherSchema)),
+                "All tables must have the same columns to be concatenated.");
+        }
+
+        CheckUtils.checkArgument(ConcatenatedBatchReadStore.hasUniformBatchLength(paths, storeFactory),
+            "The tables to concatenate must be written with the same chunk size. This is an implementation error.");
+
+        final var domainAndMetadata = mergeDomainsAndMetadata(nonEmptyDomains,
+            createDataTableSpec(columnarSchema, columnNames), maxPossibleNominalDomainValues);
+        final var schema =
+            createColumnarValueSchema(columnarSchema, columnNames, dataRepository, domainAndMetadata);
+        final var store = new ConcatenatedBatchReadStore(paths, storeFactory,
+            DataContainer.createTempFile(".knable").toPath(), true);
+        return UnsavedColumnarContainerTable.create(dataRepository.generateNewID(), schema,
+            new ColumnarRowReadTable(schema, storeFactory, store, size), store);
+    }
+
+    /**
+     * Checks whether the given sinks can be concatenated without copying their batches by
+     * {@link #createConcatenatedTable(List, List, int, ArrowColumnStoreFactory, IDataRepository)}. KNIME expects all
+     * batches of a table except the last one to have the same length. This is not the case if the sinks have been
+     * written with different chunk sizes or if any sink but the last one ends with a short batch. Empty sinks are
+     * ignored. Must only be called after Python has finished writing to the sinks.
+     *
+     * @param dataSinks filled by Python
+     * @param storeFactory to open the files of the sinks
+     * @return {@code true} if the sinks can be concatenated without copying
+     * @throws IOException if the files of the sinks cannot be read
+     */
+    public static boolean hasUniformBatchLength(final List<DefaultPythonArrowDataSink> dataSinks,
+        final ArrowColumnStoreFactory storeFactory) throws IOException {
+        final var paths = dataSinks.stream().map(DefaultPythonArrowDataSink::getPath).filter(p -> !isEmpty(p)).toList();
+        return ConcatenatedBatchReadStore.hasUniformBatchLength(paths, storeFactory);
+    }
+
+    /**
+     * Create a {@link RandomAccessBatchReadable} that provides the batches of all given sinks in the given order. Empty
+     * sinks are skipped. Must only be called after Python has finished writing to the sinks.
+     *
+     * @param dataSinks filled by Python, all sinks must have the same schema
+     * @param storeFactory an {@link ArrowColumnStoreFactory} to create the readable
+     * @return the {@link RandomAccessBatchReadable} with the data of all sinks. Closing it does not delete the files of
+     *         the sinks.
+     * @throws IOException if no temporary file can be created
+     */
+    public static BatchReadStore createConcatenatedReadable(final List<DefaultPythonArrowDataSink> dataSinks,
+        final ArrowColumnStoreFactory storeFactory) throws IOException {
+        final var paths = dataSinks.stream().map(DefaultPythonArrowDataSink::getPath).filter(p -> !isEmpty(p)).toList();
+        return new ConcatenatedBatchReadStore(paths, storeFactory, DataContainer.createTempFile(".knable").toPath(),
+            false);
+    }
+
+    /**
+     * Merge the domains of multiple tables with the same columns. Bounds are merged using the comparator of the column
+     * type. Possible values are united and dropped if there are more than maxPossibleNominalDomainValues or if any of
+     * the tables has no possible values. The metadata is taken from the first table.
+     */
+    static TableDomainAndMetadata mergeDomainsAndMetadata(final List<TableDomainAndMetadata> domainsAndMetadata,
+        final DataTableSpec spec, final int maxPossibleNominalDomainValues) {
+        final var first = domainsAndMetadata.get(0);
+        // NB: Column 0 of the columnar schema holds the row keys
+        final var domains = new DataColumnDomain[spec.getNumColumns() + 1];
+        for (int i = 1; i < domains.length; i++) { // NOSONAR
+            final var comparator = spec.getColumnSpec(i - 1).getType().getComparator();
+            var domain = first.getDomain(i);
+            for (final var other : domainsAndMetadata.subList(1, domainsAndMetadata.size())) {
+                domain = mergeDomains(domain, other.getDomain(i), comparator, maxPossibleNominalDomainValues);
+            }
+            domains[i] = domain;
+        }
+        return new TableDomainAndMetadata() {
+
+            @Override
+            public DataColumnDomain getDomain(final int colIndex) {
+                return domains[colIndex];
+            }
+
+            @Override
+            public DataColumnMetaData[] getMetadata(final int colIndex) {
+                return first.getMetadata(colIndex);
+            }
+        };
+    }
+
+    private static DataColumnDomain mergeDomains(final DataColumnDomain a, final DataColumnDomain b,
+        final DataValueComparator comparator, final int maxPossibleValues) {
+        if (a == null || b == null) {
+            // No domain is calculated for this column
+            return a == null ? b : a;
+        }
+        // The domain calculators only omit bounds if there are no non-missing values
+        final DataCell lower = minCell(a.getLowerBound(), b.getLowerBound(), comparator);
+        final DataCell upper = minCell(a.getUpperBound(), b.getUpperBound(), comparator.reversed());
+        Set<DataCell> values = null;
+        if (a.hasValues() && b.hasValues()) {
+            values = new LinkedHashSet<>(a.getValues());
+            values.addAll(b.getValues());
+            if (values.size() > maxPossibleValues) {
+                values = null;
+            }
+        }
+        return new DataColumnDomainCreator(values, lower, upper).createDomain();
+    }
+
+    private static DataCell minCell(final DataCell a, final DataCell b, final Comparator<DataCell> comparator) {
+        if (a == null || b == null) {
+            return a == null ? b : a;
+        }
+        return comparator.compare(a, b) <= 0 ? a : b;
+    }
+
     private static boolean isEmpty(final Path path) {
         try {
             return Files.size(path) == 0;
@@ -551,4 +750,56 @@ public boolean hasColumnNames() {
             return m_columnNames != null;
         }
     }
-}
\ No newline at end of file
+
+    private static final class PythonArrowBatchRangeDataSource implements PythonArrowDataSource {
+
+        private final PythonArrowDataSource m_delegate;
+
+        private final int m_firstBatchIndex;
+
+        private final int m_numBatches;
+
+        PythonArrowBatchRangeDataSource(final PythonArrowDataSource delegate, final int firstBatchIndex,
+            final int numBatches) {
+            m_delegate = delegate;
+            m_firstBatchIndex = firstBatchIndex;
+            m_numBatches = numBatches;
+        }
+
+        @Override
+        public String getAbsolutePath() {
+            return m_delegate.getAbsolutePath();
+        }
+
+        @Override
+        public int numBatches() {
+            return m_numBatches;
+        }
+
+        @Override
+        public int getFirstBatchIndex() {
+            return m_firstBatchIndex;
+        }
+
+        @Override
+        public boolean isFooterWritten() {
+            return m_delegate.isFooterWritten();
+        }
+
+        @Override
+        public long getRecordBatchOffset(final int index) {
+            // The index is relative to the file, not to the window
+            return m_delegate.getRecordBatchOffset(index);
+        }
+
+        @Override
+        public String[] getColumnNames() {
+            return m_delegate.getColumnNames();
+        }
+
+        @Override
+        public boolean hasColumnNames() {
+            return m_delegate.hasColumnNames();
+        }
+    }
+}
@@ -186,6 +186,32 @@ public BufferedDataTable[] convertToTables(final List<PythonArrowDataSink> sinks
         return tables;
     }
 
+    /**
+     * Turns the sinks into one {@link BufferedDataTable} that contains the rows of all sinks in the given order.
+     *
+     * @param sinks containing data from Python, all with the same schema
+     * @param exec for table creation as well as progress reporting and cancellation
+     * @return a table wrapping all sinks
+     * @throws IOException if the row keys are not unique across the sinks
+     * @throws CanceledExecutionException if the execution is cancelled by the user
+     */
+    public BufferedDataTable convertToConcatenatedTable(final List<PythonArrowDataSink> sinks,
+        final ExecutionContext exec) throws IOException, CanceledExecutionException {
+        try {
+            return m_executor.performCancelable(() -> m_sinkManager.convertToConcatenatedTable(sinks, exec),
+                exec::checkCanceled);
+        } catch (ExecutionException ex) {// NOSONAR the ExecutionException acts as a holder for another exception
+            var cause = ex.getCause();
+            if (cause instanceof IOException ioCause) {
+                throw ioCause;
+            } else if (cause instanceof CanceledExecutionException cancelCause) {
+                throw cancelCause;
+            } else {
+                throw new IOException(cause);
+            }
+        }
+    }
+
     @Override
     public void close() {
         m_sourceFactory.close();
@@ -51,8 +51,10 @@
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -62,9 +64,11 @@
 import org.knime.core.data.container.DataContainer;
 import org.knime.core.data.container.DataContainerSettings;
 import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.Node;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.node.util.CheckUtils;
 import org.knime.python3.arrow.PythonArrowDataUtils.TableDomainAndMetadata;
 
 /**
@@ -129,6 +133,106 @@ public BufferedDataTable convertToTable(final PythonArrowDataSink pythonSink, fi
         return table;
     }
 
+    /**
+     * Converts the provided sinks into one {@link BufferedDataTable} that contains the rows of all sinks in the given
+     * order. The domain of each sink is computed as in {@link #convertToTable(PythonArrowDataSink, ExecutionContext)}
+     * and the domains are merged. The row keys are checked across all sinks, which includes the row keys within each
+     * sink. The table reads from the files of all sinks without copying the data.
+     *
+     * @param pythonSinks the sinks to convert into a table (must be created from this SinkManager and have the same
+     *            schema)
+     * @param exec of the current node execution
+     * @return {@link BufferedDataTable} with the contents of all pythonSinks
+     * @throws InterruptedException
+     * @throws IOException if the row keys are not unique across the sinks
+     * @throws CanceledExecutionException if the execution is cancelled by the user
+     */
+    public BufferedDataTable convertToConcatenatedTable(final List<PythonArrowDataSink> pythonSinks,
+        final ExecutionContext exec) throws InterruptedException, IOException, CanceledExecutionException {
+        CheckUtils.checkArgument(!pythonSinks.isEmpty(), "At least one sink is required.");
+        if (pythonSinks.size() == 1) {
+            return convertToTable(pythonSinks.get(0), exec);
+        }
+        final List<DefaultPythonArrowDataSink> sinks = new ArrayList<>(pythonSinks.size());
+        final List<TableDomainAndMetadata> domainsAndMetadata = new ArrayList<>(pythonSinks.size());
+        for (final var pythonSink : pythonSinks) {
+            assert m_sinks.contains(
+                pythonSink) : "Sink was not created by Python3KernelBackend#createSink. This is a coding issue.";
+            final DefaultPythonArrowDataSink sink = (DefaultPythonArrowDataSink)pythonSink;
+            domainsAndMetadata.add(getDomain(sink));
+            sinks.add(sink);
+            exec.checkCanceled();
+        }
+        checkRowKeysAcrossSinks(sinks);
+
+        final IDataRepository dataRepository = Node.invokeGetDataRepository(exec);
+        if (!PythonArrowDataUtils.hasUniformBatchLength(sinks, m_arrowStoreFactory)) {
+            // e.g. different chunk sizes or short batches at the end of a sink that is not the last one
+            final var table = copyIntoOneTable(sinks, domainsAndMetadata, dataRepository, exec);
+            m_usedSinks.addAll(sinks);
+            return table;
+        }
+        @SuppressWarnings("resource") // Closed by the framework when the table is not needed anymore
+        final BufferedDataTable table = PythonArrowDataUtils
+            .createConcatenatedTable(sinks, domainsAndMetadata, DataContainerSettings.getDefault().getMaxDomainValues(),
+                m_arrowStoreFactory, dataRepository)
+            .create(exec);
+
+        m_usedSinks.addAll(sinks);
+        return table;
+    }
+
+    /**
+     * Copies the rows of all sinks into a new table. Used if the batches of the sinks can't be concatenated as they are
+     * because KNIME requires all batches of a table except the last one to have the same length. The intermediate
+     * tables of the sinks are cleared afterwards.
+     */
+    private BufferedDataTable copyIntoOneTable(final List<DefaultPythonArrowDataSink> sinks,
+        final List<TableDomainAndMetadata> domainsAndMetadata, final IDataRepository dataRepository,
+        final ExecutionContext exec) throws CanceledExecutionException {
+        final List<BufferedDataTable> tables = new ArrayList<>(sinks.size());
+        try {
+            for (int i = 0; i < sinks.size(); i++) { // NOSONAR
+                tables.add(PythonArrowDataUtils
+                    .createTable(sinks.get(i), domainsAndMetadata.get(i), m_arrowStoreFactory, dataRepository)
+                    .create(exec));
+            }
+            final var container = exec.createDataContainer(tables.get(0).getDataTableSpec());
+            try {
+                for (final var table : tables) {
+                    try (final var iterator = table.iterator()) {
+                        while (iterator.hasNext()) {
+                            exec.checkCanceled();
+                            container.addRowToTable(iterator.next());
+                        }
+                    }
+                }
+            } finally {
+                container.close();
+            }
+            return container.getTable();
+        } finally {
+            // the rows have been copied, the tables of the individual sinks are not needed anymore
+            tables.forEach(exec::clearTable);
+        }
+    }
+
+    /** Checks the row keys of the concatenated sinks. Only the row key column is read. */
+    private void checkRowKeysAcrossSinks(final List<DefaultPythonArrowDataSink> sinks)
+        throws InterruptedException, IOException {
+        final var readable = PythonArrowDataUtils.createConcatenatedReadable(sinks, m_arrowStoreFactory);
+        try (final var rowKeyChecker = RowKeyChecker.fromRandomAccessReadable(() -> readable)) {
+            for (int i = 0; i < readable.numBatches(); i++) { // NOSONAR
+                rowKeyChecker.processNextBatch();
+            }
+            if (!rowKeyChecker.allUnique()) {
+                throw new IOException("Row key checking: " + rowKeyChecker.getInvalidCause());
+            }
+        } finally {
+            readable.close();
+        }
+    }
+
     @SuppressWarnings("resource") // All rowKeyCheckers are closed at #close
     private void checkRowKeys(final DefaultPythonArrowDataSink sink) throws InterruptedException, IOException {
         final var rowKeyChecker = m_rowKeyCheckers.get(sink);
@@ -46,16 +46,26 @@
 @author Benjamin Wilhelm, KNIME GmbH, Konstanz, Germany
 """
 
+import collections
+import json
+import logging
+import mmap
+import queue
+import threading
+import weakref
 import pyarrow as pa
+import pyarrow.compute as pc
 import knime._backend._gateway as kg
 import itertools
 
 # TODO should this happen here or on java side?
 import knime._arrow._types as kat
 import knime._arrow._dictencoding as kas
-from typing import Optional, Union
+from typing import Iterator, Optional, Tuple, Union
 from knime._arrow._utils import normalize_index
 
+LOGGER = logging.getLogger(__name__)
+
 ARROW_CHUNK_SIZE_KEY = "KNIME:basic:chunkSize"
 ARROW_FACTORY_VERSIONS_KEY = "KNIME:basic:factoryVersions"
 
@@ -63,6 +73,16 @@ STRUCT_TYPE_VERSION = 1  # must match the version in ArrowStructDataFactory
 LIST_TYPE_VERSION = 0  # must match the version in ArrowListDataFactory
 DEFAULT_VERSION = 0  # placeholder for all other primitive types. TODO: needs to be updated if new versions are introduced
 
+# How many batches ArrowDataSource.batches() reads ahead of the consumer and how many
+# bytes these batches may occupy at most. A value of 0 batches disables prefetching,
+# which is the default. Users opt in via the num_batches_ahead of Table.batches().
+PREFETCH_NUM_BATCHES = 0
+PREFETCH_MAX_BYTES = 256 * 1024 * 1024
+
+# How many batches ArrowDataSink.write() hands to the background writer before it
+# blocks. A queue size of 0 writes the batches synchronously.
+WRITE_QUEUE_SIZE = 2
+
 
 def gateway():
     if kg.client_server is None:
@@ -122,6 +142,14 @@ def convert_schema(schema: pa.Schema):
 
 
 def convert_type(arrow_type: pa.DataType):
+    # Dictionary encoding is a trait of the value spec in KNIME
+    if (
+        isinstance(arrow_type, pa.DictionaryType)
+        or kat.is_dict_encoded_value_factory_type(arrow_type)
+        or kas.is_struct_dict_encoded(arrow_type)
+    ):
+        return convert_type(arrow_type.value_type)
+
     # Logical type
     if isinstance(arrow_type, pa.ExtensionType):
         return convert_type(arrow_type.storage_type)
@@ -189,15 +217,139 @@ class _OffsetBasedRecordBatchFileReader:
         self._source_file.seek(8)  # Skip the ARROW1 magic number + padding
         self.schema = pa.ipc.read_schema(self._source_file)
 
+        # Offsets that have been resolved by resolve_offsets
+        self._num_record_batches = None
+        self._offsets = {}
+        # Reading a batch moves the position of the shared file, so concurrent readers
+        # (e.g. the workers of map_batches) must not interleave seeking and reading
+        self._read_lock = threading.Lock()
+
+    @property
+    def has_resolved_offsets(self) -> bool:
+        return self._num_record_batches is not None
+
     @property
     def num_record_batches(self):
+        if self._num_record_batches is not None:
+            return self._num_record_batches
         return self._java_data_source.numBatches()
 
+    def resolve_offsets(self, batch_indices) -> None:
+        """
+        Fetches the number of batches and the offsets of the given batches from Java such that
+        reading them does not require calls to Java anymore (e.g. in a worker thread).
+        """
+        self._num_record_batches = self._java_data_source.numBatches()
+        for index in batch_indices:
+            self._offsets[index] = self._java_data_source.getRecordBatchOffset(index)
+
     def get_batch(self, index: int) -> pa.RecordBatch:
-        offset = self._java_data_source.getRecordBatchOffset(index)
-        self._source_file.seek(offset)
-        # TODO do we need to map columns somehow (in Java we have the factory versions)
-        return pa.ipc.read_record_batch(self._source_file, self.schema)
+        offset = self._offsets.get(index)
+        if offset is None:
+            offset = self._java_data_source.getRecordBatchOffset(index)
+        with self._read_lock:
+            self._source_file.seek(offset)
+            # TODO do we need to map columns somehow (in Java we have the factory
+            #  versions)
+            return pa.ipc.read_record_batch(self._source_file, self.schema)
+
+
+def _get_batch_window(java_data_source, reader) -> Tuple[int, Optional[int]]:
+    """
+    Returns the index of the first batch and the number of batches of the given source.
+    The number of batches is None if it is determined by the reader.
+    """
+    try:
+        first_batch_index = java_data_source.getFirstBatchIndex()
+    except AttributeError:
+        # Python implementations of data sources (e.g. in tests) always cover the whole file
+        return 0, None
+    if first_batch_index == 0 and not java_data_source.isFooterWritten():
+        # The offset based reader asks the source for the number of batches
+        return 0, None
+    num_batches = java_data_source.numBatches()
+    if first_batch_index == 0 and num_batches == reader.num_record_batches:
+        return 0, None
+    return first_batch_index, num_batches
+
+
+class _BatchPrefetcher:
+    """
+    Iterates over the batches of an ArrowDataSource while a background thread reads up
+    to num_batches_ahead batches (but at most max_bytes) ahead of the consumer. The
+    thread also asks the OS to page in the file ranges of these batches, such that the
+    I/O overlaps with the computation on the current batch.
+
+    The thread is only started when the first batch is requested. It is stopped when the
+    iteration ends, when the generator is closed or garbage collected, and when the
+    source is closed.
+    """
+
+    def __init__(
+        self, source: "ArrowDataSource", num_batches_ahead: int, max_bytes: int
+    ) -> None:
+        self._source = source
+        self._num_batches = len(source)
+        self._num_batches_ahead = num_batches_ahead
+        self._max_bytes = max_bytes
+        self._ready = collections.deque()  # (batch or exception, nbytes)
+        self._ready_bytes = 0
+        self._closed = False
+        self._condition = threading.Condition()
+        self._thread = threading.Thread(
+            target=self._read_ahead, name="knime-arrow-prefetcher", daemon=True
+        )
+
+    def _has_capacity(self) -> bool:
+        # A single batch is always allowed, even if it is bigger than max_bytes
+        return not self._ready or (
+            len(self._ready) < self._num_batches_ahead
+            and self._ready_bytes < self._max_bytes
+        )
+
+    def _read_ahead(self) -> None:
+        for index in range(self._num_batches):
+            with self._condition:
+                self._condition.wait_for(lambda: self._closed or self._has_capacity())
+                if self._closed:
+                    return
+            try:
+                batch = self._source[index]
+                self._source._advise_will_need(batch)
+                nbytes = batch.nbytes
+            except Exception as e:  # surfaced to the consumer
+                batch, nbytes = e, 0
+            with self._condition:
+                self._ready.append((batch, nbytes))
+                self._ready_bytes += nbytes
+                self._condition.notify_all()
+            if isinstance(batch, Exception):
+                return
+
+    def __iter__(self):
+        self._thread.start()
+        try:
+            for _ in range(self._num_batches):
+                with self._condition:
+                    self._condition.wait_for(lambda: self._closed or self._ready)
+                    if self._closed:
+                        raise RuntimeError("The source of the batches has been closed.")
+                    batch, nbytes = self._ready.popleft()
+                    self._ready_bytes -= nbytes
+                    self._condition.notify_all()
+                if isinstance(batch, Exception):
+                    raise batch
+                yield batch
+        finally:
+            self.close()
+
+    def close(self) -> None:
+        with self._condition:
+            self._closed = True
+            self._ready.clear()
+            self._condition.notify_all()
+        if self._thread.ident is not None:
+            self._thread.join()
 
 
 @kg.data_source("org.knime.python3.arrow")
@@ -208,9 +360,8 @@ class ArrowDataSource:
     """
 
     def __init__(self, java_data_source) -> None:
-        self._file: pa.MemoryMappedFile = pa.memory_map(
-            java_data_source.getAbsolutePath()
-        )
+        self._file_path = java_data_source.getAbsolutePath()
+        self._file: pa.MemoryMappedFile = pa.memory_map(self._file_path)
 
         if java_data_source.isFooterWritten():
             self._reader = pa.ipc.open_file(self._file)
@@ -219,6 +370,12 @@ class ArrowDataSource:
                 self._file, java_data_source
             )
 
+        # The source can be a window of consecutive batches of the file, e.g. if the
+        # input table is partitioned across multiple worker processes
+        self._first_batch_index, self._num_batches = _get_batch_window(
+            java_data_source, self._reader
+        )
+
         if java_data_source.hasColumnNames():
             schema_without_names = self._reader.schema
             names = [name for name in java_data_source.getColumnNames()]
@@ -233,6 +390,12 @@ class ArrowDataSource:
             self._column_names = None
             self._schema = self._reader.schema
 
+        # Lazily opened mapping of the file that is used to advise the OS which pages
+        # will be read next, False if this is not supported on this platform
+        self._advice_mapping = None
+        # The prefetchers of batches() that may still read from the file
+        self._prefetchers = weakref.WeakSet()
+
     def __enter__(self):
         return self
 
@@ -245,7 +408,9 @@ class ArrowDataSource:
         return self._schema
 
     def __len__(self) -> int:
-        return self._reader.num_record_batches
+        if self._num_batches is None:
+            return self._reader.num_record_batches
+        return self._num_batches
 
     def _get_batch(self, index: int) -> pa.RecordBatch:
         # The type of index must be int
@@ -253,7 +418,9 @@ class ArrowDataSource:
             raise TypeError(
                 "index must be an integer, not {}".format(type(index).__name__)
             )
-        return self._reader.get_batch(normalize_index(index, len(self)))
+        return self._reader.get_batch(
+            self._first_batch_index + normalize_index(index, len(self))
+        )
 
     def __getitem__(self, index: int) -> pa.RecordBatch:
         """Get a batch from the source and apply the column names"""
@@ -268,9 +435,108 @@ class ArrowDataSource:
             batch_without_names.columns, names=self._column_names
         )
 
+    def batches(
+        self,
+        num_batches_ahead: Optional[int] = None,
+        max_prefetch_bytes: Optional[int] = None,
+    ) -> Iterator[pa.RecordBatch]:
+        """
+        Returns a generator over the batches of this source (with column names applied).
+        Up to num_batches_ahead batches, occupying at most max_prefetch_bytes, are read
+        on a background thread while the consumer works on the current batch. The
+        defaults are PREFETCH_NUM_BATCHES and PREFETCH_MAX_BYTES.
+
+        Batches of files that are still being written are not prefetched because their
+        number and location is only known once Java reports them.
+        """
+        if num_batches_ahead is None:
+            num_batches_ahead = PREFETCH_NUM_BATCHES
+        if max_prefetch_bytes is None:
+            max_prefetch_bytes = PREFETCH_MAX_BYTES
+        if num_batches_ahead > 0 and self._has_fixed_batches():
+            # Set up the advice mapping on this thread because it moves the position of
+            # the file, which must not happen while another thread reads a batch
+            self._get_advice_mapping()
+            prefetcher = _BatchPrefetcher(self, num_batches_ahead, max_prefetch_bytes)
+            self._prefetchers.add(prefetcher)
+            return iter(prefetcher)
+        return self._batches_on_demand()
+
+    def _batches_on_demand(self) -> Iterator[pa.RecordBatch]:
+        batch_idx = 0
+        while batch_idx < len(self):
+            yield self[batch_idx]
+            batch_idx += 1
+
+    def _has_fixed_batches(self) -> bool:
+        if isinstance(self._reader, _OffsetBasedRecordBatchFileReader):
+            # only fixed if the offsets have been fetched by _detach_from_java
+            return self._reader.has_resolved_offsets
+        return True
+
+    def _advise_will_need(self, batch: pa.RecordBatch) -> None:
+        """
+        Asks the OS to read the pages of the memory-mapped file that back the buffers of
+        the given batch. Reading a batch from the mapped file is zero-copy, so without
+        this advice the pages would only be read once the consumer touches them.
+        Compressed batches are decompressed while reading and need no advice.
+        """
+        mapping = self._get_advice_mapping()
+        if not mapping:
+            return
+        base = self._base_address
+        start, end = None, None
+        for column in batch.columns:
+            for buffer in column.buffers():
+                if buffer is None or buffer.size == 0:
+                    continue
+                buffer_start = buffer.address - base
+                buffer_end = buffer_start + buffer.size
+                if buffer_start < 0 or buffer_end > len(mapping):
+                    # not backed by the file (e.g. decompressed)
+                    continue
+                start = buffer_start if start is None else min(start, buffer_start)
+                end = buffer_end if end is None else max(end, buffer_end)
+        if start is None:
+            return
+        start -= start % mmap.PAGESIZE
+        try:
+            mapping.madvise(mmap.MADV_WILLNEED, start, end - start)
+        except (OSError, ValueError) as e:
+            LOGGER.debug(f"Could not advise the OS to read ahead: {e}")
+
+    def _get_advice_mapping(self):
+        # Must first be called on the thread that reads the batches, see batches()
+        if self._advice_mapping is None:
+            self._advice_mapping = False
+            if hasattr(mmap, "MADV_WILLNEED") and self._file.size() > 0:
+                # the address of the first byte of the file in pyarrow's mapping,
+                # read_buffer does not copy from a memory-mapped file
+                self._file.seek(0)
+                self._base_address = self._file.read_buffer(1).address
+                with open(self._file_path, "rb") as f:
+                    self._advice_mapping = mmap.mmap(
+                        f.fileno(), 0, access=mmap.ACCESS_READ
+                    )
+        return self._advice_mapping
+
     def close(self):
+        for prefetcher in list(self._prefetchers):
+            prefetcher.close()
+        if self._advice_mapping:
+            self._advice_mapping.close()
         self._file.close()
 
+    def _detach_from_java(self) -> None:
+        """
+        Makes sure that all batches of this source can be read without calls to Java, which is
+        required to read them from the worker threads of map_batches.
+        """
+        if isinstance(self._reader, _OffsetBasedRecordBatchFileReader):
+            self._reader.resolve_offsets(
+                range(self._first_batch_index, self._first_batch_index + len(self))
+            )
+
     # API to get higher level access
 
     def to_pandas(self) -> "pandas.DataFrame":
@@ -346,9 +612,109 @@ def create_empty_table(schema: pa.Schema) -> pa.Table:
     return pa.table([_create_empty_array(c.type) for c in schema], schema=schema)
 
 
+def _get_max_domain_values(java_data_sink) -> int:
+    try:
+        return java_data_sink.getMaxPossibleNominalDomainValues()
+    except AttributeError:
+        # Python implementations of the sink (e.g. for testing) don't use domain statistics
+        return -1
+
+
+def _get_compression_codec(java_data_sink) -> Optional[str]:
+    """
+    The codec Java chose to compress the record batch bodies or None if the batches
+    should be written uncompressed. Falls back to no compression if this pyarrow build
+    does not support the codec.
+    """
+    try:
+        codec = java_data_sink.getCompressionCodec()
+    except AttributeError:
+        # Python implementations of the sink (e.g. for testing)
+        return None
+    if codec is None or codec == "none":
+        return None
+    if not pa.Codec.is_available(codec):
+        LOGGER.warning(
+            f"The compression codec '{codec}' is not available. "
+            "Writing the table uncompressed."
+        )
+        return None
+    return codec
+
+
+def _report_batches_written(java_data_sink, offsets, statistics) -> None:
+    """
+    Reports the given batches to Java in a single call. The statistics of a batch are
+    None if the sink does not use domain statistics.
+    """
+    report = getattr(java_data_sink, "reportBatchesWritten", None)
+    if report is not None:
+        report(offsets, statistics)
+        return
+    # Python implementations of the sink (e.g. for testing) report each batch
+    for offset, batch_statistics in zip(offsets, statistics):
+        if batch_statistics is None:
+            java_data_sink.reportBatchWritten(offset)
+        else:
+            java_data_sink.reportBatchWrittenWithStatistics(offset, batch_statistics)
+
+
+def _compute_domain_statistics(data: pa.RecordBatch, max_values: int) -> str:
+    """
+    Compute the domain statistics of the columns of standard types as JSON: the minimum
+    and maximum of int32, int64 and double columns and the distinct values of string
+    columns (None if there are more than max_values). Columns with other types are
+    left out and their domain is computed by Java.
+    """
+    statistics = {}
+    # Column 0 holds the row keys
+    for idx in range(1, data.num_columns):
+        column = data.column(idx)
+        if kat._is_knime_primitive_type(column.type):
+            # the batches are written with the KNIME extension types
+            column = column.storage
+        elif kat._is_dict_encoded_knime_string_type(column.type):
+            # each value of a dictionary encoded column is stored once per batch
+            column = column.storage.flatten()[1]
+        column_type = column.type
+        if (
+            pa.types.is_int32(column_type)
+            or pa.types.is_int64(column_type)
+            or pa.types.is_float64(column_type)
+        ):
+            min_max = pc.min_max(column)
+            column_statistics = {}
+            for key in ("min", "max"):
+                value = min_max[key].as_py()
+                # NaN is not part of the domain
+                if value is not None and value == value:
+                    column_statistics[key] = value
+            statistics[str(idx)] = column_statistics
+        elif pa.types.is_string(column_type) or pa.types.is_large_string(column_type):
+            values = pc.unique(column.drop_null())
+            statistics[str(idx)] = {
+                "values": values.to_pylist() if len(values) <= max_values else None
+            }
+    return json.dumps(statistics)
+
+
+# Put into the write queue by ArrowDataSink.close() to stop the writer thread
+_CLOSE_WRITER = object()
+
+
 @kg.data_sink("org.knime.python3.arrow")
 class ArrowDataSink:
-    """A class writing record batches to a file to be read by KNIME."""
+    """
+    A class writing record batches to a file to be read by KNIME.
+
+    The batches are serialized and written on a background thread while the caller
+    produces the next batch. The thread is started by the first call to write() and
+    stopped by close(), so every sink that has been written to must be closed. At most
+    WRITE_QUEUE_SIZE batches wait for the writer, further calls to write() block. Only
+    the calling thread talks to Java: it reports the batches that the writer has
+    finished with the next call to write() and the remaining ones in close(). Errors of
+    the writer are raised by the next call to write() or by close().
+    """
 
     def __init__(self, java_data_sink) -> None:
         self._java_data_sink = java_data_sink
@@ -357,9 +723,26 @@ class ArrowDataSink:
         self._file = pa.OSFile(java_data_sink.getAbsolutePath(), mode="wb")
         self._size = 0
         self._writer = None
+        self._schema = None
         self._chunk_size = None
         self._recieved_last_batch = False
         self._is_closed = False
+        # Asked on the calling thread because the writer thread must not call Java
+        self._max_domain_values = _get_max_domain_values(java_data_sink)
+        self._compression_codec = _get_compression_codec(java_data_sink)
+
+        # Batches that have been written but not reported to Java yet
+        self._unreported_offsets = []
+        self._unreported_statistics = []
+        self._unreported_lock = threading.Lock()
+
+        # The first error of the writer thread and whether it has been raised already
+        self._write_error = None
+        self._write_error_raised = False
+        # The writer thread is started by the first batch
+        self._write_queue_size = WRITE_QUEUE_SIZE
+        self._write_queue = None
+        self._writer_thread = None
 
     def __enter__(self):
         return self
@@ -377,7 +760,7 @@ class ArrowDataSink:
             if len(data) == 0:
                 # An empty table results in no batches being written which can cause problems in successor nodes
                 # so we explicitly create an empty record batch in this case
-                self._write_batch(
+                self._enqueue_batch(
                     pa.record_batch(
                         [_create_empty_array(c.type) for c in data.schema],
                         schema=data.schema,
@@ -386,12 +769,77 @@ class ArrowDataSink:
             else:
                 # We write each batch of the table
                 for batch in data.to_batches():
-                    self._write_batch(batch)
+                    self._enqueue_batch(batch)
         else:
             # This is already a batch. Just write it
+            self._enqueue_batch(data)
+
+    def _enqueue_batch(self, data: pa.RecordBatch):
+        if self._is_closed:
+            raise RuntimeError("Cannot write to a closed sink.")
+        self._raise_write_error()
+        self._check_chunk_size(len(data))
+        if self._schema is None:
+            self._schema = schema_with_knime_metadata(data.schema, self._chunk_size)
+            self._report_schema(self._schema)
+        if self._write_queue_size <= 0:
             self._write_batch(data)
+            self._report_unreported_batches()
+            return
+        if self._writer_thread is None:
+            self._write_queue = queue.Queue(maxsize=self._write_queue_size)
+            self._writer_thread = threading.Thread(
+                target=self._write_queued_batches,
+                name="knime-arrow-writer",
+                daemon=True,
+            )
+            self._writer_thread.start()
+        self._report_finished_batches()
+        # Blocks if the writer is too far behind
+        self._write_queue.put(data)
 
-    def _write_batch(self, data: pa.RecordBatch):
+    def _report_finished_batches(self):
+        """Reports the batches the writer thread has finished so far to Java"""
+        try:
+            self._report_unreported_batches()
+        except BaseException as e:
+            # The batches are lost for Java, so the sink stays unusable
+            if self._write_error is None:
+                self._write_error = e
+            self._raise_write_error()
+
+    def _raise_write_error(self):
+        if self._write_error is not None:
+            # The sink stays unusable after the error
+            self._write_error_raised = True
+            raise self._write_error
+
+    def _write_queued_batches(self):
+        while True:
+            data = self._write_queue.get()
+            if self._write_error is not None:
+                # Drain the queue such that the producer does not block
+                if data is _CLOSE_WRITER:
+                    return
+                continue
+            if data is _CLOSE_WRITER:
+                return
+            try:
+                self._write_batch(data)
+            except BaseException as e:  # raised by the next write or close
+                self._write_error = e
+
+    def _report_unreported_batches(self):
+        with self._unreported_lock:
+            if not self._unreported_offsets:
+                return
+            offsets = self._unreported_offsets
+            statistics = self._unreported_statistics
+            self._unreported_offsets = []
+            self._unreported_statistics = []
+        _report_batches_written(self._java_data_sink, offsets, statistics)
+
+    def _check_chunk_size(self, chunk_size: int):
         # TODO(AP-20353) remove this when we support variable sized batches
         if self._recieved_last_batch:
             raise ValueError(
@@ -400,54 +848,52 @@ class ArrowDataSink:
                 "than the first batch."
             )
 
+        if self._chunk_size is None:
+            # Remember the chunk size of the first batch. All batches except for the
+            # last one must have the same size
+            self._chunk_size = chunk_size
+        elif chunk_size != self._chunk_size:
+            if chunk_size < self._chunk_size:
+                # A smaller chunk size is okay if this is the last batch
+                self._recieved_last_batch = True
+            else:
+                # The chunk is bigger: This is not allowed
+                raise ValueError(
+                    "Tried writing a batch with a different size than the first "
+                    "batch. Only the last batch of a table can have a different "
+                    "size than the first batch."
+                )
+
+    def _write_batch(self, data: pa.RecordBatch):
         chunk_size = len(data)
-        offset = self._get_offset(data.schema, chunk_size)
+        offset = self._get_offset(data.schema)
         self._writer.write(data)
         self._file.flush()
         # only report a batch if it contains rows
         if chunk_size > 0:
-            self._java_data_sink.reportBatchWritten(offset)
+            if self._max_domain_values >= 0:
+                # The batch is in memory now, so Java does not need to read it again for the domain
+                statistics = _compute_domain_statistics(data, self._max_domain_values)
+            else:
+                statistics = None
+            with self._unreported_lock:
+                self._unreported_offsets.append(offset)
+                self._unreported_statistics.append(statistics)
             self._size += data.num_rows
 
-    def _get_offset(self, schema: pa.Schema, chunk_size: int):
+    def _get_offset(self, schema: pa.Schema):
         if self._writer is None:
-            # Remember the chunk size of the first batch. All batches except for the
-            # last one must have the same size
-            # TODO(AP-20353) remove this when we support variable sized batches
-            self._chunk_size = chunk_size
-
             # Init the writer if this is the first batch
             # Also use the offset returned by the init method because the file position
             # is not updated yet
-            return self._init_writer(schema_with_knime_metadata(schema, chunk_size))
+            return self._init_writer(self._schema)
         else:
-            # Check that we have the same chunk size as the first batch
-            # TODO(AP-20353) remove this check when we support variable sized batches
-            if self._chunk_size is None:
-                raise RuntimeError(
-                    "A writer exists but the chunk size is None. "
-                    "This is an implementation error"
-                )
-            if chunk_size != self._chunk_size:
-                if chunk_size < self._chunk_size:
-                    # A smaller chunk size is okay if this is the last batch
-                    self._recieved_last_batch = True
-                else:
-                    # The chunk is bigger: This is not allowed
-                    raise ValueError(
-                        "Tried writing a batch with a different size than the first "
-                        "batch. Only the last batch of a table can have a different "
-                        "size than the first batch."
-                    )
-
             return self._file.tell()
 
     def _init_writer(self, schema: pa.Schema):
         # Create the writer
-        self._writer = pa.ipc.new_file(self._file, schema=schema)
-
-        # Set the ColumnarSchema for java
-        self._java_data_sink.setColumnarSchema(convert_schema(schema))
+        options = pa.ipc.IpcWriteOptions(compression=self._compression_codec)
+        self._writer = pa.ipc.new_file(self._file, schema=schema, options=options)
 
         # We need to know the size of the serialized schema
         # to know the offset of the first batch
@@ -456,11 +902,26 @@ class ArrowDataSink:
         # +8 for ARROW1 magic + padding
         return len(schema_buf) + 8
 
+    def _report_schema(self, schema: pa.Schema):
+        # Set the ColumnarSchema for java
+        self._java_data_sink.setColumnarSchema(convert_schema(schema))
+
     def close(self):
         if self._is_closed:
             return
-        if self._writer is not None:
-            self._writer.close()
-        self._java_data_sink.setFinalSize(self._size)
-        self._file.close()
         self._is_closed = True
+        try:
+            if self._writer_thread is not None:
+                # The writer finishes the queued batches before it stops
+                self._write_queue.put(_CLOSE_WRITER)
+                self._writer_thread.join()
+            if self._write_error is not None:
+                if not self._write_error_raised:
+                    self._raise_write_error()
+                return
+            self._report_finished_batches()
+            if self._writer is not None:
+                self._writer.close()
+            self._java_data_sink.setFinalSize(self._size)
+        finally:
+            self._file.close()
@@ -49,7 +49,7 @@
 import abc
 import functools
 from collections import OrderedDict
-from typing import Any, Callable
+from typing import Any, Callable, List, Optional
 import pyarrow as pa
 import numpy as np
 import pyarrow.compute as pc
@@ -434,6 +434,107 @@ def create_storage_for_struct_dict_encoded_array(
     )
 
 
+def create_storage_for_dictionary_array(
+    array: pa.DictionaryArray, key_type: pa.DataType = None
+) -> pa.StructArray:
+    """Create the storage of a struct dictionary encoded array from a pyarrow
+    DictionaryArray without looping over the values in Python.
+
+    The dictionary indices are used as dict keys. The value of a key is only stored
+    at the first occurrence of the key in the array.
+
+    Args:
+        array: The pyarrow DictionaryArray.
+        key_type (pa.DataType, optional): The type of keys to use. One of uint8,
+            uint32 and uint64, defaults to uint32
+
+    Returns:
+        The struct storage (pa.StructArray)
+    """
+    if key_type is None:
+        key_type = pa.uint32()
+    indices = array.indices
+    mask = indices.is_null()
+    keys = pc.cast(indices, key_type)
+
+    filled_indices = pc.fill_null(indices, -1).to_numpy(zero_copy_only=False)
+    is_first = np.zeros(len(array), dtype=bool)
+    unique_indices, first_positions = np.unique(filled_indices, return_index=True)
+    is_first[first_positions[unique_indices >= 0]] = True
+    take_indices = pa.array(np.where(is_first, filled_indices, 0), mask=~is_first)
+    entries = array.dictionary.take(take_indices)
+
+    # NOTE pyarrow >= 5 is needed for the mask argument
+    return pa.StructArray.from_arrays([keys, entries], names=["0", "1"], mask=mask)
+
+
+def dictionary_array_from_storage(storage: pa.StructArray) -> pa.DictionaryArray:
+    """Create a pyarrow DictionaryArray from the storage of a struct dictionary
+    encoded array without looping over the values in Python.
+
+    Returns None if the first occurrence of a key is not part of the storage, which
+    can happen if the storage is a slice of a larger array.
+    """
+    keys, values = storage.flatten()
+    is_first = values.is_valid()
+    dictionary = values.filter(is_first)
+    indices = pc.index_in(keys, value_set=keys.filter(is_first))
+    if indices.null_count != keys.null_count:
+        return None
+    return pa.DictionaryArray.from_arrays(indices, dictionary)
+
+
+def rebatch_struct_dict_encoded_array(
+    array: pa.ChunkedArray, batch_lengths: List[int]
+) -> Optional[List[pa.ExtensionArray]]:
+    """Split a chunked struct dictionary encoded array into arrays of the given
+    (positive) lengths, which may cut through chunks or span multiple chunks.
+
+    Slicing or concatenating the storage would lose the values of the keys whose first
+    occurrence is not part of the batch, so each batch is encoded anew from the
+    dictionaries of the chunks it covers.
+
+    Returns None if a chunk is not encoded on its own (e.g. a slice of a larger array)
+    and therefore cannot be re-encoded.
+    """
+    chunks = []
+    for chunk in array.chunks:
+        dictionary_array = dictionary_array_from_storage(chunk.storage)
+        if dictionary_array is None:
+            return None
+        chunks.append(dictionary_array)
+
+    batches = []
+    chunk_idx = 0
+    chunk_offset = 0
+    for batch_length in batch_lengths:
+        indices = []
+        dictionaries = []
+        dictionary_offset = 0
+        remaining = batch_length
+        while remaining > 0:
+            chunk = chunks[chunk_idx]
+            if chunk_offset == len(chunk):
+                chunk_idx += 1
+                chunk_offset = 0
+                continue
+            piece = chunk.slice(chunk_offset, min(remaining, len(chunk) - chunk_offset))
+            # the dictionaries of the pieces are concatenated, so their indices move
+            indices.append(pc.add(piece.indices.cast(pa.int64()), dictionary_offset))
+            dictionaries.append(chunk.dictionary)
+            dictionary_offset += len(chunk.dictionary)
+            chunk_offset += len(piece)
+            remaining -= len(piece)
+        dictionary_array = pa.DictionaryArray.from_arrays(
+            pa.concat_arrays(indices), pa.concat_arrays(dictionaries)
+        )
+        storage = create_storage_for_dictionary_array(
+            dictionary_array, array.type.key_type
+        )
+        batches.append(pa.ExtensionArray.from_storage(array.type, storage))
+    return batches
+
+
 class StructDictEncodedType(pa.ExtensionType):
     def __init__(self, inner_type, key_type=None):
         if key_type is None:
@@ -558,9 +659,6 @@ class StructDictEncodedArray(_AbstractArray, pa.ExtensionArray):
     # There are some more methods on pyarrow.Array that usually use Arrow compute.
     # We should implement some or all of them.
 
-    # TODO(AP-17517)
-    # Implement a function which undos the dictionary encoding.
-
     # TODO(AP-17516)
     # The function _value_index should be benchmarked and optimized
 
@@ -623,8 +721,18 @@ class StructDictEncodedArray(_AbstractArray, pa.ExtensionArray):
     def _dict_values(self):
         return self.storage.flatten()[1]
 
+    def to_dictionary_array(self) -> pa.DictionaryArray:
+        """Convert this array to a pyarrow DictionaryArray with the same values."""
+        dictionary_array = dictionary_array_from_storage(self.storage)
+        if dictionary_array is None:
+            return self.dictionary_decode().dictionary_encode()
+        return dictionary_array
+
     def dictionary_decode(self):
-        # TODO use a more sophisticated mechanism. Maybe we can convert this to an (Arrow)dictionary encoded array
+        if _is_flat_type(self._value_type()):
+            dictionary_array = dictionary_array_from_storage(self.storage)
+            if dictionary_array is not None:
+                return dictionary_array.dictionary_decode()
         py_list = self.to_pylist()
         return pa.array(py_list, type=self._value_type())
 
@@ -634,6 +742,16 @@ class StructDictEncodedArray(_AbstractArray, pa.ExtensionArray):
 ###############################################################################
 
 
+def _is_flat_type(dtype: pa.DataType):
+    return not isinstance(dtype, pa.ExtensionType) and (
+        pa.types.is_primitive(dtype)
+        or pa.types.is_string(dtype)
+        or pa.types.is_large_string(dtype)
+        or pa.types.is_binary(dtype)
+        or pa.types.is_large_binary(dtype)
+    )
+
+
 def _normalize_slice_idx(index, length):
     if index < 0:
         index += length
@@ -42,7 +42,7 @@
 #  when such Node is propagated with or for interoperation with KNIME.
 # ------------------------------------------------------------------------
 import warnings
-from typing import Type, Union
+from typing import List, Tuple, Type, Union
 import bisect
 import re
 
@@ -77,11 +77,43 @@ def pandas_df_to_arrow(data_frame: pd.DataFrame, row_ids: str = "auto") -> pa.Ta
         raise TypeError(
             f"Input must be subclass of a Pandas Dataframe, but is {type(data_frame)}"
         )
+    if _is_arrow_backed(data_frame):
+        # The columns already hold pyarrow data that can be used without conversion
+        return _arrow_backed_df_to_arrow(data_frame, row_ids)
     data_frame = _make_arrow_compatible(data_frame)
     data_frame = _integrate_row_ids(data_frame, row_ids)
     return pa.Table.from_pandas(data_frame)
 
 
+def _is_arrow_backed(data_frame: pd.DataFrame) -> bool:
+    return hasattr(pd, "ArrowDtype") and all(
+        isinstance(dtype, pd.ArrowDtype) for dtype in data_frame.dtypes
+    )
+
+
+def _arrow_backed_df_to_arrow(data_frame: pd.DataFrame, row_ids: str) -> pa.Table:
+    names = [str(c) for c in data_frame.columns]
+    arrays = [
+        _to_chunked_array(pa.array(data_frame.iloc[:, i].array))
+        for i in range(len(names))
+    ]
+    if row_ids in ["auto", "keep"]:
+        row_ids_series = _create_row_ids_for_auto_keep(data_frame, row_ids)
+        names = ["<RowID>"] + names
+        arrays = [
+            _to_chunked_array(pa.array(row_ids_series.astype(str), type=pa.string()))
+        ] + arrays
+    elif row_ids != "none":
+        raise ValueError('row_ids must be one of ["auto", "keep", "none"]')
+    return pa.Table.from_arrays(arrays, names=names)
+
+
+def _to_chunked_array(array: Union[pa.Array, pa.ChunkedArray]) -> pa.ChunkedArray:
+    if isinstance(array, pa.ChunkedArray):
+        return array
+    return pa.chunked_array([array])
+
+
 def _make_arrow_compatible(data_frame: pd.DataFrame) -> pd.DataFrame:
     """
     Converts the DataFrame and any special types contained in it to a "normal" data frame that is understandable by arrow.
@@ -269,12 +301,32 @@ def _check_if_local_dt(column: pd.Series, dtype):
     return True
 
 
-def arrow_data_to_pandas_df(data: Union[pa.Table, pa.RecordBatch]) -> pd.DataFrame:
+def arrow_data_to_pandas_df(
+    data: Union[pa.Table, pa.RecordBatch], dtype_backend: str = None
+) -> pd.DataFrame:
+    if dtype_backend == "pyarrow":
+        if not hasattr(pd, "ArrowDtype"):
+            raise ValueError(
+                "dtype_backend='pyarrow' requires pandas 1.5 or newer, "
+                f"but pandas {pd.__version__} is installed."
+            )
+
+        def arrow_mapper(dtype):
+            # KNIME logical types keep their pandas extension type
+            if isinstance(dtype, pa.ExtensionType):
+                return None
+            # The pandas column shares the buffers of the pyarrow data
+            return pd.ArrowDtype(dtype)
+
+        data_frame = data.to_pandas(types_mapper=arrow_mapper)
+    elif dtype_backend is not None:
+        raise ValueError(
+            f"Unsupported dtype_backend '{dtype_backend}'. Use None or 'pyarrow'."
+        )
     # Use Pandas' String data type if available instead of "object" if we're using a
     # Pandas version that is new enough. Gives better type safety and preserves its
     # type even if all values are missing in a column.
-
-    if hasattr(pd, "StringDtype"):
+    elif hasattr(pd, "StringDtype"):
 
         def mapper(dtype):
             # TODO: maybe also try the nullable integer types of Pandas so we don't need sentinels any more?
@@ -305,6 +357,119 @@ def arrow_data_to_pandas_df(data: Union[pa.Table, pa.RecordBatch]) -> pd.DataFra
     return data_frame
 
 
+class LazyPandasDataFrame:
+    """
+    A facade of the pandas.DataFrame of a pyarrow Table that converts each column on
+    first access. Accessing a single column by name, the index, the column names or
+    the shape does not convert any other column. All other operations convert the
+    remaining columns once and are delegated to the resulting pandas.DataFrame,
+    which is also returned by to_pandas().
+
+    Note that a Series returned before the complete conversion is not a view of the
+    DataFrame that is created afterwards.
+    """
+
+    _own_attributes = (
+        "_data",
+        "_dtype_backend",
+        "_converted_columns",
+        "_index",
+        "_data_frame",
+    )
+
+    def __init__(
+        self, data: Union[pa.Table, pa.RecordBatch], dtype_backend: str = None
+    ):
+        if isinstance(data, pa.RecordBatch):
+            data = pa.Table.from_batches([data])
+        self._data = data
+        self._dtype_backend = dtype_backend
+        self._converted_columns = {}
+        self._index = None
+        self._data_frame = None
+
+    def _convert(self, column_indices: List[int]) -> pd.DataFrame:
+        # The first column holds the RowIDs that become the index
+        return arrow_data_to_pandas_df(
+            self._data.select([0] + column_indices), self._dtype_backend
+        )
+
+    @property
+    def _column_names(self) -> List[str]:
+        return self._data.column_names[1:]
+
+    @property
+    def index(self) -> pd.Index:
+        if self._data_frame is not None:
+            return self._data_frame.index
+        if self._index is None:
+            self._index = self._convert([]).index
+        return self._index
+
+    @property
+    def columns(self) -> pd.Index:
+        if self._data_frame is not None:
+            return self._data_frame.columns
+        return pd.Index(self._column_names)
+
+    @property
+    def shape(self) -> Tuple[int, int]:
+        if self._data_frame is not None:
+            return self._data_frame.shape
+        return (self._data.num_rows, len(self._column_names))
+
+    def __len__(self) -> int:
+        return self.shape[0]
+
+    def __contains__(self, key) -> bool:
+        return key in self.columns
+
+    def __iter__(self):
+        return iter(self.columns)
+
+    def __getitem__(self, key):
+        if (
+            self._data_frame is None
+            and isinstance(key, str)
+            and key in self._column_names
+        ):
+            if key not in self._converted_columns:
+                column_index = self._data.schema.get_field_index(key)
+                self._converted_columns[key] = self._convert([column_index])[key]
+            return self._converted_columns[key]
+        return self.to_pandas()[key]
+
+    def __setitem__(self, key, value):
+        self.to_pandas()[key] = value
+
+    def __getattr__(self, name):
+        if name in LazyPandasDataFrame._own_attributes:
+            # not initialized yet, e.g. while unpickling
+            raise AttributeError(name)
+        return getattr(self.to_pandas(), name)
+
+    def __repr__(self) -> str:
+        return repr(self.to_pandas())
+
+    def to_pandas(self) -> pd.DataFrame:
+        """
+        Converts the columns that have not been accessed yet and returns the complete
+        pandas.DataFrame.
+        """
+        if self._data_frame is None:
+            remaining_columns = [
+                idx + 1
+                for idx, name in enumerate(self._column_names)
+                if name not in self._converted_columns
+            ]
+            data_frame = self._convert(remaining_columns)
+            for name, column in self._converted_columns.items():
+                data_frame[name] = column
+            self._data_frame = data_frame[self._column_names]
+            self._converted_columns = None
+        return self._data_frame
+
+
 @register_extension_dtype
 class PandasLogicalTypeExtensionType(pdext.ExtensionDtype):
     def __init__(self, storage_type: pa.DataType, logical_type: str, converter):
@@ -930,6 +1095,12 @@ class KnimePandasExtensionArray(pdext.ExtensionArray):
         return f"KnimePandasExtArray({self._converter}, {self._storage_type}, {self._logical_type})"
 
     def __array__(self, dtype=None):
+        decoded = katy.decode_extension_array(self._data)
+        if decoded is not None:
+            return np.array(
+                decoded.to_pylist(),
+                dtype=np.dtype("object") if dtype is None else dtype,
+            )
         # we cannot use the pyarrow to_pylist method as this it to use the scalar representation for dictionary decoding
         return np.array(
             [self[i] for i in range(len(self))],
@@ -49,6 +49,7 @@ Arrow backend for tables used in pure-Python nodes and Python scripting nodes
 """
 
 from typing import Iterator, List, Optional, Union
+import itertools
 import pyarrow as pa
 import logging
 
@@ -153,6 +154,45 @@ def _create_table_from_pandas(data, sentinel, row_ids="auto", first_row_id=0):
     )
 
 
+def _create_table_from_polars(data, sentinel, row_ids="auto", first_row_id=0):
+    import polars as pl
+
+    if isinstance(data, pl.LazyFrame):
+        data = data.collect()
+    if not isinstance(data, pl.DataFrame):
+        raise ValueError(
+            f"Table.from_polars expects a polars.DataFrame, but got {type(data)}"
+        )
+    # A single chunk gives batches of constant size
+    data = data.rechunk().to_arrow()
+    data = data.cast(_to_knime_compatible_schema(data.schema))
+    return _create_table_from_pyarrow(
+        data, sentinel, row_ids=row_ids, first_row_id=first_row_id
+    )
+
+
+def _to_knime_compatible_schema(schema: pa.Schema) -> pa.Schema:
+    return pa.schema(
+        [f.with_type(_to_knime_compatible_type(f.type)) for f in schema],
+        metadata=schema.metadata,
+    )
+
+
+def _to_knime_compatible_type(dtype: pa.DataType) -> pa.DataType:
+    """Replaces the large and view string and list types that polars uses"""
+    if pa.types.is_large_string(dtype) or (
+        hasattr(pa.types, "is_string_view") and pa.types.is_string_view(dtype)
+    ):
+        return pa.string()
+    if pa.types.is_large_list(dtype) or pa.types.is_list(dtype):
+        return pa.list_(_to_knime_compatible_type(dtype.value_type))
+    if pa.types.is_struct(dtype):
+        return pa.struct(
+            [f.with_type(_to_knime_compatible_type(f.type)) for f in dtype]
+        )
+    return dtype
+
+
 class _ArrowBackend(knt._Backend):
     def __init__(self, sink_factory):
         self._sink_factory = sink_factory
@@ -164,6 +204,9 @@ class _ArrowBackend(knt._Backend):
     def create_table_from_pandas(self, data, sentinel, row_ids="auto"):
         return _create_table_from_pandas(data, sentinel, row_ids)
 
+    def create_table_from_polars(self, data, sentinel, row_ids="auto"):
+        return _create_table_from_polars(data, sentinel, row_ids)
+
     def create_batch_output_table(self, row_ids="keep"):
         return ArrowBatchOutputTable(self.create_sink(), row_ids=row_ids)
 
@@ -245,6 +288,9 @@ class ArrowTable(knt.Table):
     def to_pandas(
         self,
         sentinel: Optional[Union[str, int]] = None,
+        lazy: bool = False,
+        dtype_backend: Optional[str] = None,
+        preserve_dictionary: bool = False,
     ) -> "pandas.DataFrame":
         import knime._arrow._pandas as kap
 
@@ -252,21 +298,65 @@ class ArrowTable(knt.Table):
             raise RuntimeError(
                 "The column name '<RowID>' is reserved for internal purposes. Please rename the column to a different name."
             )
-        return kap.arrow_data_to_pandas_df(self.to_pyarrow(sentinel))
+        table = self.to_pyarrow(sentinel, preserve_dictionary=preserve_dictionary)
+        if lazy:
+            return kap.LazyPandasDataFrame(table, dtype_backend)
+        return kap.arrow_data_to_pandas_df(table, dtype_backend)
 
-    def to_pyarrow(self, sentinel: Optional[Union[str, int]] = None) -> pa.Table:
+    def to_pyarrow(
+        self,
+        sentinel: Optional[Union[str, int]] = None,
+        preserve_dictionary: bool = False,
+    ) -> pa.Table:
         if "<RowID>" in self.schema.column_names:
             raise RuntimeError(
                 "The column name '<RowID>' is reserved for internal purposes. Please rename the column to a different name."
             )
 
-        table = katy.unwrap_primitive_arrays(self._get_table())
+        table = katy.unwrap_primitive_arrays(
+            self._get_table(), preserve_dictionary=preserve_dictionary
+        )
 
         if sentinel is not None:
             table = katy.insert_sentinel_for_missing_values(table, sentinel)
 
         return table
 
+    def to_polars(
+        self, sentinel: Optional[Union[str, int]] = None, lazy: bool = False
+    ) -> Union["polars.DataFrame", "polars.LazyFrame"]:
+        import polars as pl
+
+        if lazy:
+            return pl.scan_pyarrow_dataset(self._to_dataset(sentinel))
+        return pl.from_arrow(self._to_native_batch_reader(sentinel).read_all())
+
+    def to_duckdb_relation(
+        self, sentinel: Optional[Union[str, int]] = None, *, connection=None
+    ) -> "duckdb.DuckDBPyRelation":
+        import duckdb
+
+        return duckdb.from_arrow(self._to_dataset(sentinel), connection=connection)
+
+    def _to_native_batch_reader(self, sentinel) -> pa.RecordBatchReader:
+        """
+        A reader over the record batches of the table in native pyarrow types, because
+        query engines do not know the KNIME extension types.
+        """
+        data = katy.to_native_types(self.to_pyarrow(sentinel))
+        batches = [data] if isinstance(data, pa.RecordBatch) else data.to_batches()
+        return pa.RecordBatchReader.from_batches(data.schema, batches)
+
+    def _to_dataset(self, sentinel) -> "pyarrow.dataset.Dataset":
+        """
+        A dataset over the record batches of the table that query engines can scan
+        with projection and filter pushdown without combining the batches first.
+        """
+        import pyarrow.dataset as pds
+
+        reader = self._to_native_batch_reader(sentinel)
+        return pds.InMemoryDataset(list(reader), schema=reader.schema)
+
     def _get_table(self) -> pa.Table:
         return self._table
 
@@ -323,11 +413,10 @@ class ArrowTable(knt.Table):
         data = self._get_table()
 
         if isinstance(data, pa.RecordBatch):
-            batches = [data]
-        else:
-            batches = self._split_table(data)
+            # A single batch can be too big for KNIME, too
+            data = pa.Table.from_batches([data])
 
-        for batch in batches:
+        for batch in self._split_table(data):
             sink.write(batch)
 
     _MAX_NUM_BYTES_PER_BATCH = (
@@ -336,19 +425,71 @@ class ArrowTable(knt.Table):
 
     def _split_table(self, data: pa.Table) -> List[pa.RecordBatch]:
         """
-        Split a table into batches of KNIMEs desired batch size.
+        Split a table into batches of KNIMEs desired batch size. The number of rows per
+        batch is chosen such that a batch holds about _MAX_NUM_BYTES_PER_BATCH bytes,
+        so tables with wide rows get fewer rows per batch than narrow tables. All
+        batches but the last one have this number of rows, which the sink reports as the
+        chunk size in the schema metadata.
         """
         if len(data) == 0:
             # Return data so that we write the schema even if no rows are present
             return [data]
 
-        desired_num_batches = data.nbytes / self._MAX_NUM_BYTES_PER_BATCH
-        if desired_num_batches < 1:
-            return data.to_batches()
-        num_rows_per_batch = int(len(data) // desired_num_batches)
-        # TODO(AP-25594) this lead to re-batching of struct-dict-encoded arrays and they
-        # won't be re-encoded properly
-        return data.to_batches(max_chunksize=num_rows_per_batch)
+        num_rows_per_batch = len(data)
+        if data.nbytes > self._MAX_NUM_BYTES_PER_BATCH:
+            num_rows_per_batch = max(
+                1, len(data) * self._MAX_NUM_BYTES_PER_BATCH // data.nbytes
+            )
+
+        batches = data.to_batches(max_chunksize=num_rows_per_batch)
+        if not all(len(batch) == num_rows_per_batch for batch in batches[:-1]):
+            # Copy the rows of each batch into contiguous arrays if they span multiple
+            # chunks, e.g. for tables that were concatenated from many small tables
+            batches = [
+                data.slice(offset, num_rows_per_batch).combine_chunks().to_batches()[0]
+                for offset in range(0, len(data), num_rows_per_batch)
+            ]
+        return self._reencode_dictionaries(data, batches)
+
+    @staticmethod
+    def _reencode_dictionaries(
+        data: pa.Table, batches: List[pa.RecordBatch]
+    ) -> List[pa.RecordBatch]:
+        """
+        Struct dict encoded columns store the value of a key only at its first
+        occurrence in a batch, so the slices and concatenations of their chunks are
+        encoded anew for each batch. Columns whose chunks line up with the batches are
+        kept as they are. If a column cannot be encoded anew because one of its chunks
+        is not encoded on its own, the chunks of the table are used as batches.
+        """
+        batch_lengths = [len(batch) for batch in batches]
+        reencoded = {}
+        for idx, column in enumerate(data.columns):
+            if not katy.is_dict_encoded_value_factory_type(column.type):
+                continue
+            chunk_lengths = [len(chunk) for chunk in column.chunks if len(chunk) > 0]
+            if chunk_lengths == batch_lengths:
+                continue
+            arrays = kas.rebatch_struct_dict_encoded_array(column, batch_lengths)
+            if arrays is None:
+                LOGGER.debug(
+                    f"Column '{data.column_names[idx]}' cannot be encoded anew, "
+                    "the table is written in its original batches."
+                )
+                return data.to_batches()
+            reencoded[idx] = arrays
+        if not reencoded:
+            return batches
+        return [
+            pa.RecordBatch.from_arrays(
+                [
+                    reencoded[idx][batch_idx] if idx in reencoded else column
+                    for idx, column in enumerate(batch.columns)
+                ],
+                schema=batch.schema,
+            )
+            for batch_idx, batch in enumerate(batches)
+        ]
 
 
 class ArrowSourceTable(ArrowTable):
@@ -384,10 +525,12 @@ class ArrowSourceTable(ArrowTable):
     def num_batches(self) -> int:
         return len(self._source)
 
-    def batches(self) -> Iterator[knt.Table]:
+    def batches(self, num_batches_ahead: int = 0) -> Iterator[knt.Table]:
         """
         Returns a generator for the batches in this table. If the generator is advanced to a batch
-        that is not available yet, it will block until the data is present.
+        that is not available yet, it will block until the data is present. If num_batches_ahead
+        is larger than 0, the batches are prefetched on a background thread, see
+        ArrowDataSource.batches.
 
         **Example**::
 
@@ -397,10 +540,37 @@ class ArrowSourceTable(ArrowTable):
                 # process the batch
                 processed_table.append(Table.from_pandas(input_batch))
         """
-        batch_idx = 0
-        while batch_idx < len(self._source):
-            yield ArrowTable(self._source[batch_idx])
-            batch_idx += 1
+        if num_batches_ahead < 0:
+            raise ValueError(
+                f"num_batches_ahead must not be negative, but got {num_batches_ahead}."
+            )
+        for batch in self._source.batches(num_batches_ahead=num_batches_ahead):
+            yield ArrowTable(batch)
+
+    def _to_native_batch_reader(self, sentinel) -> pa.RecordBatchReader:
+        """
+        Converts the batches of the source one by one while the reader is consumed,
+        so the table is never combined or converted as a whole.
+        """
+        batches = (batch.to_pyarrow(sentinel) for batch in self.batches())
+        first = next(batches, None)
+        if first is None:
+            return super()._to_native_batch_reader(sentinel)
+        first = katy.to_native_types(first)
+        converted = itertools.chain(
+            [first], (katy.to_native_types(batch, first.schema) for batch in batches)
+        )
+        return pa.RecordBatchReader.from_batches(first.schema, converted)
+
+    def _to_dataset(self, sentinel) -> "pyarrow.dataset.Dataset":
+        """
+        A dataset that streams the batches of the source, which can only be scanned
+        once.
+        """
+        import pyarrow.dataset as pds
+
+        reader = self._to_native_batch_reader(sentinel)
+        return pds.InMemoryDataset(reader, schema=reader.schema)
 
     def _inject_metadata(self, metadata_provider):
         """
@@ -48,7 +48,7 @@ Arrow implementation of the knime.api.types.
 @author Adrian Nembach, KNIME GmbH, Konstanz, Germany
 """
 
-from typing import Union, List, Callable
+from typing import Union, List, Callable, Optional
 import bisect
 
 import knime.api.types as kt
@@ -1034,6 +1034,9 @@ class KnimeExtensionArray(pa.ExtensionArray):
 
     def to_pylist(self, maps_as_pydicts=None):
         if maps_as_pydicts is None:
+            decoded = decode_extension_array(self)
+            if decoded is not None:
+                return decoded.to_pylist()
             return [self[i].as_py() for i in range(len(self))]
         else:
             return [
@@ -1041,17 +1044,50 @@ class KnimeExtensionArray(pa.ExtensionArray):
             ]
 
     def to_pandas(self):
+        decoded = decode_extension_array(self)
+        if decoded is not None:
+            return _decoded_array_to_pandas(decoded)
         # TODO use super method and pass through arguments (i.e. essentially decorate the super implementation)
         series = self.storage.to_pandas()
         return series.apply(self.type.decode, convert_dtype=False)
 
     def to_numpy(self, dtype=None):
+        decoded = decode_extension_array(self)
+        if decoded is not None:
+            return _decoded_array_to_pandas(decoded).to_numpy(dtype=dtype)
         # TODO same as for to_pandas
         ndarray = self.storage.to_numpy(zero_copy_only=False)
         # TODO we might need different converters for different libraries
         return np.array([self.type.decode(x) for x in ndarray], dtype=dtype)
 
 
+def decode_extension_array(
+    array: Union[pa.Array, pa.ChunkedArray],
+) -> Union[pa.Array, pa.ChunkedArray]:
+    """
+    Decodes all values of a LogicalTypeExtensionType array at once if the value
+    factory provides a vectorized decoder. Returns an array of a native pyarrow type
+    or None if the values have to be decoded one by one.
+    """
+    if not is_value_factory_type(array.type) or array.type._converter is None:
+        return None
+    if isinstance(array, pa.ChunkedArray):
+        chunks = [decode_extension_array(chunk) for chunk in array.chunks]
+        if len(chunks) == 0 or any(chunk is None for chunk in chunks):
+            return None
+        return pa.chunked_array(chunks)
+    return array.type._converter.decode_array(array.storage)
+
+
+def _decoded_array_to_pandas(decoded: pa.Array):
+    if pa.types.is_duration(decoded.type):
+        # pandas would use timedelta64[ns] which has a smaller value range
+        import pandas as pd
+
+        return pd.Series(decoded.to_pylist(), dtype=object)
+    return decoded.to_pandas(date_as_object=True, timestamp_as_object=True)
+
+
 class KnimeExtensionScalar:
     """
     Mimics the behavior of an Arrow Scalar.
@@ -1201,13 +1237,25 @@ def _is_knime_primitive_type(dtype):
     )
 
 
-def _unwrap_primitive_knime_extension_array(array: pa.Array) -> pa.Array:
+def _is_dict_encoded_knime_string_type(dtype):
+    return (
+        is_dict_encoded_value_factory_type(dtype)
+        and dtype.value_factory_type.logical_type
+        == _arrow_to_knime_primitive_types[pa.string()]
+    )
+
+
+def _unwrap_primitive_knime_extension_array(
+    array: pa.Array, preserve_dictionary: bool = False
+) -> pa.Array:
     """
     Unpacks array if it holds primitive types (int, double, string and so on) or a
     list of primitive types. Otherwise, returns the unchanged array.
 
     Args:
         array: A pa.Array
+        preserve_dictionary: Whether dictionary encoded strings are returned as
+            pa.DictionaryArray, which pandas turns into a Categorical
     """
     if (
         is_value_factory_type(array.type)
@@ -1217,7 +1265,9 @@ def _unwrap_primitive_knime_extension_array(array: pa.Array) -> pa.Array:
         # special handling for unspecific list types: we unwrap the values
         # and maintain the offsets and validity mask
         offsets = _get_offsets_with_nulls(array.storage)
-        values = _unwrap_primitive_knime_extension_array(array.storage.values)
+        values = _unwrap_primitive_knime_extension_array(
+            array.storage.values, preserve_dictionary
+        )
         return _create_list_array(offsets, values)
     elif (
         is_value_factory_type(array.type)
@@ -1229,15 +1279,21 @@ def _unwrap_primitive_knime_extension_array(array: pa.Array) -> pa.Array:
         return pa.nulls(len(array))
     elif _is_knime_primitive_type(array.type):
         return array.storage
+    elif preserve_dictionary and _is_dict_encoded_knime_string_type(array.type):
+        return array.to_dictionary_array()
     else:
         return array
 
 
 def unwrap_primitive_arrays(
     table: Union[pa.Table, pa.RecordBatch],
+    preserve_dictionary: bool = False,
 ) -> Union[pa.Table, pa.RecordBatch]:
     arrays = [
-        _apply_to_array(column, _unwrap_primitive_knime_extension_array)
+        _apply_to_array(
+            column,
+            lambda a: _unwrap_primitive_knime_extension_array(a, preserve_dictionary),
+        )
         for column in table.columns
     ]
 
@@ -1247,6 +1303,79 @@ def unwrap_primitive_arrays(
         return pa.RecordBatch.from_arrays(arrays, names=table.schema.names)
 
 
+def _to_native_array(array: pa.Array, decode: bool = True) -> pa.Array:
+    """
+    Replaces the extension types in the (possibly nested) array by native pyarrow
+    types. If decode is True, the values of value factories with a vectorized decoder
+    are decoded, e.g. to dates and timestamps. All other extension types are replaced
+    by their storage.
+    """
+    if isinstance(array.type, pa.ExtensionType):
+        decoded = decode_extension_array(array) if decode else None
+        if decoded is not None:
+            return decoded
+        return _to_native_array(array.storage, decode)
+    elif pat.is_list(array.type) or pat.is_large_list(array.type):
+        return _create_list_array(
+            _get_offsets_with_nulls(array), _to_native_array(array.values, decode)
+        )
+    elif pat.is_struct(array.type):
+        children = [
+            _to_native_array(array.field(i), decode)
+            for i in range(array.type.num_fields)
+        ]
+        return pa.StructArray.from_arrays(
+            children,
+            fields=[
+                pa.field(array.type[i].name, child.type)
+                for i, child in enumerate(children)
+            ],
+            mask=array.is_null(),
+        )
+    else:
+        return array
+
+
+def to_native_types(
+    table: Union[pa.Table, pa.RecordBatch], schema: Optional[pa.Schema] = None
+) -> Union[pa.Table, pa.RecordBatch]:
+    """
+    Replaces all extension types in the table by native pyarrow types, so that
+    engines that do not know the KNIME extension types, like polars and DuckDB, can
+    read it. See _to_native_array.
+
+    The decoders only succeed if all values can be represented by the native type, so
+    a column is kept in its storage types if any of its chunks cannot be decoded. If a
+    schema is given, e.g. the one of a previous batch of a stream, the columns are
+    converted to its types.
+    """
+    arrays = []
+    for i, column in enumerate(table.columns):
+        is_chunked = isinstance(column, pa.ChunkedArray)
+        if not is_chunked:
+            chunks = [column]
+        elif column.num_chunks == 0:
+            chunks = [column.combine_chunks()]
+        else:
+            chunks = column.chunks
+
+        converted = [_to_native_array(chunk) for chunk in chunks]
+        target_type = converted[0].type if schema is None else schema.field(i).type
+        if any(chunk.type != target_type for chunk in converted):
+            converted = [_to_native_array(chunk, decode=False) for chunk in chunks]
+        if schema is not None and converted[0].type != target_type:
+            raise ValueError(
+                f"The values of column '{table.schema.names[i]}' cannot be converted "
+                f"to {target_type} in all batches of the table."
+            )
+        arrays.append(pa.chunked_array(converted) if is_chunked else converted[0])
+
+    if isinstance(table, pa.Table):
+        return pa.Table.from_arrays(arrays, names=table.column_names)
+    else:
+        return pa.RecordBatch.from_arrays(arrays, names=table.schema.names)
+
+
 def _get_wrapped_type(dtype, is_row_key):
     if is_row_key and dtype == pa.string():  # if we deal with the rowkey
         return LogicalTypeExtensionType(
@@ -1298,12 +1427,18 @@ def _get_wrapped_type(dtype, is_row_key):
             outer_logical_type,
         )
         return outer_ext_type
-    # for dictionary decoded types
+    # string dictionaries are stored struct dict encoded, other dictionaries decoded
     elif isinstance(dtype, pa.DictionaryType):
         logical_type = _arrow_to_knime_primitive_types[dtype.value_type]
-        return LogicalTypeExtensionType(
+        value_factory_type = LogicalTypeExtensionType(
             kt.get_converter(logical_type), dtype.value_type, logical_type
         )
+        if dtype.value_type == pa.string():
+            return StructDictEncodedLogicalTypeExtensionType(
+                value_factory_type,
+                kasde.StructDictEncodedType(dtype.value_type, key_type=pa.uint32()),
+            )
+        return value_factory_type
     else:
         return None
 
@@ -1366,7 +1501,9 @@ def _wrap_primitive_array(
     """
     wrapped_type = _get_wrapped_type(array.type, is_row_key)
     if wrapped_type is None:
-        if not is_value_factory_type(array.type):
+        if not is_value_factory_type(
+            array.type
+        ) and not is_dict_encoded_value_factory_type(array.type):
             raise ValueError(
                 f"Data type '{array.type}' in column '{column_name}' is not supported in KNIME Python."
                 + " Please use a different data type."
@@ -1396,6 +1533,18 @@ def _wrap_primitive_array(
             array,
             to_list_of_nulls,
         )
+    elif isinstance(
+        array.type, pa.DictionaryType
+    ) and is_dict_encoded_value_factory_type(wrapped_type):
+        # pyarrow string dictionaries are converted to the struct dict encoding of
+        # KNIME without decoding the values
+        return _apply_to_array(
+            array,
+            lambda a: pa.ExtensionArray.from_storage(
+                wrapped_type,
+                kasde.create_storage_for_dictionary_array(a, wrapped_type.key_type),
+            ),
+        )
     # if we have dictionary encoding on the pyarrow site we use pa's decoding before wrapping
     elif isinstance(array.type, pa.DictionaryType):
         return _apply_to_array(
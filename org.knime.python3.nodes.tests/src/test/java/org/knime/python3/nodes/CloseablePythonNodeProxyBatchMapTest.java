@@ -0,0 +1,219 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python3.nodes;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.port.PortType;
+import org.knime.python3.arrow.PythonArrowDataSink;
+import org.knime.python3.arrow.PythonArrowDataSource;
+import org.knime.python3.arrow.PythonArrowTableConverter;
+import org.knime.python3.nodes.CloseablePythonNodeProxyFactory.CloseableGatewayWithAttachments;
+import org.knime.python3.nodes.extension.ExtensionNode;
+import org.knime.python3.nodes.ports.PythonPortObjects.PurePythonTablePortObject;
+import org.knime.python3.nodes.ports.PythonPortObjects.PythonPortObject;
+import org.knime.python3.nodes.ports.PythonPortObjects.PythonTablePortObject;
+import org.knime.python3.nodes.ports.converters.PortObjectConversionContext;
+import org.knime.python3.nodes.proxy.PythonNodeProxy;
+import org.knime.python3.nodes.proxy.model.NodeModelProxy.CredentialsProviderProxy;
+import org.knime.python3.nodes.proxy.model.NodeModelProxy.FlowVariablesProxy;
+import org.knime.python3.nodes.proxy.model.NodeModelProxy.WarningConsumer;
+import org.knime.python3.nodes.proxy.model.NodeModelProxy.WorkflowPropertiesProxy;
+import org.knime.python3.nodes.settings.JsonNodeSettings;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Tests the parallel execution of batch-map nodes on multiple workers in {@link CloseablePythonNodeProxy}. The Python
+ * processes are replaced by mocks that record the batch range they receive and return one sink per range.
+ */
+@SuppressWarnings("javadoc")
+public class CloseablePythonNodeProxyBatchMapTest {
+
+    private static final int NUM_BATCHES = 5;
+
+    private final BufferedDataTable m_table = mock(BufferedDataTable.class);
+
+    private final PythonArrowTableConverter m_tableManager = mock(PythonArrowTableConverter.class);
+
+    private final ExecutionContext m_exec = mock(ExecutionContext.class);
+
+    private final JsonNodeSettings m_settings = mock(JsonNodeSettings.class);
+
+    /** The sink returned for the range that starts at the key batch. */
+    private final Map<Integer, PythonArrowDataSink> m_sinksByFirstBatch = new ConcurrentHashMap<>();
+
+    /** The number of batches of the range that starts at the key batch. */
+    private final Map<Integer, Integer> m_numBatchesByFirstBatch = new ConcurrentHashMap<>();
+
+    private final List<CloseablePythonNodeProxy> m_workers = new ArrayList<>();
+
+    /** If set, the additional workers fail with this exception instead of returning a sink. */
+    private InvalidSettingsException m_workerFailure;
+
+    public CloseablePythonNodeProxyBatchMapTest() {
+        when(m_exec.createSubExecutionContext(anyDouble())).thenReturn(m_exec);
+    }
+
+    private static PythonArrowDataSource source() {
+        var source = mock(PythonArrowDataSource.class);
+        when(source.numBatches()).thenReturn(NUM_BATCHES);
+        return source;
+    }
+
+    /** Stubs the Python execution of the given proxy to record the range it receives and to return a new sink. */
+    @SuppressWarnings("unchecked")
+    private void stubExecution(final CloseablePythonNodeProxy proxy) throws InvalidSettingsException {
+        doAnswer(invocation -> {
+            var inputConverter = (Function<PortObjectConversionContext, PythonPortObject[]>)invocation.getArgument(1);
+            var input = (PythonTablePortObject)inputConverter.apply(null)[0];
+            var range = (PythonArrowDataSource)input.getDataSource();
+            var sink = mock(PythonArrowDataSink.class);
+            m_sinksByFirstBatch.put(range.getFirstBatchIndex(), sink);
+            m_numBatchesByFirstBatch.put(range.getFirstBatchIndex(), range.numBatches());
+            var output = mock(PurePythonTablePortObject.class);
+            when(output.getPythonArrowDataSink()).thenReturn(sink);
+            return List.of(output);
+        }).when(proxy).executeInPython(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(),
+            any());
+    }
+
+    private CloseablePythonNodeProxy createProxy() throws InvalidSettingsException {
+        var proxy = spy(new CloseablePythonNodeProxy(mock(PythonNodeProxy.class),
+            mock(CloseableGatewayWithAttachments.class), mock(ExtensionNode.class), () -> {
+                var worker = mock(CloseablePythonNodeProxy.class);
+                try {
+                    if (m_workerFailure == null) {
+                        stubExecution(worker);
+                    } else {
+                        doThrow(m_workerFailure).when(worker).executeInPython(any(), any(), any(), any(), any(), any(),
+                            any(), any(), any(), any(), any(), any());
+                    }
+                } catch (InvalidSettingsException ex) {
+                    throw new IllegalStateException(ex);
+                }
+                m_workers.add(worker);
+                return worker;
+            }));
+        proxy.loadValidatedSettings(m_settings);
+        stubExecution(proxy);
+        return proxy;
+    }
+
+    private PortType[] outputPortTypes() {
+        return new PortType[]{BufferedDataTable.TYPE};
+    }
+
+    @Test
+    public void testBatchRangesAreExecutedOnWorkersAndConcatenatedInOrder() throws Exception {
+        var proxy = createProxy();
+        var output = mock(BufferedDataTable.class);
+        when(m_tableManager.convertToConcatenatedTable(anyList(), any())).thenReturn(output);
+
+        var result = proxy.executeBatchMapInParallel(m_table, source(), 3, m_tableManager, outputPortTypes(), m_exec,
+            mock(FlowVariablesProxy.class), mock(CredentialsProviderProxy.class), mock(WorkflowPropertiesProxy.class),
+            mock(WarningConsumer.class));
+
+        assertSame(output, result.getPortObjects()[0]);
+        // 5 batches on 3 workers: [0, 1), [1, 3) and [3, 5)
+        assertEquals(Map.of(0, 1, 1, 2, 3, 2), m_numBatchesByFirstBatch);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PythonArrowDataSink>> sinks = ArgumentCaptor.forClass(List.class);
+        verify(m_tableManager).convertToConcatenatedTable(sinks.capture(), any());
+        assertEquals(
+            List.of(m_sinksByFirstBatch.get(0), m_sinksByFirstBatch.get(1), m_sinksByFirstBatch.get(3)),
+            sinks.getValue());
+
+        // this proxy processes the first range, two additional workers are started and closed afterwards
+        assertEquals(2, m_workers.size());
+        for (var worker : m_workers) {
+            verify(worker).loadValidatedSettings(m_settings);
+            verify(worker).close();
+        }
+    }
+
+    @Test
+    public void testFailingWorkerFailsExecutionAndClosesWorkers() throws Exception {
+        var proxy = createProxy();
+        var failure = new InvalidSettingsException("Failure in the second worker");
+        m_workerFailure = failure;
+
+        var thrown = assertThrows(InvalidSettingsException.class,
+            () -> proxy.executeBatchMapInParallel(m_table, source(), 2, m_tableManager, outputPortTypes(), m_exec,
+                mock(FlowVariablesProxy.class), mock(CredentialsProviderProxy.class),
+                mock(WorkflowPropertiesProxy.class), mock(WarningConsumer.class)));
+
+        assertSame(failure, thrown);
+        verify(m_tableManager, never()).convertToConcatenatedTable(anyList(), any());
+        assertEquals(1, m_workers.size());
+        verify(m_workers.get(0)).close();
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python3.nodes;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.KNIMEException;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.python3.nodes.proxy.NodeProxyProvider;
+import org.knime.python3.nodes.proxy.model.NodeExecutionProxy;
+import org.knime.python3.nodes.proxy.model.NodeExecutionProxy.ExecutionResult;
+
+/**
+ * Tests the streaming execution of batch-streamable Python nodes in {@link DelegatingNodeModel}.
+ */
+@SuppressWarnings("javadoc")
+public class DelegatingNodeModelStreamingTest {
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("value", StringCell.TYPE).createSpec());
+
+    private static DataRow row(final String key, final String value) {
+        return new DefaultRow(new RowKey(key), new StringCell(value));
+    }
+
+    private static BufferedDataTable table(final List<DataRow> rows) {
+        var table = mock(BufferedDataTable.class);
+        when(table.size()).thenReturn((long)rows.size());
+        when(table.iterator()).thenAnswer(invocation -> iterator(rows));
+        return table;
+    }
+
+    private static CloseableRowIterator iterator(final List<DataRow> rows) {
+        Iterator<DataRow> iterator = rows.iterator();
+        return new CloseableRowIterator() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public DataRow next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void close() {
+                // nothing to close
+            }
+        };
+    }
+
+    private static ExecutionContext createExecutionContext() {
+        var exec = mock(ExecutionContext.class);
+        when(exec.createDataContainer(any(DataTableSpec.class))).thenAnswer(invocation -> {
+            var rows = new ArrayList<DataRow>();
+            var container = mock(BufferedDataContainer.class);
+            doAnswer(addRow -> rows.add(addRow.getArgument(0))).when(container).addRowToTable(any());
+            when(container.getTable()).thenAnswer(getTable -> table(rows));
+            return container;
+        });
+        return exec;
+    }
+
+    private static RowInput input(final int numRows) throws InterruptedException {
+        var input = mock(RowInput.class);
+        when(input.getDataTableSpec()).thenReturn(SPEC);
+        var rows = IntStream.range(0, numRows).mapToObj(i -> row("Row" + i, "value" + i)).toList();
+        var remaining = new ArrayList<>(rows);
+        when(input.poll()).thenAnswer(invocation -> remaining.isEmpty() ? null : remaining.remove(0));
+        return input;
+    }
+
+    /**
+     * @param pythonNode maps the index of the row within the chunk and the input row to the output row
+     */
+    private static DelegatingNodeModel createNodeModel(final NodeExecutionProxy node,
+        final BiFunction<Integer, DataRow, DataRow> pythonNode) throws Exception {
+        doReturn(CompletableFuture.completedFuture(null)).when(node).asynchronousClose();
+        when(node.execute(any(), any(), any(), any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            var chunk = (BufferedDataTable)invocation.<PortObject[]> getArgument(0)[0];
+            var outputRows = new ArrayList<DataRow>();
+            for (var inputRow : chunk) {
+                outputRows.add(pythonNode.apply(outputRows.size(), inputRow));
+            }
+            var result = mock(ExecutionResult.class);
+            when(result.getPortObjects()).thenReturn(new PortObject[]{table(outputRows)});
+            return result;
+        });
+        var proxyProvider = mock(NodeProxyProvider.class);
+        when(proxyProvider.getExecutionProxy(any())).thenReturn(node);
+        var tablePorts = new PortType[]{BufferedDataTable.TYPE};
+        return new DelegatingNodeModel(proxyProvider, tablePorts, tablePorts, "1.0.0", Map.of(), Map.of(), false,
+            true);
+    }
+
+    @Test
+    public void testStreamingExecutesEachChunk() throws Exception {
+        var node = mock(NodeExecutionProxy.class);
+        var nodeModel = createNodeModel(node, (index, inputRow) -> row(inputRow.getKey().getString(),
+            ((StringCell)inputRow.getCell(0)).getStringValue().toUpperCase()));
+        var output = mock(RowOutput.class);
+        var pushedRows = new ArrayList<DataRow>();
+        doAnswer(invocation -> pushedRows.add(invocation.getArgument(0))).when(output).push(any());
+
+        nodeModel.executeStreaming(input(5), output, createExecutionContext(), 2);
+
+        verify(node, times(3)).execute(any(), any(), any(), any(), any(), any(), any(), any());
+        assertEquals(5, pushedRows.size());
+        for (var i = 0; i < 5; i++) {
+            assertEquals("Row" + i, pushedRows.get(i).getKey().getString());
+            assertEquals("VALUE" + i, ((StringCell)pushedRows.get(i).getCell(0)).getStringValue());
+        }
+        verify(output).close();
+    }
+
+    @Test
+    public void testStreamingFailsOnRowIdsThatRepeatAcrossChunks() throws Exception {
+        var node = mock(NodeExecutionProxy.class);
+        // creates the RowIDs Row0, Row1, ... for every chunk
+        var nodeModel = createNodeModel(node, (index, inputRow) -> row("Row" + index, "value"));
+        var output = mock(RowOutput.class);
+
+        var ex = assertThrows(KNIMEException.class,
+            () -> nodeModel.executeStreaming(input(5), output, createExecutionContext(), 2));
+        assertTrue(ex.getMessage(), ex.getMessage().contains("unique across chunks"));
+    }
+}
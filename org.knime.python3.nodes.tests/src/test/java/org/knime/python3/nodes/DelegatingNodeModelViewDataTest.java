@@ -0,0 +1,267 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python3.nodes;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.util.FileUtil;
+import org.knime.python3.nodes.DelegatingNodeModel.ViewData;
+import org.knime.python3.nodes.DelegatingNodeModel.ViewData.BackendViewData;
+import org.knime.python3.nodes.DelegatingNodeModel.ViewData.VirtualProject;
+
+/**
+ * Contains unit tests for the persistence of the {@link ViewData} and its {@link VirtualProject} in
+ * {@link DelegatingNodeModel}.
+ */
+@SuppressWarnings("javadoc")
+public class DelegatingNodeModelViewDataTest {
+
+    private static final String VIEW_DATA_FILE = "internal_view_data_v2.gz";
+
+    private static final String LEGACY_VIEW_DATA_FILE = "internal_view_data.gz";
+
+    private static final String PROJECTS_DIRECTORY = ".python_virtual_projects";
+
+    private static final String PROJECT_CONTENT = "content of the virtual project";
+
+    @Rule
+    public TemporaryFolder m_tempFolder = new TemporaryFolder();
+
+    private Path m_workflowDir;
+
+    @Before
+    public void createWorkflow() throws IOException {
+        m_workflowDir = m_tempFolder.newFolder("workflow").toPath();
+        Files.createFile(m_workflowDir.resolve("workflow.knime"));
+        NodeContext.pushContext(mock(NativeNodeContainer.class));
+    }
+
+    @After
+    public void removeContext() {
+        NodeContext.removeLastContext();
+    }
+
+    private static Path createNodeInternals(final Path parent, final String nodeName) throws IOException {
+        return Files.createDirectories(parent.resolve(nodeName).resolve("internal"));
+    }
+
+    /** The zipped workflow as it was written by older versions, with a single root directory */
+    private static byte[] zipProject() throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry("virtual_project/workflow.knime"));
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("virtual_project/data.txt"));
+            zip.write(PROJECT_CONTENT.getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeLegacyViewData(final Path nodeInternals, final byte[] blob) throws IOException {
+        try (var out = new DataOutputStream(
+            new GZIPOutputStream(Files.newOutputStream(nodeInternals.resolve(LEGACY_VIEW_DATA_FILE))))) {
+            out.writeUTF("frontend");
+            out.writeUTF("backend");
+            out.writeInt(0);
+            out.writeInt(1);
+            out.writeUTF("port");
+            out.writeBoolean(true);
+            out.writeInt(blob.length);
+            out.write(blob);
+        }
+    }
+
+    /** Loads legacy view data with a zipped workflow and saves it in the current format */
+    private Path createNodeWithProject(final String nodeName) throws IOException {
+        var internals = createNodeInternals(m_workflowDir, nodeName);
+        writeLegacyViewData(internals, zipProject());
+        var viewData = ViewData.load(internals.toFile());
+        viewData.save(internals.toFile());
+        viewData.dispose();
+        return internals;
+    }
+
+    private Path getProjectDir(final String nodeName) {
+        return m_workflowDir.resolve(PROJECTS_DIRECTORY).resolve(nodeName);
+    }
+
+    private Path getHostNodeFile(final String nodeName) {
+        return m_workflowDir.resolve(PROJECTS_DIRECTORY).resolve(nodeName + ".host_node");
+    }
+
+    private static void assertProjectContent(final Path projectDir) throws IOException {
+        assertEquals(PROJECT_CONTENT, Files.readString(projectDir.resolve("data.txt"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testSaveAndLoadWithoutProject() throws IOException {
+        var internals = createNodeInternals(m_workflowDir, "Node1").toFile();
+        new ViewData("frontend", new BackendViewData("backend", new PortObject[0], new String[]{"port"}, null))
+            .save(internals);
+
+        assertTrue(new File(internals, VIEW_DATA_FILE).exists());
+        assertFalse(new File(internals, LEGACY_VIEW_DATA_FILE).exists());
+        assertFalse(Files.exists(m_workflowDir.resolve(PROJECTS_DIRECTORY)));
+
+        var viewData = ViewData.load(internals);
+        assertEquals("frontend", viewData.getFrontendData());
+        assertEquals("backend", viewData.getBackendData().data());
+        assertNull(viewData.getBackendData().virtualProject());
+        // the ports reference nodes of the virtual project
+        assertArrayEquals(new String[0], viewData.getBackendData().portIds());
+    }
+
+    @Test
+    public void testLoadWithoutViewData() throws IOException {
+        assertNull(ViewData.load(createNodeInternals(m_workflowDir, "Node1").toFile()));
+    }
+
+    @Test
+    public void testLegacyProjectIsMovedToWorkflowDirectory() throws IOException {
+        var internals = createNodeInternals(m_workflowDir, "Node1");
+        writeLegacyViewData(internals, zipProject());
+
+        var legacyViewData = ViewData.load(internals.toFile());
+        assertEquals("frontend", legacyViewData.getFrontendData());
+        assertNotNull(legacyViewData.getBackendData().virtualProject());
+        assertArrayEquals(new String[]{"port"}, legacyViewData.getBackendData().portIds());
+
+        legacyViewData.save(internals.toFile());
+        // older versions do not find the view data instead of failing to read the new format
+        assertFalse(Files.exists(internals.resolve(LEGACY_VIEW_DATA_FILE)));
+        assertTrue(Files.exists(internals.resolve(VIEW_DATA_FILE)));
+        assertProjectContent(getProjectDir("Node1"));
+        assertEquals(Path.of("Node1", "internal", VIEW_DATA_FILE).toString(),
+            Files.readString(getHostNodeFile("Node1"), StandardCharsets.UTF_8));
+
+        // the saved project is copied when the node is copied
+        var viewData = ViewData.load(internals.toFile());
+        assertNotNull(viewData.getBackendData().virtualProject());
+        assertArrayEquals(new String[]{"port"}, viewData.getBackendData().portIds());
+        viewData.save(createNodeInternals(m_workflowDir, "Node2").toFile());
+        assertProjectContent(getProjectDir("Node2"));
+        assertProjectContent(getProjectDir("Node1"));
+    }
+
+    @Test
+    public void testMissingProjectDirectoryIsDropped() throws IOException {
+        var internals = createNodeWithProject("Node1");
+        FileUtil.deleteRecursively(getProjectDir("Node1").toFile());
+
+        var viewData = ViewData.load(internals.toFile());
+        assertEquals("frontend", viewData.getFrontendData());
+        assertNull(viewData.getBackendData().virtualProject());
+        assertArrayEquals(new String[0], viewData.getBackendData().portIds());
+    }
+
+    @Test
+    public void testProjectOutsideOfWorkflowIsSavedInInternals() throws IOException {
+        var internals = createNodeInternals(m_tempFolder.newFolder("no_workflow").toPath(), "Node1");
+        writeLegacyViewData(internals, zipProject());
+        ViewData.load(internals.toFile()).save(internals.toFile());
+
+        assertProjectContent(internals.resolve("virtual_project"));
+        assertFalse(Files.exists(m_workflowDir.resolve(PROJECTS_DIRECTORY)));
+
+        var viewData = ViewData.load(internals.toFile());
+        assertNotNull(viewData.getBackendData().virtualProject());
+        viewData.dispose();
+    }
+
+    @Test
+    public void testDeleteUnreferencedProjects() throws IOException {
+        createNodeWithProject("Node1");
+        createNodeWithProject("Node2");
+        var resetInternals = createNodeWithProject("Node3");
+        // the host node file of older versions references the node directory
+        createNodeInternals(m_workflowDir, "Node4");
+        Files.createDirectories(getProjectDir("Node4"));
+        Files.writeString(getHostNodeFile("Node4"), "Node4", StandardCharsets.UTF_8);
+
+        // KNIME deletes the directories of deleted nodes and the internals of reset nodes on save
+        FileUtil.deleteRecursively(m_workflowDir.resolve("Node2").toFile());
+        FileUtil.deleteRecursively(resetInternals.toFile());
+        VirtualProject.deleteUnreferencedProjects(m_workflowDir.resolve(PROJECTS_DIRECTORY).toFile());
+
+        assertProjectContent(getProjectDir("Node1"));
+        assertTrue(Files.exists(getHostNodeFile("Node1")));
+        assertFalse(Files.exists(getProjectDir("Node2")));
+        assertFalse(Files.exists(getHostNodeFile("Node2")));
+        assertFalse(Files.exists(getProjectDir("Node3")));
+        assertFalse(Files.exists(getHostNodeFile("Node3")));
+        assertTrue(Files.exists(getProjectDir("Node4")));
+        assertTrue(Files.exists(getHostNodeFile("Node4")));
+    }
+}
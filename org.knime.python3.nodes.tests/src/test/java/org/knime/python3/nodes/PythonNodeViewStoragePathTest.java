@@ -0,0 +1,246 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python3.nodes;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knime.python3.views.PythonNodeViewStoragePath;
+import org.knime.python3.views.ViewResources;
+
+/**
+ * Contains unit tests for the storage of the shared scripts of Python node views in {@link PythonNodeViewStoragePath}.
+ */
+@SuppressWarnings("javadoc")
+public class PythonNodeViewStoragePathTest {
+
+    private static final String ASSET_DIRECTORY = ".python_view_assets";
+
+    private static final Pattern ASSET_REFERENCE = Pattern.compile("src=\"python_view_assets/([0-9a-f]{64}\\.js)\"");
+
+    @Rule
+    public TemporaryFolder m_tempFolder = new TemporaryFolder();
+
+    private Path m_workflowDir;
+
+    @Before
+    public void createWorkflow() throws IOException {
+        m_workflowDir = m_tempFolder.newFolder("workflow").toPath();
+        Files.createFile(m_workflowDir.resolve("workflow.knime"));
+    }
+
+    /** A script that is large enough to be moved and unique to this test */
+    private static String createScript(final String banner) {
+        return banner + "\n/* " + UUID.randomUUID() + " */\n" + "var x = 1;\n".repeat(7000);
+    }
+
+    private static String createLibraryScript() {
+        return createScript("/**\n* plotly.js v2.27.0\n* Copyright 2012-2023, Plotly, Inc.\n*/");
+    }
+
+    private PythonNodeViewStoragePath createView(final String html) throws IOException {
+        var path = m_tempFolder.newFile().toPath();
+        Files.writeString(path, html, StandardCharsets.UTF_8);
+        var view = new PythonNodeViewStoragePath(path);
+        view.extractAssets();
+        return view;
+    }
+
+    private static Path createNodeInternals(final Path parent, final String nodeName) throws IOException {
+        return Files.createDirectories(parent.resolve(nodeName).resolve("internal"));
+    }
+
+    private static String readView(final PythonNodeViewStoragePath view) throws IOException {
+        return Files.readString(view.getPath(), StandardCharsets.UTF_8);
+    }
+
+    private static List<String> getAssetNames(final String html) {
+        return ASSET_REFERENCE.matcher(html).results().map(match -> match.group(1)).toList();
+    }
+
+    @Test
+    public void testUniqueScriptStaysInView() throws IOException {
+        var html = "<html><script>" + createScript("") + "</script></html>";
+        var view = createView(html);
+
+        assertEquals(html, readView(view));
+        assertSame(ViewResources.EMPTY_RESOURCES, view.getAssetResources());
+
+        var internals = createNodeInternals(m_workflowDir, "Node (#1)");
+        view.saveToInternals(internals);
+        assertEquals(html, Files.readString(internals.resolve("view.html"), StandardCharsets.UTF_8));
+        assertFalse(Files.exists(m_workflowDir.resolve(ASSET_DIRECTORY)));
+    }
+
+    @Test
+    public void testSharedScriptIsExtracted() throws IOException {
+        var script = createScript("");
+        var html = "<html><script>" + script + "</script></html>";
+        var firstView = createView(html);
+        var secondView = createView(html);
+
+        // The first view does not know yet that the script is shared
+        assertEquals(html, readView(firstView));
+        var extracted = readView(secondView);
+        var assetNames = getAssetNames(extracted);
+        assertEquals(1, assetNames.size());
+        assertFalse(extracted.contains(script));
+        assertNotSame(ViewResources.EMPTY_RESOURCES, secondView.getAssetResources());
+    }
+
+    @Test
+    public void testSmallAndExternalScriptsStayInView() throws IOException {
+        var html = "<html><script>var x = 1;</script><script src=\"lib.js\">" + createLibraryScript()
+            + "</script><script type=\"application/json\">" + createLibraryScript() + "</script></html>";
+        var view = createView(html);
+
+        assertEquals(html, readView(view));
+    }
+
+    @Test
+    public void testAsyncAndDeferAreRemovedFromExtractedScripts() throws IOException {
+        var html = "<html><script async defer>" + createLibraryScript() + "</script>"
+            + "<script type=\"module\" async defer=\"defer\">" + createLibraryScript() + "</script>"
+            + "<script nomodule defer>" + createLibraryScript() + "</script></html>";
+        var extracted = readView(createView(html));
+
+        var assetNames = getAssetNames(extracted);
+        assertEquals(3, assetNames.size());
+        assertEquals("<html>" //
+            + "<script src=\"python_view_assets/" + assetNames.get(0) + "\"></script>" //
+            + "<script type=\"module\" async src=\"python_view_assets/" + assetNames.get(1) + "\"></script>" //
+            + "<script nomodule src=\"python_view_assets/" + assetNames.get(2) + "\"></script>" //
+            + "</html>", extracted);
+    }
+
+    @Test
+    public void testSaveAndLoadAssets() throws IOException {
+        var view = createView("<html><script>" + createLibraryScript() + "</script></html>");
+        var assetName = getAssetNames(readView(view)).get(0);
+
+        var internals = createNodeInternals(m_workflowDir, "Node (#1)");
+        view.saveToInternals(internals);
+        var asset = m_workflowDir.resolve(ASSET_DIRECTORY).resolve(assetName);
+        assertTrue(Files.exists(asset));
+        assertEquals(List.of(assetName), Files.readAllLines(internals.resolve("view_asset_names")));
+
+        // Saving another view with the same script does not copy it again
+        var lastModified = Files.getLastModifiedTime(asset);
+        view.saveToInternals(createNodeInternals(m_workflowDir, "Node (#2)"));
+        assertEquals(lastModified, Files.getLastModifiedTime(asset));
+
+        var loaded = PythonNodeViewStoragePath.loadFromInternals(internals);
+        assertTrue(loaded.isPresent());
+        assertEquals(readView(view), readView(loaded.get()));
+        assertNotSame(ViewResources.EMPTY_RESOURCES, loaded.get().getAssetResources());
+
+        // Components store the assets in the directory of the outermost workflow
+        var componentDir = Files.createDirectories(m_workflowDir.resolve("Component (#3)"));
+        Files.createFile(componentDir.resolve("workflow.knime"));
+        var componentInternals = createNodeInternals(componentDir, "Node (#1)");
+        view.saveToInternals(componentInternals);
+        assertFalse(Files.exists(componentDir.resolve(ASSET_DIRECTORY)));
+        assertTrue(PythonNodeViewStoragePath.loadFromInternals(componentInternals).isPresent());
+
+        // A view whose assets are missing is not available
+        Files.delete(asset);
+        assertTrue(PythonNodeViewStoragePath.loadFromInternals(internals).isEmpty());
+    }
+
+    @Test
+    public void testAssetsOutsideOfWorkflowAreSavedInInternals() throws IOException {
+        var view = createView("<html><script>" + createLibraryScript() + "</script></html>");
+        var assetName = getAssetNames(readView(view)).get(0);
+
+        var internals = createNodeInternals(m_tempFolder.getRoot().toPath(), "Node (#1)");
+        view.saveToInternals(internals);
+        assertTrue(Files.exists(internals.resolve("view_assets").resolve(assetName)));
+
+        assertTrue(PythonNodeViewStoragePath.loadFromInternals(internals).isPresent());
+    }
+
+    @Test
+    public void testUnreferencedAssetsAreDeleted() throws IOException {
+        var deletedView = createView("<html><script>" + createLibraryScript() + "</script></html>");
+        var deletedAsset = m_workflowDir.resolve(ASSET_DIRECTORY).resolve(getAssetNames(readView(deletedView)).get(0));
+        var keptView = createView("<html><script>" + createLibraryScript() + "</script></html>");
+        var keptAsset = m_workflowDir.resolve(ASSET_DIRECTORY).resolve(getAssetNames(readView(keptView)).get(0));
+
+        var deletedInternals = createNodeInternals(m_workflowDir, "Node (#1)");
+        deletedView.saveToInternals(deletedInternals);
+        keptView.saveToInternals(createNodeInternals(m_workflowDir, "Node (#2)"));
+        assertTrue(Files.exists(deletedAsset));
+
+        // The asset is kept while the saved view of the workflow lists it
+        deletedView.deleteIfExists();
+        keptView.saveToInternals(createNodeInternals(m_workflowDir, "Node (#3)"));
+        assertTrue(Files.exists(deletedAsset));
+
+        // ... and deleted once the node has been reset and saved
+        Files.delete(deletedInternals.resolve("view_asset_names"));
+        keptView.saveToInternals(createNodeInternals(m_workflowDir, "Node (#4)"));
+        assertFalse(Files.exists(deletedAsset));
+        assertTrue(Files.exists(keptAsset));
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python3.nodes;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.python3.nodes.ToolExecutor.ToolBatch;
+import org.knime.python3.nodes.ports.PythonPortObjects.PurePythonTablePortObject;
+import org.knime.python3.nodes.proxy.PythonToolContext.PythonToolBatchResult;
+import org.knime.python3.nodes.proxy.PythonToolContext.PythonToolResult;
+
+/**
+ * Contains unit tests for the concurrent tool execution of the {@link ToolExecutor}.
+ */
+@SuppressWarnings("javadoc")
+public class ToolExecutorTest {
+
+    private static final long TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final Set<ToolBatch<?>> m_activeBatches = ConcurrentHashMap.newKeySet();
+
+    private ToolBatch<String> createBatch(final List<Callable<String>> tasks,
+        final List<PythonToolBatchResult> cachedResults, final int parallelism, final long timeoutNanos) {
+        return new ToolBatch<>(tasks, cachedResults, (index, result) -> new PythonToolResult(result, null, null,
+            new String[0]), parallelism, timeoutNanos, m_activeBatches);
+    }
+
+    private static PythonToolBatchResult next(final ToolBatch<String> batch) throws InterruptedException {
+        var result = batch.next_result();
+        assertTrue("The batch must hand out another result.", result != null);
+        return result;
+    }
+
+    private static Callable<String> waitFor(final CountDownLatch latch, final String result) {
+        return () -> {
+            latch.await();
+            return result;
+        };
+    }
+
+    @Test
+    public void testCachedResultsFirstThenCompletionOrder() throws Exception {
+        var release = new CountDownLatch(1);
+        var cached = new PythonToolBatchResult(2, new PythonToolResult("cached", null, null, new String[0]), null);
+        var batch = createBatch(Arrays.asList(waitFor(release, "slow"), () -> "fast", null), List.of(cached), 2, 0);
+
+        assertEquals(cached, next(batch));
+
+        var fast = next(batch);
+        assertEquals(1, fast.index());
+        assertEquals("fast", fast.result().message());
+        assertNull(fast.error());
+
+        release.countDown();
+        var slow = next(batch);
+        assertEquals(0, slow.index());
+        assertEquals("slow", slow.result().message());
+
+        assertNull(batch.next_result());
+        assertTrue(batch.awaitTermination(5, TimeUnit.SECONDS));
+        assertTrue("Terminated batches are no longer active.", m_activeBatches.isEmpty());
+    }
+
+    @Test
+    public void testParallelismIsBounded() throws Exception {
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        var tasks = new ArrayList<Callable<String>>();
+        for (var i = 0; i < 8; i++) {
+            tasks.add(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                running.decrementAndGet();
+                return "done";
+            });
+        }
+        var batch = createBatch(tasks, List.of(), 2, 0);
+        var indices = new ArrayList<Integer>();
+        for (var result = batch.next_result(); result != null; result = batch.next_result()) {
+            assertNull(result.error());
+            indices.add(result.index());
+        }
+        assertEquals(8, indices.size());
+        assertEquals(8, indices.stream().distinct().count());
+        assertTrue("At most two tools may run at the same time.", maxRunning.get() <= 2);
+    }
+
+    @Test
+    public void testFailedToolReportsMessage() throws Exception {
+        var batch = createBatch(List.of(() -> {
+            throw new IllegalStateException("Tool failed");
+        }), List.of(), 1, 0);
+        var result = next(batch);
+        assertEquals(0, result.index());
+        assertNull(result.result());
+        assertEquals("Tool failed", result.error());
+        assertNull(batch.next_result());
+    }
+
+    @Test
+    public void testTimeoutInterruptsTool() throws Exception {
+        var interrupted = new CountDownLatch(1);
+        var batch = createBatch(List.of(() -> {
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                return "too late";
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+                throw ex;
+            }
+        }, () -> "fast"), List.of(), 2, TIMEOUT_NANOS);
+
+        var fast = next(batch);
+        assertEquals(1, fast.index());
+
+        var timedOut = next(batch);
+        assertEquals(0, timedOut.index());
+        assertNull(timedOut.result());
+        assertTrue(timedOut.error(), timedOut.error().contains("timed out"));
+
+        assertNull(batch.next_result());
+        assertTrue("The timed out tool must be interrupted.", interrupted.await(5, TimeUnit.SECONDS));
+        assertTrue(batch.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testToolIgnoringTimeoutKeepsBatchActive() throws Exception {
+        var release = new CountDownLatch(1);
+        var batch = createBatch(List.of(() -> {
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) { // NOSONAR the tool ignores interruptions on purpose
+                }
+            }
+            return "ignored";
+        }), List.of(), 1, TIMEOUT_NANOS);
+
+        assertTrue(next(batch).error().contains("timed out"));
+        assertNull(batch.next_result());
+        assertFalse(batch.awaitTermination(50, TimeUnit.MILLISECONDS));
+        assertTrue("The batch is active as long as the tool runs.", m_activeBatches.contains(batch));
+
+        release.countDown();
+        assertTrue(batch.awaitTermination(5, TimeUnit.SECONDS));
+        assertTrue(m_activeBatches.isEmpty());
+    }
+
+    @Test
+    public void testCancelInterruptsRunningTools() throws Exception {
+        var never = new CountDownLatch(1);
+        var started = new CountDownLatch(2);
+        var interrupted = new AtomicInteger();
+        Callable<String> task = () -> {
+            started.countDown();
+            try {
+                never.await();
+                return "never";
+            } catch (InterruptedException ex) {
+                interrupted.incrementAndGet();
+                throw ex;
+            }
+        };
+        var cached = new PythonToolBatchResult(2, new PythonToolResult("cached", null, null, new String[0]), null);
+        var batch = createBatch(Arrays.asList(task, task, null, task), List.of(cached), 2, 0);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        batch.cancel();
+
+        assertNull("A cancelled batch hands out no further results.", batch.next_result());
+        assertTrue(batch.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals("Only the running tools are interrupted, the queued one never starts.", 2, interrupted.get());
+        assertTrue(m_activeBatches.isEmpty());
+    }
+
+    @Test
+    public void testExecuteToolsChecksArgumentSizes() throws Exception {
+        try (var executor = new ToolExecutor(null, mock(NativeNodeContainer.class), null)) {
+            var toolTables = Arrays.asList((PurePythonTablePortObject)null, null);
+            var parameters = List.of("{}", "{}");
+            List<Map<String, String>> hints = List.of(Map.of(), Map.of());
+            assertThrows(IllegalArgumentException.class,
+                () -> executor.executeTools(toolTables, parameters, List.of(List.of()), hints, 0, 0));
+            assertThrows(IllegalArgumentException.class,
+                () -> executor.executeTools(toolTables, List.of("{}"), List.of(List.of(), List.of()), hints, 0, 0));
+            assertThrows(IllegalArgumentException.class, () -> executor.executeTools(toolTables, parameters,
+                List.of(List.of(), List.of()), List.of(Map.of()), 0, 0));
+        }
+    }
+
+    @Test
+    public void testExecuteToolsFailsAfterClose() throws Exception {
+        var executor = new ToolExecutor(null, mock(NativeNodeContainer.class), null);
+        executor.close();
+        assertThrows(IllegalStateException.class,
+            () -> executor.executeTools(List.of(), List.of(), List.of(), List.of(), 0, 0));
+    }
+}
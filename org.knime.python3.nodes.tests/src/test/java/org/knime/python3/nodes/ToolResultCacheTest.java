@@ -0,0 +1,194 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python3.nodes;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knime.python3.arrow.PythonArrowDataSink;
+import org.knime.python3.nodes.ToolResultCache.Key;
+import org.knime.python3.nodes.ports.PythonPortObjects.PurePythonTablePortObject;
+import org.knime.python3.nodes.ports.PythonPortObjects.PythonPortObject;
+import org.knime.python3.nodes.proxy.PythonToolContext.PythonToolResult;
+
+/**
+ * Contains unit tests for {@link ToolResultCache}.
+ */
+@SuppressWarnings("javadoc")
+public class ToolResultCacheTest {
+
+    private static final Map<String, String> SIDE_EFFECT_FREE = Map.of(ToolResultCache.SIDE_EFFECT_FREE_HINT, "true");
+
+    @Rule
+    public TemporaryFolder m_tempFolder = new TemporaryFolder();
+
+    private PurePythonTablePortObject createTable(final String content) throws IOException {
+        var file = m_tempFolder.newFile().toPath();
+        Files.writeString(file, content);
+        var sink = mock(PythonArrowDataSink.class);
+        when(sink.getAbsolutePath()).thenReturn(file.toAbsolutePath().toString());
+        var table = mock(PurePythonTablePortObject.class);
+        when(table.getPythonArrowDataSink()).thenReturn(sink);
+        return table;
+    }
+
+    private static PythonToolResult createResult(final String message) {
+        return new PythonToolResult(message, new PythonPortObject[0], null, new String[0]);
+    }
+
+    @Test
+    public void testNoKeyWithoutSideEffectFreeHint() throws IOException {
+        var cache = new ToolResultCache(10);
+        var tool = createTable("tool");
+        assertNull(cache.createKey(tool, "{}", List.of(), null));
+        assertNull(cache.createKey(tool, "{}", List.of(), Map.of()));
+        assertNull(cache.createKey(tool, "{}", List.of(), Map.of(ToolResultCache.SIDE_EFFECT_FREE_HINT, "false")));
+        assertNotNull(cache.createKey(tool, "{}", List.of(), SIDE_EFFECT_FREE));
+    }
+
+    @Test
+    public void testNoKeyIfCachingIsDisabled() throws IOException {
+        var cache = new ToolResultCache(0);
+        assertNull(cache.createKey(createTable("tool"), "{}", List.of(), SIDE_EFFECT_FREE));
+    }
+
+    @Test
+    public void testNoKeyForNonTableInput() throws IOException {
+        var cache = new ToolResultCache(10);
+        var inputs = List.of(createTable("input"), mock(PythonPortObject.class));
+        assertNull(cache.createKey(createTable("tool"), "{}", inputs, SIDE_EFFECT_FREE));
+    }
+
+    @Test
+    public void testNoKeyIfTableCantBeRead() throws IOException {
+        var cache = new ToolResultCache(10);
+        var tool = createTable("tool");
+        Files.delete(Path.of(tool.getPythonArrowDataSink().getAbsolutePath()));
+        assertNull(cache.createKey(tool, "{}", List.of(), SIDE_EFFECT_FREE));
+    }
+
+    @Test
+    public void testKeyDependsOnContentOnly() throws IOException {
+        var cache = new ToolResultCache(10);
+        var key = cache.createKey(createTable("tool"), "{}", List.of(createTable("input")), SIDE_EFFECT_FREE);
+        assertEquals("Tables with the same content written to different files are the same.", key,
+            cache.createKey(createTable("tool"), "{}", List.of(createTable("input")), SIDE_EFFECT_FREE));
+        assertNotEquals(key,
+            cache.createKey(createTable("other tool"), "{}", List.of(createTable("input")), SIDE_EFFECT_FREE));
+        assertNotEquals(key,
+            cache.createKey(createTable("tool"), "{\"a\": 1}", List.of(createTable("input")), SIDE_EFFECT_FREE));
+        assertNotEquals(key,
+            cache.createKey(createTable("tool"), "{}", List.of(createTable("other input")), SIDE_EFFECT_FREE));
+        assertNotEquals(key, cache.createKey(createTable("tool"), "{}", List.of(), SIDE_EFFECT_FREE));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedResultIsEvicted() {
+        var cache = new ToolResultCache(2);
+        var first = new Key("first", "{}", List.of());
+        var second = new Key("second", "{}", List.of());
+        var third = new Key("third", "{}", List.of());
+        var firstResult = createResult("first");
+        var thirdResult = createResult("third");
+        cache.put(first, firstResult);
+        cache.put(second, createResult("second"));
+        // makes second the least recently used result
+        assertSame(firstResult, cache.get(first));
+        cache.put(third, thirdResult);
+
+        assertSame(firstResult, cache.get(first));
+        assertNull(cache.get(second));
+        assertSame(thirdResult, cache.get(third));
+    }
+
+    @Test
+    public void testFailedResultsAreNotCached() {
+        var cache = new ToolResultCache(10);
+        var key = new Key("tool", "{}", List.of());
+        cache.put(key, new PythonToolResult("Tool failed", null, null, new String[0]));
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    public void testNullKeyIsIgnored() {
+        var cache = new ToolResultCache(10);
+        cache.put(null, createResult("result"));
+        assertNull(cache.get(null));
+    }
+
+    @Test
+    public void testCacheSizeProperty() {
+        // invalid values fall back to the default, which disables caching
+        var expectedSizes = Map.of("3", 3, " 5 ", 5, "-1", 0, "abc", 0);
+        try {
+            for (var entry : expectedSizes.entrySet()) {
+                System.setProperty(ToolResultCache.CACHE_SIZE_PROPERTY, entry.getKey());
+                assertEquals(entry.getKey(), (long)entry.getValue(), ToolResultCache.getCacheSize());
+            }
+            System.clearProperty(ToolResultCache.CACHE_SIZE_PROPERTY);
+            assertEquals(0, ToolResultCache.getCacheSize());
+        } finally {
+            System.clearProperty(ToolResultCache.CACHE_SIZE_PROPERTY);
+        }
+    }
+}
@@ -49,6 +49,7 @@
 package org.knime.python3.nodes.ports;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -123,6 +124,27 @@ public void testFromPurePythonSvg() {
         assertEquals(SvgCell.TYPE, imgSpec.getDataType()); // NOSONAR
     }
 
+    /**
+     * Test that a PNG image handed over as a file is read and that the file is deleted afterwards.
+     *
+     * @throws IOException if the temporary file cannot be created
+     */
+    @Test
+    public void testFromPurePythonPngFile() throws IOException {
+        byte[] pngBytes = getPngBytes();
+        final var file = Files.createTempFile("image", ".png");
+        Files.write(file, pngBytes);
+        when(purePythonImagePortObject.getImageFilePath()).thenReturn(file.toString());
+
+        var converter = new PortObjectConverters.ImagePortObjectConverter();
+        var conversionContext = new PortObjectConversionContext(null, null, null);
+
+        ImagePortObject result = converter.fromPython(purePythonImagePortObject, conversionContext);
+
+        assertEquals(PNGImageContent.TYPE, result.getSpec().getDataType()); // NOSONAR
+        assertFalse(Files.exists(file));
+    }
+
     /**
      * Test that non-PNG and non-SVG bytes throw an exception.
      */
@@ -514,6 +514,20 @@ class TestFilestorePortObject(ValueHoldingPortObject, kn.FilestorePortObject):
             return cls(spec, f.read())
 
 
+class TestMemoryMappedPortObject(kn.MemoryMappedPortObject):
+    def __init__(self, spec: kn.PortObjectSpec, header, data) -> None:
+        super().__init__(spec)
+        self.header = header
+        self.data = data
+
+    def to_segments(self):
+        return {"header": self.header, "data": self.data}
+
+    @classmethod
+    def from_segments(cls, spec, segments):
+        return cls(spec, segments["header"], segments["data"])
+
+
 class LoadSavePortObjectTest(unittest.TestCase):
     def test_save_load_ordinary_po(self):
         spec = AnotherPortObjectSpec()
@@ -525,9 +539,375 @@ class LoadSavePortObjectTest(unittest.TestCase):
         po = TestFilestorePortObject(spec, "bar")
         self._test_save_load_po(po)
 
+    def test_save_load_memory_mapped_po(self):
+        spec = AnotherPortObjectSpec()
+        po = TestMemoryMappedPortObject(spec, b"abc", bytearray(range(200)))
+        with tempfile.TemporaryDirectory() as directory:
+            po_path = os.path.join(directory, "po_path")
+            kn.save_port_object(po, po_path)
+            loaded = kn.load_port_object(TestMemoryMappedPortObject, spec, po_path)
+            self.assertEqual(bytes(loaded.header), b"abc")
+            self.assertEqual(bytes(loaded.data), bytes(range(200)))
+            # The segments are views of the mapped file
+            self.assertIsInstance(loaded.data, memoryview)
+            self.assertTrue(loaded.data.readonly)
+            # Release the mapping so the file can be deleted
+            del loaded
+
+            with open(po_path, "wb") as f:
+                f.write(b"not segmented")
+            with self.assertRaises(ValueError):
+                kn.load_port_object(TestMemoryMappedPortObject, spec, po_path)
+
     def _test_save_load_po(self, port_object: ValueHoldingPortObject):
         with tempfile.TemporaryDirectory() as directory:
             po_path = os.path.join(directory, "po_path")
             kn.save_port_object(port_object, po_path)
             loaded = kn.load_port_object(TestPortObject, port_object.spec, po_path)
             self.assertEqual(port_object.value, loaded.value)
+
+
+class PortObjectCacheTest(unittest.TestCase):
+    def setUp(self):
+        self.directory = tempfile.TemporaryDirectory()
+        self.num_loads = 0
+
+    def tearDown(self):
+        self.directory.cleanup()
+
+    def _write_file(self, name, data):
+        path = os.path.join(self.directory.name, name)
+        with open(path, "wb") as f:
+            f.write(data)
+        return path
+
+    def _load(self, path):
+        def load():
+            self.num_loads += 1
+            with open(path, "rb") as f:
+                return f.read()
+
+        return load
+
+    def test_disabled_by_default(self):
+        cache = knb._PortObjectCache()
+        path = self._write_file("a", b"abc")
+        cache.get_or_load("a", path, self._load(path))
+        cache.get_or_load("a", path, self._load(path))
+        self.assertEqual(2, self.num_loads)
+
+    def test_reuses_decoded_objects(self):
+        cache = knb._PortObjectCache(100)
+        path = self._write_file("a", b"abc")
+        first = cache.get_or_load("a", path, self._load(path))
+        second = cache.get_or_load("a", path, self._load(path))
+        self.assertIs(first, second)
+        self.assertEqual(1, self.num_loads)
+
+    def test_invalidated_by_changed_or_disposed_file(self):
+        cache = knb._PortObjectCache(100)
+        path = self._write_file("a", b"abc")
+        cache.get_or_load("a", path, self._load(path))
+        self._write_file("a", b"abcd")
+        self.assertEqual(b"abcd", cache.get_or_load("a", path, self._load(path)))
+        self.assertEqual(2, self.num_loads)
+
+        # entries of disposed file stores are dropped when other objects are cached
+        os.remove(path)
+        path_b = self._write_file("b", b"b")
+        cache.get_or_load("b", path_b, self._load(path_b))
+        self.assertEqual(["b"], list(cache._entries))
+        self.assertEqual(None, cache.get_or_load("a", path, lambda: None))
+
+    def test_evicts_least_recently_used(self):
+        cache = knb._PortObjectCache(10)
+        path_a = self._write_file("a", b"aaaa")
+        path_b = self._write_file("b", b"bbbb")
+        path_c = self._write_file("c", b"cccc")
+        cache.get_or_load("a", path_a, self._load(path_a))
+        cache.get_or_load("b", path_b, self._load(path_b))
+        cache.get_or_load("a", path_a, self._load(path_a))
+        cache.get_or_load("c", path_c, self._load(path_c))
+        self.assertEqual(["a", "c"], list(cache._entries))
+        self.assertEqual(3, self.num_loads)
+
+        cache.set_max_bytes(4)
+        self.assertEqual(["c"], list(cache._entries))
+
+        large = self._write_file("large", b"x" * 20)
+        cache.get_or_load("large", large, self._load(large))
+        self.assertNotIn("large", cache._entries)
+
+
+class JsonRpcDataServiceTest(unittest.TestCase):
+    class DataService:
+        def numbers(self, n):
+            return iter(range(n))
+
+        def table(self):
+            import pyarrow as pa
+
+            return pa.table({"a": list(range(25)), "b": [str(i) for i in range(25)]})
+
+        def plain(self):
+            return [1, 2, 3]
+
+    def setUp(self):
+        self.service = knb._JsonRpcDataService(None, self.DataService())
+        self.service.PAGE_SIZE = 10
+
+    def _request(self, method, params):
+        request = {"jsonrpc": "2.0", "id": 1, "method": method, "params": params}
+        return json.loads(self.service.handleJsonRpcRequest(json.dumps(request)))
+
+    def test_plain_results_are_not_paged(self):
+        self.assertEqual([1, 2, 3], self._request("plain", [])["result"])
+
+    def test_iterator_is_paged(self):
+        page = self._request("numbers", [15])["result"]
+        self.assertEqual(list(range(10)), page["items"])
+        self.assertIsNotNone(page["cursor"])
+
+        page = self._request("knime.nextPage", {"cursor": page["cursor"]})["result"]
+        self.assertEqual(list(range(10, 15)), page["items"])
+        self.assertIsNone(page["cursor"])
+
+    def test_table_is_paged(self):
+        page = self._request("table", [])["result"]
+        self.assertEqual(list(range(10)), page["data"]["a"])
+        cursor = page["cursor"]
+
+        page = self._request("knime.nextPage", [cursor, 12])["result"]
+        self.assertEqual(list(range(10, 22)), page["data"]["a"])
+        self.assertEqual([str(i) for i in range(10, 22)], page["data"]["b"])
+
+        page = self._request("knime.nextPage", [cursor, 12])["result"]
+        self.assertEqual([22, 23, 24], page["data"]["a"])
+        self.assertIsNone(page["cursor"])
+
+        # The cursor is released after the last page
+        response = self._request("knime.nextPage", [cursor])
+        self.assertEqual(-32602, response["error"]["code"])
+
+    def test_close_cursor(self):
+        cursor = self._request("numbers", [15])["result"]["cursor"]
+        self._request("knime.closeCursor", {"cursor": cursor})
+        response = self._request("knime.nextPage", {"cursor": cursor})
+        self.assertEqual(-32602, response["error"]["code"])
+
+    def test_number_of_open_cursors_is_bounded(self):
+        cursors = [
+            self._request("numbers", [15])["result"]["cursor"]
+            for _ in range(self.service.MAX_OPEN_CURSORS + 1)
+        ]
+        self.assertIn("error", self._request("knime.nextPage", [cursors[0]]))
+        self.assertIn("result", self._request("knime.nextPage", [cursors[-1]]))
+
+
+class WorkflowPortObjectInputTest(unittest.TestCase):
+    class _CountingTypeRegistry:
+        def __init__(self):
+            self.num_conversions = 0
+
+        def table_from_python(self, table):
+            self.num_conversions += 1
+            return object()
+
+    def setUp(self):
+        import pyarrow as pa
+        import knime._arrow._table as kat
+
+        self.registry = self._CountingTypeRegistry()
+        self.workflow = knb._PythonWorkflowPortObject(None, None, self.registry)
+        self.table = kat.ArrowTable(pa.table({"a": [1, 2, 3]}))
+        self.other_table = kat.ArrowTable(pa.table({"a": [4, 5]}))
+
+    def test_reuses_prepared_table(self):
+        first = self.workflow._prepare_input(self.table)
+        second = self.workflow._prepare_input(self.table)
+        self.assertIs(first, second)
+        self.assertEqual(1, self.registry.num_conversions)
+        self.workflow._prepare_input(self.other_table)
+        self.assertEqual(2, self.registry.num_conversions)
+
+    def test_evicts_least_recently_used_table(self):
+        self.workflow._MAX_PREPARED_INPUTS = 1
+        self.workflow._prepare_input(self.table)
+        self.workflow._prepare_input(self.other_table)
+        self.workflow._prepare_input(self.table)
+        self.assertEqual(3, self.registry.num_conversions)
+
+
+class StreamableNodeTest(unittest.TestCase):
+    def tearDown(self):
+        kn._nodes.pop("streamable_test_node", None)
+
+    def test_streamable_node_is_exported(self):
+        @knext.node(
+            "Streamable",
+            knext.NodeType.MANIPULATOR,
+            "icon.png",
+            "/",
+            id="streamable_test_node",
+            is_streamable=True,
+        )
+        @knext.input_table("Input", "The input table")
+        @knext.output_table("Output", "The output table")
+        class StreamableNode:
+            def configure(self, config_context, schema):
+                return schema
+
+            def execute(self, exec_context, table):
+                return table
+
+        node_dict = kn._nodes["streamable_test_node"].to_dict()
+        self.assertTrue(node_dict["is_streamable"])
+
+    def test_streamable_node_requires_single_table_ports(self):
+        with self.assertRaises(ValueError):
+
+            @knext.node(
+                "Streamable",
+                knext.NodeType.MANIPULATOR,
+                "icon.png",
+                "/",
+                id="streamable_test_node",
+                is_streamable=True,
+            )
+            @knext.input_table("Input", "The input table")
+            @knext.output_table("First output", "The first output table")
+            @knext.output_table("Second output", "The second output table")
+            class NotStreamableNode:
+                def configure(self, config_context, schema):
+                    return schema, schema
+
+                def execute(self, exec_context, table):
+                    return table, table
+
+
+class ToolExecutorTest(unittest.TestCase):
+    class _Result:
+        def __init__(self, message, outputs):
+            self._message = message
+            self._outputs = outputs
+
+        def message(self):
+            return self._message
+
+        def outputs(self):
+            return self._outputs
+
+        def viewNodeIds(self):  # NOSONAR
+            return []
+
+    class _BatchResult:
+        def __init__(self, index, result=None, error=None):
+            self._index = index
+            self._result = result
+            self._error = error
+
+        def index(self):
+            return self._index
+
+        def result(self):
+            return self._result
+
+        def error(self):
+            return self._error
+
+    class _Batch:
+        def __init__(self, results):
+            self._results = list(results)
+            self.cancelled = False
+
+        def next_result(self):
+            return self._results.pop(0) if self._results else None
+
+        def cancel(self):
+            self.cancelled = True
+
+    class _JavaContext:
+        def __init__(self, batch):
+            self.batch = batch
+            self.args = None
+
+        def execute_tools(self, *args):
+            self.args = args
+            return self.batch
+
+    def _create_executor(self, *batch_results):
+        type_registry = unittest.mock.Mock()
+        type_registry.table_from_python.side_effect = lambda table: ("java", table)
+        type_registry.port_object_to_python.side_effect = lambda obj, port, ctx: (
+            "python",
+            obj,
+        )
+        java_ctx = ToolExecutorTest._JavaContext(ToolExecutorTest._Batch(batch_results))
+        executor = knb._ToolExecutor(java_ctx, type_registry)
+        executor._wrap_tool_in_table = lambda tool: ("tool", tool)
+        return executor, java_ctx
+
+    def test_execute_tools_passes_one_entry_per_call(self):
+        executor, java_ctx = self._create_executor()
+        calls = [
+            ("first", {"a": 1}, ["t1", "t2"], {"side_effect_free": "true"}),
+            ("second", {}, [], None),
+        ]
+        self.assertEqual([], list(executor.execute_tools(calls)))
+
+        tools, parameters, inputs, hints, parallelism, timeout = java_ctx.args
+        self.assertEqual([("tool", "first"), ("tool", "second")], tools)
+        self.assertEqual(['{"a": 1}', "{}"], parameters)
+        self.assertEqual([[("java", "t1"), ("java", "t2")], []], inputs)
+        self.assertEqual([{"side_effect_free": "true"}, {}], hints)
+        self.assertEqual(0, parallelism)
+        self.assertEqual(0.0, timeout)
+        self.assertTrue(java_ctx.batch.cancelled)
+
+    def test_execute_tools_forwards_parallelism_and_timeout(self):
+        executor, java_ctx = self._create_executor()
+        list(executor.execute_tools([("tool", {}, [], {})], 3, 1.5))
+        self.assertEqual(3, java_ctx.args[4])
+        self.assertIsInstance(java_ctx.args[4], int)
+        self.assertEqual(1.5, java_ctx.args[5])
+        self.assertIsInstance(java_ctx.args[5], float)
+
+    def test_execute_tools_yields_in_completion_order(self):
+        executor, _ = self._create_executor(
+            ToolExecutorTest._BatchResult(1, result=self._Result("second", ["out"])),
+            ToolExecutorTest._BatchResult(0, result=self._Result("first", [])),
+        )
+        calls = [("first", {}, [], {}), ("second", {}, [], {})]
+        results = list(executor.execute_tools(calls))
+
+        self.assertEqual([1, 0], [index for index, _ in results])
+        self.assertEqual(("second", [("python", "out")], []), results[0][1])
+        self.assertEqual(("first", [], []), results[1][1])
+
+    def test_execute_tools_yields_errors(self):
+        executor, _ = self._create_executor(
+            ToolExecutorTest._BatchResult(
+                0, error="Tool execution timed out after 1.0 seconds."
+            ),
+            ToolExecutorTest._BatchResult(1, result=self._Result("Tool failed", None)),
+        )
+        calls = [("first", {}, [], {}), ("second", {}, [], {})]
+        results = list(executor.execute_tools(calls, timeout=1))
+
+        self.assertEqual([0, 1], [index for index, _ in results])
+        self.assertIsInstance(results[0][1], RuntimeError)
+        self.assertIn("timed out", str(results[0][1]))
+        self.assertIsInstance(results[1][1], RuntimeError)
+        self.assertEqual("Tool failed", str(results[1][1]))
+
+    def test_execute_tools_cancels_batch_if_stopped_early(self):
+        executor, java_ctx = self._create_executor(
+            ToolExecutorTest._BatchResult(0, result=self._Result("first", [])),
+            ToolExecutorTest._BatchResult(1, result=self._Result("second", [])),
+        )
+        calls = [("first", {}, [], {}), ("second", {}, [], {})]
+        results = executor.execute_tools(calls)
+        self.assertEqual(0, next(results)[0])
+        self.assertFalse(java_ctx.batch.cancelled)
+        results.close()
+        self.assertTrue(java_ctx.batch.cancelled)
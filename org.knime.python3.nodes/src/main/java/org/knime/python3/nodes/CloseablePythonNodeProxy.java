@@ -51,6 +51,7 @@
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -58,9 +59,14 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.knime.core.columnar.arrow.ArrowColumnStoreFactory;
@@ -73,6 +79,7 @@
 import org.knime.core.data.filestore.internal.IFileStoreHandler;
 import org.knime.core.data.filestore.internal.IWriteFileStoreHandler;
 import org.knime.core.data.filestore.internal.NotInWorkflowWriteFileStoreHandler;
+import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
@@ -96,6 +103,7 @@
 import org.knime.credentials.base.oauth.api.HttpAuthorizationHeaderCredentialValue;
 import org.knime.python3.PythonFileStoreUtils;
 import org.knime.python3.arrow.PythonArrowDataSink;
+import org.knime.python3.arrow.PythonArrowDataSource;
 import org.knime.python3.arrow.PythonArrowDataUtils;
 import org.knime.python3.arrow.PythonArrowTableConverter;
 import org.knime.python3.nodes.CloseablePythonNodeProxyFactory.CloseableGatewayWithAttachments;
@@ -105,6 +113,7 @@
 import org.knime.python3.nodes.ports.PythonPortObjects.PurePythonTablePortObject;
 import org.knime.python3.nodes.ports.PythonPortObjects.PythonPortObject;
 import org.knime.python3.nodes.ports.PythonPortObjects.PythonPortObjectSpec;
+import org.knime.python3.nodes.ports.PythonPortObjects.PythonTablePortObject;
 import org.knime.python3.nodes.ports.PythonPortTypeRegistry;
 import org.knime.python3.nodes.ports.PythonTransientConnectionPortObject;
 import org.knime.python3.nodes.ports.TableSpecSerializationUtils;
@@ -151,6 +160,19 @@
 
     private final ExtensionNode m_nodeSpec;
 
+    private final WorkerFactory m_workerFactory;
+
+    private JsonNodeSettings m_settings;
+
+    /**
+     * System property to set the number of Python processes that execute batch-map nodes (nodes that declare their
+     * execute as a pure function of each batch) in parallel. A value of 1 (the default) disables the parallel
+     * execution.
+     */
+    static final String BATCH_MAP_WORKERS_PROPERTY = "knime.python.extension.batchmap.workers";
+
+    private static final int DEFAULT_BATCH_MAP_WORKERS = 1;
+
     private static final ArrowColumnStoreFactory ARROW_STORE_FACTORY =
         PythonArrowDataUtils.getArrowColumnStoreFactory();
 
@@ -182,11 +204,23 @@ private enum ConnectionType {
             INDEPENDENT // The node does not use any type of connection. Gateway can be closed after execution.
     }
 
+    /**
+     * Starts additional Python processes for the parallel execution of batch-map nodes.
+     */
+    @FunctionalInterface
+    interface WorkerFactory {
+        /**
+         * @return a new proxy with its own Python process that has to be closed by the caller
+         */
+        CloseablePythonNodeProxy createWorker();
+    }
+
     CloseablePythonNodeProxy(final PythonNodeProxy proxy, final CloseableGatewayWithAttachments gateway,
-        final ExtensionNode nodeSpec) {
+        final ExtensionNode nodeSpec, final WorkerFactory workerFactory) {
         m_proxy = proxy;
         m_closeableGateway = gateway;
         m_nodeSpec = nodeSpec;
+        m_workerFactory = workerFactory;
     }
 
     private void closeInternal() {
@@ -350,6 +384,7 @@ public void validateSettings(final JsonNodeSettings settings) throws InvalidSett
 
     @Override
     public void loadValidatedSettings(final JsonNodeSettings settings) {
+        m_settings = settings;
         m_proxy.setParameters(settings.getParameters(), settings.getCreationVersion());
     }
 
@@ -372,8 +407,46 @@ public ExecutionResult execute(final PortObject[] inData, final PortType[] outpu
         final CredentialsProviderProxy credentialsProviderProxy, final WorkflowPropertiesProxy workflowPropertiesProxy,
         final WarningConsumer warningConsumer, final BackendViewData viewData) throws Exception {
         initTableManager();
+        Function<PortObjectConversionContext, PythonPortObject[]> inputConverter =
+            context -> PythonPortTypeRegistry.convertPortObjectsToPython(Stream.of(inData), context);
+        if (isParallelBatchMap(inData)) {
+            final var table = (BufferedDataTable)inData[0];
+            final var source = m_tableManager.createSource(table);
+            final var numWorkers = Math.min(getNumBatchMapWorkers(), source.numBatches());
+            if (numWorkers > 1) {
+                return executeBatchMapInParallel(table, source, numWorkers, m_tableManager, outputPortTypes, exec,
+                    flowVariablesProxy, credentialsProviderProxy, workflowPropertiesProxy, warningConsumer);
+            }
+            inputConverter = context -> new PythonPortObject[]{new PythonTablePortObject(table, source)};
+        }
+
         Map<String, FileStore> fileStoresByKey = new HashMap<>();
         final var executionResult = new PythonExecutionResult();
+        final var pythonOutputs = executeInPython(inData, inputConverter, m_tableManager, fileStoresByKey,
+            executionResult, outputPortTypes, exec, flowVariablesProxy, credentialsProviderProxy,
+            workflowPropertiesProxy, warningConsumer, viewData);
+
+        final var outputExec = exec.createSubExecutionContext(0.1);
+
+        PortObjectConversionContext pythonToKnimeConversionContext =
+            new PortObjectConversionContext(fileStoresByKey, m_tableManager, outputExec);
+        executionResult.m_portObjects =
+            PythonPortTypeRegistry.convertPortObjectsFromPython(pythonOutputs.stream(), pythonToKnimeConversionContext);
+
+        return executionResult;
+    }
+
+    /**
+     * Runs the execute method of the Python node and returns its outputs without converting them to KNIME port
+     * objects.
+     */
+    List<PythonPortObject> executeInPython(final PortObject[] inData, // NOSONAR
+        final Function<PortObjectConversionContext, PythonPortObject[]> inputConverter,
+        final PythonArrowTableConverter tableManager, final Map<String, FileStore> fileStoresByKey,
+        final PythonExecutionResult executionResult, final PortType[] outputPortTypes, final ExecutionContext exec,
+        final FlowVariablesProxy flowVariablesProxy, final CredentialsProviderProxy credentialsProviderProxy,
+        final WorkflowPropertiesProxy workflowPropertiesProxy, final WarningConsumer warningConsumer,
+        final BackendViewData viewData) throws InvalidSettingsException {
         final var failure = new FailureState();
 
         final PythonNodeModelProxy.Callback callback = new Callback() {
@@ -381,7 +454,10 @@ public ExecutionResult execute(final PortObject[] inData, final PortType[] outpu
 
             @Override
             public PythonArrowDataSink create_sink() throws IOException {
-                return m_tableManager.createSink();
+                // the table manager is shared by the workers of a parallel batch map
+                synchronized (tableManager) {
+                    return tableManager.createSink();
+                }
             }
 
             @Override
@@ -394,10 +470,12 @@ public FileStoreBasedFile create_filestore_file() throws IOException {
 
             @Override
             public PythonNodeViewSink create_view_sink() throws IOException {
-                if (executionResult.m_view == null) {
-                    executionResult.m_view = new PythonNodeViewStoragePath();
+                synchronized (executionResult) {
+                    if (executionResult.m_view == null) {
+                        executionResult.m_view = new PythonNodeViewStoragePath();
+                    }
+                    return executionResult.m_view.getSink();
                 }
-                return executionResult.m_view.getSink();
             }
 
             @Override
@@ -463,9 +541,8 @@ public ExpiryDate get_expires_after(final String serializedXMLString) throws Cou
         };
         m_proxy.initializeJavaCallback(callback);
 
-        var knimeToPythonConversionContext = new PortObjectConversionContext(fileStoresByKey, m_tableManager, exec);
         final var pythonInputs =
-            PythonPortTypeRegistry.convertPortObjectsToPython(Stream.of(inData), knimeToPythonConversionContext);
+            inputConverter.apply(new PortObjectConversionContext(fileStoresByKey, tableManager, exec));
 
         exec.setProgress(0.1, "Sending data to Python");
 
@@ -477,7 +554,7 @@ public ExpiryDate get_expires_after(final String serializedXMLString) throws Cou
         final var virtualProject = viewData == null ? null : viewData.virtualProject();
         final var pythonExecContext = new PythonNodeModelProxy.PythonExecutionContext() {
 
-            final ToolExecutor m_toolExecutor = new ToolExecutor(exec, nodeContainer, m_tableManager, virtualProject);
+            final ToolExecutor m_toolExecutor = new ToolExecutor(exec, nodeContainer, tableManager, virtualProject);
 
             @Override
             public void set_progress(final double progress, final String message) {
@@ -553,6 +630,15 @@ public PythonToolResult execute_tool(final PurePythonTablePortObject toolTable,
                 return m_toolExecutor.executeTool(toolTable, parameters, inputs, executionHints);
             }
 
+            @Override
+            public PythonToolBatch execute_tools(final List<PurePythonTablePortObject> toolTables,
+                final List<String> parameters, final List<List<PythonPortObject>> inputs,
+                final List<Map<String, String>> executionHints, final int maxParallelism,
+                final double timeoutSeconds) {
+                return m_toolExecutor.executeTools(toolTables, parameters, inputs, executionHints, maxParallelism,
+                    timeoutSeconds);
+            }
+
             @Override
             public CombinedToolsWorkflowInfo init_combined_tools_workflow(final List<PythonPortObject> inputs,
                 final String execMode, final boolean removeFailedTools) {
@@ -590,14 +676,114 @@ public PythonViewData get_view_data() {
 
         failure.throwIfFailure();
 
-        final var outputExec = exec.createSubExecutionContext(0.1);
+        return pythonOutputs;
+    }
 
-        PortObjectConversionContext pythonToKnimeConversionContext =
-            new PortObjectConversionContext(fileStoresByKey, m_tableManager, outputExec);
-        executionResult.m_portObjects =
-            PythonPortTypeRegistry.convertPortObjectsFromPython(pythonOutputs.stream(), pythonToKnimeConversionContext);
+    /**
+     * Batch-map nodes with a single table input can be executed in parallel on multiple Python processes if more than
+     * one worker is configured.
+     */
+    private boolean isParallelBatchMap(final PortObject[] inData) {
+        return m_nodeSpec.isStreamable() && m_workerFactory != null && m_settings != null && inData.length == 1
+            && inData[0] instanceof BufferedDataTable && getNumBatchMapWorkers() > 1;
+    }
 
-        return executionResult;
+    private static int getNumBatchMapWorkers() {
+        final var numWorkers = Integer.getInteger(BATCH_MAP_WORKERS_PROPERTY, DEFAULT_BATCH_MAP_WORKERS);
+        if (numWorkers < 1) {
+            LOGGER.errorWithFormat("The number of batch-map workers must be at least 1 but was %s. Using %s instead.",
+                numWorkers, DEFAULT_BATCH_MAP_WORKERS);
+            return DEFAULT_BATCH_MAP_WORKERS;
+        }
+        return numWorkers;
+    }
+
+    /**
+     * Executes a batch-map node on multiple Python processes. The batches of the input table are partitioned into
+     * consecutive ranges, one per worker, without copying the data. This proxy processes the first range, the other
+     * ranges are processed by newly started workers. The output sinks of all workers are concatenated in the order of
+     * the input.
+     */
+    ExecutionResult executeBatchMapInParallel(final BufferedDataTable table, // NOSONAR
+        final PythonArrowDataSource source, final int numWorkers, final PythonArrowTableConverter tableManager,
+        final PortType[] outputPortTypes, final ExecutionContext exec, final FlowVariablesProxy flowVariablesProxy,
+        final CredentialsProviderProxy credentialsProviderProxy, final WorkflowPropertiesProxy workflowPropertiesProxy,
+        final WarningConsumer warningConsumer) throws Exception {
+        final var numBatches = source.numBatches();
+        LOGGER.debugWithFormat("Executing batch map with %s workers on %s batches.", numWorkers, numBatches);
+
+        // Only the first worker reports flow variables, the others run the same code on different data
+        final var readOnlyFlowVariablesProxy = new FlowVariablesProxy() {
+
+            @Override
+            public Map<String, Object> getFlowVariables() {
+                return flowVariablesProxy.getFlowVariables();
+            }
+
+            @Override
+            public void setFlowVariables(final Map<String, Object> flowVariables) {
+                // ignored
+            }
+        };
+
+        final WarningConsumer synchronizedWarningConsumer = message -> {
+            synchronized (warningConsumer) {
+                warningConsumer.setWarning(message);
+            }
+        };
+
+        // The workers share the table manager, the file stores and the execution result. Everything they modify is
+        // either thread-safe or synchronized in executeInPython.
+        final Map<String, FileStore> fileStoresByKey = new ConcurrentHashMap<>();
+        final var executionResult = new PythonExecutionResult();
+        final List<CloseablePythonNodeProxy> workers = new ArrayList<>();
+        final List<Future<List<PythonPortObject>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < numWorkers; i++) {
+                final var worker = i == 0 ? this : m_workerFactory.createWorker();
+                if (i > 0) {
+                    workers.add(worker);
+                    worker.loadValidatedSettings(m_settings);
+                }
+                final var firstBatch = (int)((long)i * numBatches / numWorkers);
+                final var endBatch = (int)((long)(i + 1) * numBatches / numWorkers);
+                final var partition =
+                    PythonArrowDataUtils.createBatchRangeSource(source, firstBatch, endBatch - firstBatch);
+                final var workerExec = exec.createSubExecutionContext(0.9 / numWorkers);
+                final var workerFlowVariablesProxy = i == 0 ? flowVariablesProxy : readOnlyFlowVariablesProxy;
+                results.add(m_executorService.submit(() -> worker.executeInPython(new PortObject[]{table},
+                    context -> new PythonPortObject[]{new PythonTablePortObject(table, partition)}, tableManager,
+                    fileStoresByKey, executionResult, outputPortTypes, workerExec, workerFlowVariablesProxy,
+                    credentialsProviderProxy, workflowPropertiesProxy, synchronizedWarningConsumer, null)));
+            }
+
+            final List<PythonArrowDataSink> sinks = new ArrayList<>();
+            for (var result : results) {
+                final var outputs = waitForWorker(result, exec);
+                sinks.add(((PurePythonTablePortObject)outputs.get(0)).getPythonArrowDataSink());
+            }
+            executionResult.m_portObjects = new PortObject[]{
+                tableManager.convertToConcatenatedTable(sinks, exec.createSubExecutionContext(0.1))};
+            return executionResult;
+        } finally {
+            results.forEach(r -> r.cancel(true));
+            workers.forEach(CloseablePythonNodeProxy::close);
+        }
+    }
+
+    private static <T> T waitForWorker(final Future<T> result, final ExecutionContext exec) throws Exception {
+        while (true) {
+            try {
+                return result.get(100, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException ex) { // NOSONAR only used to check for cancellation
+                exec.checkCanceled();
+            } catch (ExecutionException ex) {
+                if (ex.getCause() instanceof Exception cause) {
+                    throw cause;
+                }
+                throw ex;
+            }
+        }
     }
 
     /**
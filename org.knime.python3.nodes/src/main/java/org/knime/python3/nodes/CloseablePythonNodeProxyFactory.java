@@ -135,6 +135,16 @@ public void retainGateway() {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(CloseablePythonNodeProxyFactory.class);
 
+    /**
+     * System property that holds the size in MB of the cache of deserialized port objects that each Python process of
+     * a Python extension keeps, such that nodes executed in the same process don't decode the same input again. Note
+     * that cached objects are shared between these nodes, so nodes must not modify their input port objects. The
+     * default of 0 disables the cache.
+     */
+    static final String PORT_OBJECT_CACHE_SIZE_PROPERTY = "knime.python.extension.portobject.cache.size";
+
+    private static final long PORT_OBJECT_CACHE_SIZE_DEFAULT = 0;
+
     private final ResolvedPythonExtension m_extension;
 
     private final String m_nodeId;
@@ -144,6 +154,16 @@ public void retainGateway() {
         m_nodeId = nodeId;
     }
 
+    private static long getPortObjectCacheSize() {
+        final var sizeInMB = Long.getLong(PORT_OBJECT_CACHE_SIZE_PROPERTY, PORT_OBJECT_CACHE_SIZE_DEFAULT);
+        if (sizeInMB < 0) {
+            LOGGER.errorWithFormat("Values below 0 (%s) for '%s' are not allowed. Falling back to %s.", sizeInMB,
+                PORT_OBJECT_CACHE_SIZE_PROPERTY, PORT_OBJECT_CACHE_SIZE_DEFAULT);
+            return PORT_OBJECT_CACHE_SIZE_DEFAULT;
+        }
+        return sizeInMB * 1024 * 1024;
+    }
+
     @SuppressWarnings("resource") // the closer is closed when the returned object is closed
     CloseablePythonNodeProxy createProxy(final PythonGateway<KnimeNodeBackend> gateway) {
         final var backend = gateway.getEntryPoint();
@@ -164,6 +184,11 @@ public List<Map<String, String>> get_global_proxy_list() { // NOSONAR
             public String get_global_tmp_dir_path() { // NOSONAR
                 return KNIMEConstants.getKNIMETempPath().toString();
             }
+
+            @SuppressWarnings("unused")
+            public long get_port_object_cache_size() { // NOSONAR
+                return getPortObjectCacheSize();
+            }
         };
         backend.initializeJavaCallback(callback);
         final PythonNodeProxy nodeProxy;
@@ -178,7 +203,22 @@ public String get_global_tmp_dir_path() { // NOSONAR
         // close the gateway after the retriever because the retriever might otherwise
         // get stuck reading the output of the already dead process
         var closer = new CloseableGatewayWithAttachments(gateway, outputRetrieverHandle);
-        return new CloseablePythonNodeProxy(nodeProxy, closer, m_extension.getNode(m_nodeId));
+        return new CloseablePythonNodeProxy(nodeProxy, closer, m_extension.getNode(m_nodeId), this::createWorker);
+    }
+
+    /**
+     * Creates a proxy on a new Python process which is closed together with the proxy.
+     */
+    @SuppressWarnings("resource") // the gateway is managed by the returned object
+    private CloseablePythonNodeProxy createWorker() {
+        try {
+            return createProxy(m_extension.createGateway());
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to initialize Python gateway for a batch-map worker.", ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while creating Python gateway for a batch-map worker.", ex);
+        }
     }
 
 }
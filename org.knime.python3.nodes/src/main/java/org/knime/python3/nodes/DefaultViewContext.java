@@ -112,6 +112,14 @@ public PythonToolResult execute_tool(final PurePythonTablePortObject toolTable,
         return m_toolExecutor.executeTool(toolTable, parameters, inputs, executionHints);
     }
 
+    @Override
+    public PythonToolBatch execute_tools(final List<PurePythonTablePortObject> toolTables,
+        final List<String> parameters, final List<List<PythonPortObject>> inputs,
+        final List<Map<String, String>> executionHints, final int maxParallelism, final double timeoutSeconds) {
+        return m_toolExecutor.executeTools(toolTables, parameters, inputs, executionHints, maxParallelism,
+            timeoutSeconds);
+    }
+
     @Override
     public CombinedToolsWorkflowInfo init_combined_tools_workflow(final List<PythonPortObject> inputs,
         final String execMode, final boolean removeFailedTools) {
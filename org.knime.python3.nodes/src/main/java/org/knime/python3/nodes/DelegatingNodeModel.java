@@ -51,15 +51,15 @@
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -69,13 +69,15 @@
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 import java.util.zip.ZipInputStream;
-import java.util.zip.ZipOutputStream;
 
 import org.apache.commons.lang3.ArrayUtils;
+import org.knime.core.data.DataRow;
+import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEException;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
@@ -84,6 +86,13 @@
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.core.node.workflow.FlowVariable;
 import org.knime.core.node.workflow.ICredentials;
 import org.knime.core.node.workflow.NodeContainer;
@@ -98,11 +107,11 @@
 import org.knime.core.node.workflow.WorkflowSaveHelper;
 import org.knime.core.node.workflow.capture.WorkflowSegment;
 import org.knime.core.node.workflow.virtual.AbstractPortObjectRepositoryNodeModel;
+import org.knime.core.util.DuplicateChecker;
+import org.knime.core.util.DuplicateKeyException;
 import org.knime.core.util.FileUtil;
-import org.knime.core.util.FileUtil.ZipFileFilter;
 import org.knime.core.util.LockFailedException;
 import org.knime.core.util.Pair;
-import org.knime.core.util.VMFileLocker;
 import org.knime.core.util.asynclose.AsynchronousCloseableTracker;
 import org.knime.gateway.impl.project.VirtualWorkflowProjects;
 import org.knime.python3.nodes.proxy.NodeProxy;
@@ -121,6 +130,7 @@
 import org.knime.python3.nodes.settings.JsonNodeSettingsSchema;
 import org.knime.python3.utils.FlowVariableUtils;
 import org.knime.python3.views.PythonNodeViewStoragePath;
+import org.knime.python3.views.ViewResources;
 
 /**
  * NodeModel that delegates its operations to a proxy implemented in Python. Extends
@@ -134,6 +144,10 @@ public final class DelegatingNodeModel extends AbstractPortObjectRepositoryNodeM
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(DelegatingNodeModel.class);
 
+    private static final String STREAMING_CHUNK_SIZE_PROPERTY = "knime.python.extension.streaming.chunksize";
+
+    private static final int STREAMING_CHUNK_SIZE_DEFAULT = 10_000;
+
     private final NodeProxyProvider m_proxyProvider;
 
     private NodeViewProxy m_nodeViewProxy;
@@ -192,6 +206,8 @@ void set(final JsonNodeSettings settings) {
 
     private final boolean m_shouldHoldOutputs;
 
+    private final boolean m_isStreamable;
+
     private ViewData m_viewData;
 
     /**
@@ -205,10 +221,12 @@ void set(final JsonNodeSettings settings) {
      * @param outputPortMap Output Port Map for creating the node model
      * @param shouldHoldOutputs indicates if the execution outputs should be saved as internal data to be used by a node
      *            view
+     * @param isStreamable indicates if the node's execute is a batch map over its single input table, which allows to
+     *            run it in streaming mode
      */
     public DelegatingNodeModel(final NodeProxyProvider proxyProvider, final PortType[] inputPorts,
         final PortType[] outputPorts, final String extensionVersion, final Map<String, int[]> inputPortMap,
-        final Map<String, int[]> outputPortMap, final boolean shouldHoldOutputs) {
+        final Map<String, int[]> outputPortMap, final boolean shouldHoldOutputs, final boolean isStreamable) {
         super(inputPorts, outputPorts);
         m_proxyProvider = proxyProvider;
         m_view = Optional.empty();
@@ -217,6 +235,7 @@ public DelegatingNodeModel(final NodeProxyProvider proxyProvider, final PortType
         m_inputPortMap = inputPortMap;
         m_outputPortMap = outputPortMap;
         m_shouldHoldOutputs = shouldHoldOutputs;
+        m_isStreamable = isStreamable;
     }
 
     @Override
@@ -256,6 +275,9 @@ protected PortObject[] execute(final PortObject[] inData, final ExecutionContext
                 m_viewData == null ? null : m_viewData.getBackendData());
             m_settings.set(node.getSettings(m_extensionVersion));
             m_view = result.getView();
+            if (m_view.isPresent()) {
+                m_view.get().extractAssets();
+            }
             if (m_shouldHoldOutputs) {
                 m_internalInputPortObjects = inData;
             }
@@ -263,6 +285,101 @@ protected PortObject[] execute(final PortObject[] inData, final ExecutionContext
         });
     }
 
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        var roles = super.getInputPortRoles();
+        if (m_isStreamable) {
+            // a streamable node has exactly one input table (see knime.extension.nodes._Node.assert_streamable)
+            roles[0] = InputPortRole.NONDISTRIBUTED_STREAMABLE;
+        }
+        return roles;
+    }
+
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+        final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        if (!m_isStreamable) {
+            return super.createStreamableOperator(partitionInfo, inSpecs);
+        }
+        return new StreamableOperator() {
+
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                throws Exception {
+                executeStreaming((RowInput)inputs[0], (RowOutput)outputs[0], exec, getStreamingChunkSize());
+            }
+        };
+    }
+
+    /**
+     * Feeds the rows of the input in chunks through the Python node. All chunks are processed by the same Python
+     * process, so only one chunk (and its result) is materialized at any point in time.
+     *
+     * Each chunk is executed on its own, so the node can't see whether a RowID it creates was already used for an
+     * earlier chunk. The RowIDs of the output are therefore checked for uniqueness across all chunks.
+     */
+    void executeStreaming(final RowInput input, final RowOutput output, final ExecutionContext exec,
+        final int chunkSize) throws Exception {
+        runWithProxyConsumer(() -> m_proxyProvider.getExecutionProxy(new PortObject[0]), node -> {
+            node.loadValidatedSettings(m_settings.get());
+            var rowIds = new DuplicateChecker();
+            try {
+                long numProcessedRows = 0;
+                BufferedDataTable chunk;
+                while ((chunk = readChunk(input, chunkSize, exec)) != null) {
+                    exec.checkCanceled();
+                    var result = node.execute(new PortObject[]{chunk}, m_outputPorts,
+                        exec.createSubExecutionContext(0), this, this, this, this, null);
+                    var resultTable = (BufferedDataTable)result.getPortObjects()[0];
+                    for (var row : resultTable) {
+                        rowIds.addKey(row.getKey().getString());
+                        output.push(row);
+                    }
+                    numProcessedRows += chunk.size();
+                    exec.setMessage("Processed " + numProcessedRows + " rows");
+                    exec.clearTable(chunk);
+                    exec.clearTable(resultTable);
+                }
+                rowIds.checkForDuplicates();
+            } catch (DuplicateKeyException ex) {
+                throw new KNIMEException(String.format(
+                    "The RowID '%s' occurs in the output of more than one chunk. A streamable node must create RowIDs "
+                        + "that are unique across chunks, e.g. by keeping the RowIDs of its input rows.",
+                    ex.getKey()), ex);
+            } finally {
+                rowIds.clear();
+            }
+            input.close();
+            output.close();
+        });
+    }
+
+    private static BufferedDataTable readChunk(final RowInput input, final int chunkSize, final ExecutionContext exec)
+        throws InterruptedException {
+        DataRow row = input.poll();
+        if (row == null) {
+            return null;
+        }
+        var container = exec.createDataContainer(input.getDataTableSpec());
+        var numRows = 0;
+        do {
+            container.addRowToTable(row);
+            numRows++;
+        } while (numRows < chunkSize && (row = input.poll()) != null);
+        container.close();
+        return container.getTable();
+    }
+
+    private static int getStreamingChunkSize() {
+        var chunkSize = Integer.getInteger(STREAMING_CHUNK_SIZE_PROPERTY, STREAMING_CHUNK_SIZE_DEFAULT);
+        if (chunkSize < 1) {
+            LOGGER.errorWithFormat("Values below 1 (%s) for '%s' are not allowed. Falling back to %s.", chunkSize,
+                STREAMING_CHUNK_SIZE_PROPERTY, STREAMING_CHUNK_SIZE_DEFAULT);
+            return STREAMING_CHUNK_SIZE_DEFAULT;
+        }
+        return chunkSize;
+    }
+
     @Override
     public void setWarning(final String message) {
         setWarningMessage(message);
@@ -383,6 +500,13 @@ public Optional<Path> getPathToHtmlView() {
         return m_view.map(PythonNodeViewStoragePath::getPath);
     }
 
+    /**
+     * @return the resources that provide the scripts that were moved out of the HTML document of the view
+     */
+    public ViewResources getViewAssetResources() {
+        return m_view.map(PythonNodeViewStoragePath::getAssetResources).orElse(ViewResources.EMPTY_RESOURCES);
+    }
+
     /**
      * @return {@code true} if the node has a view that can be used in a report, {@code false} otherwise.
      */
@@ -529,6 +653,19 @@ public synchronized void disposeDataServiceProxy() throws Exception {
      */
     public final static class ViewData {
 
+        /**
+         * The file of view data that may contain the zipped workflow of the virtual project. Older versions only read
+         * this file, so it is not written anymore.
+         */
+        private static final String LEGACY_FILE_NAME = "internal_view_data.gz";
+
+        /**
+         * The file of view data that references the directory of the virtual project. Older versions would fail to
+         * read the negative markers of this format as the length of a zipped workflow (NegativeArraySizeException).
+         * Using a new file makes them load the node without view data instead.
+         */
+        private static final String FILE_NAME = "internal_view_data_v2.gz";
+
         private BackendViewData m_backendData;
 
         private String m_frontendData;
@@ -543,7 +680,7 @@ private ViewData() {
             //
         }
 
-        private ViewData(final String frontendData, final BackendViewData pythonData) {
+        ViewData(final String frontendData, final BackendViewData pythonData) {
             setFrontendData(frontendData);
             setBackendData(pythonData);
             m_doPersist = true;
@@ -552,7 +689,7 @@ private ViewData(final String frontendData, final BackendViewData pythonData) {
         /**
          * @return the view data to be provided to the frontend
          */
-        private String getFrontendData() {
+        String getFrontendData() {
             return m_frontendData;
         }
 
@@ -575,10 +712,11 @@ private boolean isMarkedToPersist() {
             return m_doPersist;
         }
 
-        private void save(final File nodeInternDir) throws IOException {
+        void save(final File nodeInternDir) throws IOException {
             if (m_doPersist) {
-                try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(new BufferedOutputStream(
-                    new FileOutputStream(new File(nodeInternDir, "internal_view_data.gz")))))) {
+                Files.deleteIfExists(new File(nodeInternDir, LEGACY_FILE_NAME).toPath());
+                try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(new File(nodeInternDir, FILE_NAME)))))) {
                     out.writeUTF(m_frontendData);
                     out.writeUTF(m_backendData.data());
                     out.writeInt(m_backendData.ports.length);
@@ -587,13 +725,17 @@ private void save(final File nodeInternDir) throws IOException {
                         out.writeUTF(m_backendData.portIds()[i]);
                     }
                     // write workflow
-                    var bytes = m_backendData.virtualProject.saveAsBlob();
-                    out.writeBoolean(bytes != null);
-                    if (bytes == null) {
-                        out.writeUTF(m_backendData.virtualProject.workflowId().toString());
+                    var virtualProject = m_backendData.virtualProject;
+                    var isWorkflowProject = virtualProject == null || virtualProject.isWorkflowProject();
+                    out.writeBoolean(isWorkflowProject);
+                    if (virtualProject == null) {
+                        out.writeInt(VirtualProject.NO_PROJECT_FORMAT);
+                    } else if (isWorkflowProject) {
+                        // NB: Older versions wrote the length of the zipped workflow followed by the bytes
+                        out.writeInt(VirtualProject.DIRECTORY_FORMAT);
+                        out.writeBoolean(virtualProject.save(nodeInternDir));
                     } else {
-                        out.writeInt(bytes.length);
-                        out.write(bytes);
+                        out.writeUTF(virtualProject.workflowId().toString());
                     }
                     out.flush();
                 } finally {
@@ -601,8 +743,12 @@ private void save(final File nodeInternDir) throws IOException {
             }
         }
 
-        private static ViewData load(final File nodeInternDir) throws IOException {
-            File f = new File(nodeInternDir, "internal_view_data.gz");
+        static ViewData load(final File nodeInternDir) throws IOException {
+            File f = new File(nodeInternDir, FILE_NAME);
+            if (!f.exists()) {
+                // Saved by an older version
+                f = new File(nodeInternDir, LEGACY_FILE_NAME);
+            }
             if (f.exists()) {
                 try (DataInputStream in =
                     new DataInputStream(new GZIPInputStream(new BufferedInputStream(new FileInputStream(f))))) {
@@ -614,24 +760,35 @@ private static ViewData load(final File nodeInternDir) throws IOException {
                         portIds[i] = in.readUTF();
                     }
                     // load workflow
-                    var hasBytes = in.readBoolean();
+                    var isWorkflowProject = in.readBoolean();
                     VirtualProject virtualProject;
-                    if (hasBytes) {
-                        var bytes = new byte[in.readInt()];
-                        in.readFully(bytes);
+                    if (isWorkflowProject) {
+                        var length = in.readInt();
                         var hostNode = NodeContext.getContext().getNodeContainer();
-                        virtualProject = new VirtualProject(bytes, hostNode);
+                        if (length == VirtualProject.NO_PROJECT_FORMAT) {
+                            virtualProject = null;
+                        } else if (length == VirtualProject.DIRECTORY_FORMAT) {
+                            virtualProject = VirtualProject.fromDirectory(nodeInternDir, in.readBoolean(), hostNode);
+                        } else {
+                            var bytes = new byte[length];
+                            in.readFully(bytes);
+                            virtualProject = new VirtualProject(bytes, hostNode);
+                        }
                     } else {
                         var workflowId = NodeID.fromString(in.readUTF());
                         virtualProject = new VirtualProject(workflowId);
                     }
+                    if (virtualProject == null) {
+                        // The ports of the view data reference nodes of the virtual project
+                        portIds = new String[0];
+                    }
                     return new ViewData(frontendData, new BackendViewData(backendData, ports, portIds, virtualProject));
                 }
             }
             return null;
         }
 
-        private void dispose() {
+        void dispose() {
             if (m_backendData != null && m_backendData.virtualProject != null) {
                 m_backendData.virtualProject.dispose();
             }
@@ -654,11 +811,45 @@ public record BackendViewData(String data, PortObject[] ports, String[] portIds,
         /**
          * Encapsulates a virtual workflow project that is persisted with the view data. A virtual workflow project is
          * never edited by the user directly and its life-cycle is controlled by the 'host node'.
+         * <p>
+         * The workflow is saved as a directory next to the workflow of the host node and only loaded when it is
+         * accessed for the first time. As long as it stays in this directory, saving it again only writes the nodes
+         * that changed. The node internals cannot be used for this because they are cleared before each save.
+         * <p>
+         * Since this directory is outside of the node internals, KNIME does not delete it together with the view data.
+         * Each project therefore has a file that references the view data file of its host node. The projects whose
+         * view data file is gone, because the host node has been deleted or reset, are deleted when the next virtual
+         * project of the workflow is saved.
          */
         public static final class VirtualProject {
 
+            /** Marks view data that references a directory instead of containing the zipped workflow */
+            private static final int DIRECTORY_FORMAT = -1;
+
+            /** Marks view data without a virtual project, e.g. because its directory was missing when loading */
+            private static final int NO_PROJECT_FORMAT = -2;
+
+            /**
+             * Suffix of the files next to the virtual projects in the workflow that contain the path of the view data
+             * file of the host node relative to the workflow, which is used to find the projects that are not
+             * referenced anymore
+             */
+            private static final String HOST_NODE_FILE_SUFFIX = ".host_node";
+
+            /** The directory in the workflow of the host node that contains the virtual projects */
+            private static final String VIRTUAL_PROJECTS_DIR_NAME = ".python_virtual_projects";
+
+            /** The directory in the node internals if the workflow of the host node cannot be determined */
+            private static final String VIRTUAL_PROJECT_DIR_NAME = "virtual_project";
+
+            private static final String WORKFLOW_FILE_NAME = "workflow.knime";
+
+            /** The zipped workflow of view data that was saved by an older version */
             private byte[] m_blob;
 
+            /** The directory of the saved workflow if it has not been loaded yet */
+            private File m_directory;
+
             private NodeContainer m_hostNode;
 
             private NodeID m_workflowId;
@@ -672,6 +863,36 @@ private VirtualProject(final byte[] blob, final NodeContainer hostNode) {
                 m_hostNode = hostNode;
             }
 
+            private VirtualProject(final File directory, final NodeContainer hostNode) {
+                m_directory = directory;
+                m_hostNode = hostNode;
+            }
+
+            /**
+             * @return the virtual project saved in the directory or {@code null} if the directory is missing (e.g.
+             *         because the workflow was copied without it)
+             */
+            private static VirtualProject fromDirectory(final File nodeInternDir, final boolean isInWorkflow,
+                final NodeContainer hostNode) throws IOException {
+                var directory = isInWorkflow //
+                    ? getWorkflowStorageDirectory(nodeInternDir) //
+                    : new File(nodeInternDir, VIRTUAL_PROJECT_DIR_NAME);
+                if (directory == null || !directory.isDirectory()) {
+                    LOGGER.warn("The workflow of the view data of node '" + hostNode.getNameWithID()
+                        + "' is missing. The view data is loaded without it.");
+                    return null;
+                }
+                if (isInWorkflow) {
+                    return new VirtualProject(directory, hostNode);
+                }
+                // Copy the workflow out of the node internals because they are cleared before they are saved again
+                var tmpDir = newTempDirWithName("virtual_project_" + hostNode.getNameWithID());
+                FileUtil.copyDir(directory, tmpDir);
+                var virtualProject = new VirtualProject(tmpDir, hostNode);
+                virtualProject.m_wfmTmpDir = tmpDir.getParentFile();
+                return virtualProject;
+            }
+
             /**
              * Creates a new virtual project from an existing workflow. The workflow is registered as a virtual project
              * workflow - see {@link VirtualWorkflowProjects#registerProject(WorkflowManager)}.
@@ -698,60 +919,177 @@ NodeID workflowId() {
             }
 
             /**
-             * @return {@code null} if is not a workflow project registered at {@link WorkflowManager#ROOT}
-             * @throws IOException
+             * @return {@code false} if this is not a workflow project registered at {@link WorkflowManager#ROOT} and
+             *         only its {@link #workflowId()} is persisted
              */
-            byte[] saveAsBlob() throws IOException {
-                if (m_workflowId == null && m_blob != null) {
-                    return m_blob;
+            boolean isWorkflowProject() {
+                return m_workflowId == null || m_workflowId.getPrefix().equals(WorkflowManager.ROOT.getID());
+            }
+
+            /**
+             * Saves the workflow project into a directory of the workflow of the host node. Falls back to the node
+             * internals if the workflow directory cannot be determined.
+             *
+             * @param nodeInternDir the internals directory of the host node
+             * @return {@code true} if the project was saved into the workflow directory, {@code false} if it was saved
+             *         into the node internals
+             * @throws IOException if saving the workflow failed
+             */
+            boolean save(final File nodeInternDir) throws IOException {
+                var workflowStorageDir = getWorkflowStorageDirectory(nodeInternDir);
+                var isInWorkflow = workflowStorageDir != null;
+                if (isInWorkflow) {
+                    deleteUnreferencedProjects(workflowStorageDir.getParentFile());
+                    writeHostNodeFile(nodeInternDir, workflowStorageDir);
                 }
-                if (m_workflowId.getPrefix().equals(WorkflowManager.ROOT.getID())) {
-                    return wfmToBlob(getWorkflow(m_workflowId));
+                var target = isInWorkflow ? workflowStorageDir : new File(nodeInternDir, VIRTUAL_PROJECT_DIR_NAME);
+                if (m_workflowId != null) {
+                    saveWorkflow(getWorkflow(m_workflowId), target, isInWorkflow);
+                } else if (m_directory != null) {
+                    // Not loaded yet - nothing to save if the workflow is already at the target location
+                    if (!m_directory.equals(target)) {
+                        FileUtil.deleteRecursively(target);
+                        FileUtil.copyDir(m_directory, target);
+                        if (isInWorkflow) {
+                            m_directory = target;
+                        }
+                    }
                 } else {
-                    return null;
+                    // Not loaded yet and persisted by an older version
+                    FileUtil.deleteRecursively(target);
+                    unzip(m_blob, target);
+                    if (isInWorkflow) {
+                        m_directory = target;
+                        m_blob = null;
+                    }
                 }
+                return isInWorkflow;
             }
 
-            private static byte[] wfmToBlob(final WorkflowManager wfm) throws IOException {
-                var tmpDir = newTempDirWithName("virtual_project_" + wfm.getNameWithID());
+            private static void saveWorkflow(final WorkflowManager wfm, final File target, final boolean isInWorkflow)
+                throws IOException {
+                var saveHelper = new WorkflowSaveHelper(true, false);
                 try {
-                    return wfmToBlob(wfm, tmpDir);
-                } finally {
-                    FileUtil.deleteRecursively(tmpDir.getParentFile());
+                    if (isInWorkflow) {
+                        var workflowDir = wfm.getNodeContainerDirectory();
+                        if (workflowDir == null || !target.equals(workflowDir.getFile())) {
+                            // Replace the project of a previous execution of the host node
+                            FileUtil.deleteRecursively(target);
+                        }
+                        // Only the nodes that changed are saved if the workflow has been saved to the target before
+                        wfm.save(target, saveHelper, new ExecutionMonitor());
+                    } else {
+                        // Save to a new location to make sure that all nodes are saved, because the node internals
+                        // were cleared
+                        var tmpDir = newTempDirWithName("virtual_project_" + wfm.getNameWithID());
+                        try {
+                            wfm.save(tmpDir, saveHelper, new ExecutionMonitor());
+                            FileUtil.copyDir(tmpDir, target);
+                        } finally {
+                            FileUtil.deleteRecursively(tmpDir.getParentFile());
+                        }
+                    }
+                } catch (LockFailedException | CanceledExecutionException | IOException e) {
+                    throw new IOException("Failed saving workflow for " + VirtualProject.class.getName(), e);
                 }
             }
 
-            private static File newTempDirWithName(final String name) throws IOException {
-                final String sanitizedName = FileUtil.ILLEGAL_FILENAME_CHARS_PATTERN.matcher(name).replaceAll("_");
-                return new File(FileUtil.createTempDir("python_virtual_project"), sanitizedName);
+            /**
+             * @return the directory for the virtual project of the host node in the (outermost) workflow that contains
+             *         the host node or {@code null} if the host node is not part of a workflow directory
+             */
+            private static File getWorkflowStorageDirectory(final File nodeInternDir) {
+                var nodeDir = nodeInternDir.getAbsoluteFile().getParentFile();
+                var workflowDir = getWorkflowDirectory(nodeDir);
+                if (workflowDir == null) {
+                    return null;
+                }
+                var relativeNodePath = workflowDir.toPath().relativize(nodeDir.toPath()).toString();
+                var name = FileUtil.ILLEGAL_FILENAME_CHARS_PATTERN.matcher(relativeNodePath).replaceAll("_");
+                return new File(new File(workflowDir, VIRTUAL_PROJECTS_DIR_NAME), name);
+            }
+
+            /**
+             * @return the outermost workflow directory that contains the node directory or {@code null} if the node is
+             *         not part of a workflow directory
+             */
+            private static File getWorkflowDirectory(final File nodeDir) {
+                File workflowDir = null;
+                for (var dir = nodeDir.getParentFile(); dir != null; dir = dir.getParentFile()) {
+                    if (new File(dir, WORKFLOW_FILE_NAME).exists()) {
+                        workflowDir = dir;
+                    } else if (workflowDir != null) {
+                        break;
+                    }
+                }
+                return workflowDir;
+            }
+
+            private static void writeHostNodeFile(final File nodeInternDir, final File workflowStorageDir)
+                throws IOException {
+                var viewDataFile = new File(nodeInternDir.getAbsoluteFile(), FILE_NAME);
+                var workflowDir = workflowStorageDir.getParentFile().getParentFile();
+                var relativeViewDataPath = workflowDir.toPath().relativize(viewDataFile.toPath()).toString();
+                Files.createDirectories(workflowStorageDir.getParentFile().toPath());
+                Files.writeString(getHostNodeFile(workflowStorageDir).toPath(), relativeViewDataPath,
+                    StandardCharsets.UTF_8);
             }
 
-            private static byte[] wfmToBlob(final WorkflowManager wfm, final File tmpDir) throws IOException {
-                try (var bos = new ByteArrayOutputStream(); ZipOutputStream out = new ZipOutputStream(bos);) {
-                    var saveHelper = new WorkflowSaveHelper(true, false);
-                    wfm.save(tmpDir, saveHelper, new ExecutionMonitor());
-                    FileUtil.zipDir(out, Collections.singleton(tmpDir), new ZipFileFilter() {
-                        @Override
-                        public boolean include(final File f) {
-                            return !f.getName().equals(VMFileLocker.LOCK_FILE);
+            private static File getHostNodeFile(final File workflowStorageDir) {
+                return new File(workflowStorageDir.getParentFile(),
+                    workflowStorageDir.getName() + HOST_NODE_FILE_SUFFIX);
+            }
+
+            /**
+             * Deletes the virtual projects whose view data file does not exist anymore. KNIME deletes the directories
+             * of deleted nodes and the internals of reset nodes when the workflow is saved, so their projects are
+             * deleted by the next save of another host node at the latest.
+             *
+             * @param projectsDir the directory of the virtual projects in the workflow
+             */
+            static void deleteUnreferencedProjects(final File projectsDir) {
+                var workflowDir = projectsDir.getParentFile();
+                var hostNodeFiles = projectsDir.listFiles((dir, name) -> name.endsWith(HOST_NODE_FILE_SUFFIX));
+                if (hostNodeFiles == null) {
+                    return;
+                }
+                for (var hostNodeFile : hostNodeFiles) {
+                    try {
+                        var relativeViewDataPath = Files.readString(hostNodeFile.toPath(), StandardCharsets.UTF_8);
+                        if (!new File(workflowDir, relativeViewDataPath).exists()) {
+                            var name = hostNodeFile.getName();
+                            var projectDir = new File(projectsDir,
+                                name.substring(0, name.length() - HOST_NODE_FILE_SUFFIX.length()));
+                            FileUtil.deleteRecursively(projectDir);
+                            Files.deleteIfExists(hostNodeFile.toPath());
                         }
-                    }, null);
-                    bos.flush();
-                    return bos.toByteArray();
-                } catch (LockFailedException | CanceledExecutionException | IOException e) {
-                    throw new IOException("Failed saving workflow for " + VirtualProject.class.getName(), e);
+                    } catch (IOException e) {
+                        LOGGER.debug("Could not delete the virtual project of a deleted or reset node.", e);
+                    }
                 }
             }
 
+            private static File newTempDirWithName(final String name) throws IOException {
+                final String sanitizedName = FileUtil.ILLEGAL_FILENAME_CHARS_PATTERN.matcher(name).replaceAll("_");
+                return new File(FileUtil.createTempDir("python_virtual_project"), sanitizedName);
+            }
+
             WorkflowManager loadAndGetWorkflow() {
                 if (m_workflowId == null) {
-                    var res = blobToWfm(m_blob, null, m_hostNode);
-                    var wfm = res.getFirst();
+                    final WorkflowManager wfm;
+                    if (m_directory != null) {
+                        // Load the workflow in place such that later saves to this directory are incremental
+                        wfm = loadWorkflow(m_directory, null, m_hostNode);
+                    } else {
+                        var res = blobToWfm(m_blob, null, m_hostNode);
+                        wfm = res.getFirst();
+                        m_wfmTmpDir = res.getSecond();
+                    }
                     m_projectId = VirtualWorkflowProjects.registerProject(wfm);
                     m_workflowId = wfm.getID();
                     m_blob = null;
+                    m_directory = null;
                     m_hostNode = null;
-                    m_wfmTmpDir = res.getSecond();
                 }
                 return getWorkflow(m_workflowId);
             }
@@ -766,11 +1104,27 @@ private static WorkflowManager getWorkflow(final NodeID workflowId) {
 
             private static Pair<WorkflowManager, File> blobToWfm(final byte[] bytes,
                 final Consumer<WorkflowLoadResult> loadResultCallback, final NodeContainer hostNode) {
-                try (var in = new ZipInputStream(new ByteArrayInputStream(bytes))) {
+                try {
                     final var tmpDir = newTempDirWithName("virtual_project_" + hostNode.getNameWithID());
-                    FileUtil.unzip(in, tmpDir, 1);
-                    var loadHelper = WorkflowSegment.createWorkflowLoadHelper(tmpDir, LOGGER::warn);
-                    var loadResult = WorkflowManager.ROOT.load(tmpDir, new ExecutionMonitor(), loadHelper, false);
+                    unzip(bytes, tmpDir);
+                    return new Pair<>(loadWorkflow(tmpDir, loadResultCallback, hostNode), tmpDir.getParentFile());
+                } catch (IOException ex) {
+                    // should never happen
+                    throw new IllegalStateException("Failed loading workflow port object", ex);
+                }
+            }
+
+            private static void unzip(final byte[] bytes, final File directory) throws IOException {
+                try (var in = new ZipInputStream(new ByteArrayInputStream(bytes))) {
+                    FileUtil.unzip(in, directory, 1);
+                }
+            }
+
+            private static WorkflowManager loadWorkflow(final File directory,
+                final Consumer<WorkflowLoadResult> loadResultCallback, final NodeContainer hostNode) {
+                try {
+                    var loadHelper = WorkflowSegment.createWorkflowLoadHelper(directory, LOGGER::warn);
+                    var loadResult = WorkflowManager.ROOT.load(directory, new ExecutionMonitor(), loadHelper, false);
                     var wfm = loadResult.getWorkflowManager();
                     if (loadResultCallback != null) {
                         loadResultCallback.accept(loadResult);
@@ -781,7 +1135,7 @@ private static Pair<WorkflowManager, File> blobToWfm(final byte[] bytes,
                             NodeUIInformation.builder(hostNodeUIInfo).translate(new int[]{60, -60, 0, 0}).build();
                         wfm.setUIInformation(startUI);
                     }
-                    return new Pair<>(wfm, tmpDir.getParentFile());
+                    return wfm;
                 } catch (InvalidSettingsException | CanceledExecutionException | UnsupportedWorkflowVersionException
                         | LockFailedException | IOException ex) {
                     // should never happen
@@ -791,10 +1145,15 @@ private static Pair<WorkflowManager, File> blobToWfm(final byte[] bytes,
 
             void dispose() {
                 if (m_workflowId == null) {
+                    if (m_wfmTmpDir != null) {
+                        FileUtil.deleteRecursively(m_wfmTmpDir);
+                        m_wfmTmpDir = null;
+                    }
                     return;
                 }
 
                 m_blob = null;
+                m_directory = null;
                 m_hostNode = null;
 
                 var wfm = getWorkflow(m_workflowId);
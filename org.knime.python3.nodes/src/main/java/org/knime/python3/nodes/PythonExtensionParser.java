@@ -327,6 +327,8 @@ private static final class JsonNodeDescription {
 
         private boolean is_hidden;
 
+        private boolean is_streamable;
+
         private String node_type;
 
         private String icon_path;
@@ -365,7 +367,8 @@ PythonNode toPythonNode(final Path modulePath) {
                 .collect(Collectors.toList());
 
             return new PythonNode(id, category, after, keywords, descriptionBuilder.build(), views.length,
-                is_deprecated, is_hidden, getExtensionNodeViews(modulePath), inputPortSpecifiers, outputPortSpecifiers);
+                is_deprecated, is_hidden, is_streamable, getExtensionNodeViews(modulePath), inputPortSpecifiers,
+                outputPortSpecifiers);
         }
 
         private NodeDescriptionBuilder createDescriptionBuilder() {
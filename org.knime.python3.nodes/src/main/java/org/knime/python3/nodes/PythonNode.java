@@ -83,6 +83,8 @@ public final class PythonNode implements ExtensionNode {
 
     private final boolean m_isHidden;
 
+    private final boolean m_isStreamable;
+
     private final ExtensionNodeView[] m_viewResources;
 
     /**
@@ -96,6 +98,7 @@ public final class PythonNode implements ExtensionNode {
      * @param numViews
      * @param isDeprecated whether the node is deprecated
      * @param isHidden whether the node is hidden from node repository
+     * @param isStreamable whether the node's execute is a batch map that can be run in streaming mode
      * @param viewResources
      * @param inputPortSpecifiers
      * @param outputPortSpecifiers
@@ -108,6 +111,7 @@ public PythonNode(final String id, //
         final int numViews, //
         final boolean isDeprecated, //
         final boolean isHidden, //
+        final boolean isStreamable, //
         final ExtensionNodeView[] viewResources, //
         final List<PortSpecifier> inputPortSpecifiers, //
         final List<PortSpecifier> outputPortSpecifiers) {
@@ -121,6 +125,7 @@ public PythonNode(final String id, //
         m_numViews = numViews;
         m_isDeprecated = isDeprecated;
         m_isHidden = isHidden;
+        m_isStreamable = isStreamable;
         m_viewResources = viewResources;
 
         m_inputPortSpecifiers = inputPortSpecifiers;
@@ -197,6 +202,11 @@ public boolean isHidden() {
         return m_isHidden;
     }
 
+    @Override
+    public boolean isStreamable() {
+        return m_isStreamable;
+    }
+
     @Override
     public ExtensionNodeView[] getExtensionNodeView() {
         return m_viewResources;
@@ -49,12 +49,29 @@
 package org.knime.python3.nodes;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -101,6 +118,8 @@
 import org.knime.python3.nodes.ports.PythonPortTypeRegistry;
 import org.knime.python3.nodes.ports.converters.PortObjectConversionContext;
 import org.knime.python3.nodes.proxy.PythonToolContext.CombinedToolsWorkflowInfo;
+import org.knime.python3.nodes.proxy.PythonToolContext.PythonToolBatch;
+import org.knime.python3.nodes.proxy.PythonToolContext.PythonToolBatchResult;
 import org.knime.python3.nodes.proxy.PythonToolContext.PythonToolResult;
 
 /**
@@ -110,6 +129,30 @@
  */
 final class ToolExecutor implements AutoCloseable {
 
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ToolExecutor.class);
+
+    /**
+     * System property that controls how many tools of a batch (see
+     * {@link #executeTools(List, List, List, List, int, double)}) are executed at the same time if the caller doesn't
+     * specify it.
+     */
+    static final String TOOL_PARALLELISM_PROPERTY = "knime.python.tools.parallelism";
+
+    private static final int DEFAULT_TOOL_PARALLELISM = 4;
+
+    /**
+     * How often a batch with a timeout checks whether one of its running tools exceeded the timeout.
+     */
+    private static final long TIMEOUT_CHECK_INTERVAL_MS = 100;
+
+    /**
+     * How long {@link #close()} waits for cancelled tools to stop before it switches back the file store handler of the
+     * host node.
+     */
+    private static final long TOOL_TERMINATION_TIMEOUT_MS = 10_000;
+
+    private static final AtomicInteger TOOL_THREAD_COUNTER = new AtomicInteger();
+
     private final ExecutionContext m_exec;
 
     private NativeNodeContainer m_nodeContainer;
@@ -126,6 +169,10 @@ final class ToolExecutor implements AutoCloseable {
 
     private FileStoreHandlerSwitcher m_fileStoreSwitcher = new FileStoreHandlerSwitcher();
 
+    private final Set<ToolBatch<?>> m_batches = ConcurrentHashMap.newKeySet();
+
+    private final ToolResultCache m_resultCache = new ToolResultCache(ToolResultCache.getCacheSize());
+
     ToolExecutor(final ExecutionContext exec, final NativeNodeContainer nodeContainer,
         final PythonArrowTableConverter tableManager) {
         m_exec = exec;
@@ -150,11 +197,110 @@ PythonToolResult executeTool(final PurePythonTablePortObject pythonToolTable, fi
             throw new IllegalStateException("ToolExecutor has already been closed");
         }
 
+        var cacheKey = m_resultCache.createKey(pythonToolTable, parameters, inputs, executionHints);
+        var cachedResult = m_resultCache.get(cacheKey);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+
         m_fileStoreSwitcher.switchFileStoreHandler(m_nodeContainer, true);
 
         // TODO AP-24410: Properly register output file stores
         Map<String, FileStore> dummyFileStoreMap = Map.of();
         var conversionContext = new PortObjectConversionContext(dummyFileStoreMap, m_tableManager, m_exec);
+        var call = prepareToolCall(pythonToolTable, parameters, inputs, executionHints, cacheKey, conversionContext);
+        NodeContext.pushContext(m_nodeContainer);
+        try {
+            var result = toPythonToolResult(call.execute(m_exec), conversionContext);
+            m_resultCache.put(cacheKey, result);
+            return result;
+        } finally {
+            NodeContext.removeLastContext();
+        }
+    }
+
+    /**
+     * Executes independent tools concurrently. The conversion of the inputs and outputs from and to Python happens in
+     * the calling thread (it relies on the shared table manager), only the tool executions themselves run in parallel.
+     * All tools share the temporary file store handler of the host node, which is installed once before any tool
+     * starts, such that no tool can observe (or dispose) another tool's handler.
+     */
+    PythonToolBatch executeTools(final List<PurePythonTablePortObject> pythonToolTables,
+        final List<String> parameters, final List<List<PythonPortObject>> inputs,
+        final List<Map<String, String>> executionHints, final int maxParallelism, final double timeoutSeconds) {
+        if (m_nodeContainer == null) {
+            throw new IllegalStateException("ToolExecutor has already been closed");
+        }
+        var numCalls = pythonToolTables.size();
+        if (parameters.size() != numCalls || inputs.size() != numCalls || executionHints.size() != numCalls) {
+            throw new IllegalArgumentException("The number of tools, parameters, inputs and execution hints differ.");
+        }
+
+        m_fileStoreSwitcher.switchFileStoreHandler(m_nodeContainer, true);
+
+        Map<String, FileStore> dummyFileStoreMap = Map.of();
+        var conversionContext = new PortObjectConversionContext(dummyFileStoreMap, m_tableManager, m_exec);
+        var calls = new ArrayList<ToolCall>(numCalls);
+        var cachedResults = new ArrayList<PythonToolBatchResult>();
+        for (var i = 0; i < numCalls; i++) {
+            var cacheKey = m_resultCache.createKey(pythonToolTables.get(i), parameters.get(i), inputs.get(i),
+                executionHints.get(i));
+            var cachedResult = m_resultCache.get(cacheKey);
+            if (cachedResult != null) {
+                cachedResults.add(new PythonToolBatchResult(i, cachedResult, null));
+                calls.add(null);
+            } else {
+                calls.add(prepareToolCall(pythonToolTables.get(i), parameters.get(i), inputs.get(i),
+                    executionHints.get(i), cacheKey, conversionContext));
+            }
+        }
+        var numExecutions = Math.max(numCalls - cachedResults.size(), 1);
+        var parallelism =
+            Math.min(maxParallelism > 0 ? maxParallelism : getDefaultToolParallelism(), numExecutions);
+        var timeoutNanos = timeoutSeconds > 0 ? (long)(timeoutSeconds * 1e9) : 0L;
+        var nodeContainer = m_nodeContainer;
+        var tasks = calls.stream()//
+            .map(call -> call == null ? null : (Callable<ToolResult>)() -> {
+                NodeContext.pushContext(nodeContainer);
+                try {
+                    return call.execute(m_exec);
+                } finally {
+                    NodeContext.removeLastContext();
+                }
+            })//
+            .toList();
+        return new ToolBatch<>(tasks, cachedResults, (index, result) -> {
+            NodeContext.pushContext(nodeContainer);
+            try {
+                var pyResult = toPythonToolResult(result, conversionContext);
+                m_resultCache.put(calls.get(index).cacheKey(), pyResult);
+                return pyResult;
+            } finally {
+                NodeContext.removeLastContext();
+            }
+        }, parallelism, timeoutNanos, m_batches);
+    }
+
+    static int getDefaultToolParallelism() {
+        var value = System.getProperty(TOOL_PARALLELISM_PROPERTY);
+        if (value == null) {
+            return DEFAULT_TOOL_PARALLELISM;
+        }
+        try {
+            var parallelism = Integer.parseInt(value.trim());
+            if (parallelism > 0) {
+                return parallelism;
+            }
+        } catch (NumberFormatException ex) { // NOSONAR the value is logged below
+        }
+        LOGGER.errorWithFormat("Invalid value '%s' for system property %s, using the default of %d.", value,
+            TOOL_PARALLELISM_PROPERTY, DEFAULT_TOOL_PARALLELISM);
+        return DEFAULT_TOOL_PARALLELISM;
+    }
+
+    private static ToolCall prepareToolCall(final PurePythonTablePortObject pythonToolTable, final String parameters,
+        final List<PythonPortObject> inputs, final Map<String, String> executionHints,
+        final ToolResultCache.Key cacheKey, final PortObjectConversionContext conversionContext) {
         var inputPortObjects = inputs.stream()//
             .map(po -> PythonPortTypeRegistry.convertPortObjectFromPython(po, conversionContext))//
             .toArray(PortObject[]::new);
@@ -162,23 +308,185 @@ PythonToolResult executeTool(final PurePythonTablePortObject pythonToolTable, fi
         var toolTable =
             (BufferedDataTable)PythonPortTypeRegistry.convertPortObjectFromPython(pythonToolTable, conversionContext);
 
-        var tool = getTool(toolTable);
-        NodeContext.pushContext(m_nodeContainer);
-        try {
-            var result = tool.execute(parameters, inputPortObjects, m_exec, executionHints);
-            var viewNodeIds = getViewNodeIdsAndRegisterVirtualProject(result);
-            var outputs = result.outputs();
-            if (outputs == null) {
-                return new PythonToolResult(result.message(), null, null, viewNodeIds);
+        return new ToolCall(getTool(toolTable), parameters, inputPortObjects, executionHints, cacheKey);
+    }
+
+    private PythonToolResult toPythonToolResult(final ToolResult result,
+        final PortObjectConversionContext conversionContext) {
+        var viewNodeIds = getViewNodeIdsAndRegisterVirtualProject(result);
+        var outputs = result.outputs();
+        if (outputs == null) {
+            return new PythonToolResult(result.message(), null, null, viewNodeIds);
+        }
+        var pyOutputs = Stream.of(outputs)//
+            .map(po -> PythonPortTypeRegistry.convertPortObjectToPython(po, conversionContext))//
+            .toArray(PythonPortObject[]::new);
+
+        return new PythonToolResult(result.message(), pyOutputs, null, viewNodeIds);
+    }
+
+    /**
+     * @param cacheKey identifying the result in the {@link ToolResultCache} or {@code null} if it must not be cached
+     */
+    private record ToolCall(ToolValue tool, String parameters, PortObject[] inputs,
+        Map<String, String> executionHints, ToolResultCache.Key cacheKey) {
+
+        ToolResult execute(final ExecutionContext exec) {
+            return tool.execute(parameters, inputs, exec, executionHints);
+        }
+    }
+
+    /**
+     * Runs the tool calls of a batch on a dedicated, bounded thread pool and hands out the results in completion
+     * order. A dedicated pool is used instead of the global KNIME thread pool because each tool execution blocks
+     * while the nodes of its (virtual) workflow run on the global pool. Results taken from the {@link ToolResultCache}
+     * are handed out first.
+     *
+     * A tool that exceeds the timeout or is cancelled is interrupted and its result is discarded. Tools can't be
+     * stopped forcefully, so a tool that doesn't react to the interruption keeps its thread until it finishes;
+     * {@link #awaitTermination(long, TimeUnit)} lets callers wait for that.
+     *
+     * @param <R> the type of result produced by the tool calls
+     */
+    static final class ToolBatch<R> implements PythonToolBatch {
+
+        private final Queue<PythonToolBatchResult> m_cachedResults;
+
+        private final BiFunction<Integer, R, PythonToolResult> m_resultConverter;
+
+        private final ExecutorService m_pool;
+
+        private final CompletionService<R> m_completionService;
+
+        private final Map<Future<R>, Integer> m_pending = new HashMap<>();
+
+        private final AtomicLongArray m_startTimes;
+
+        private final long m_timeoutNanos;
+
+        /**
+         * @param tasks the tool calls to execute, {@code null} for calls whose result is among the cached results
+         * @param cachedResults handed out before the results of the tasks
+         * @param resultConverter converts the result of the task with the given index, called in the thread calling
+         *            {@link #next_result()}
+         * @param parallelism maximum number of tasks that run at the same time
+         * @param timeoutNanos maximum time a single task may run or 0 if tasks don't time out
+         * @param activeBatches the batch is part of this set until all of its threads have stopped
+         */
+        ToolBatch(final List<Callable<R>> tasks, final List<PythonToolBatchResult> cachedResults,
+            final BiFunction<Integer, R, PythonToolResult> resultConverter, final int parallelism,
+            final long timeoutNanos, final Set<ToolBatch<?>> activeBatches) {
+            m_cachedResults = new ArrayDeque<>(cachedResults);
+            m_resultConverter = resultConverter;
+            m_timeoutNanos = timeoutNanos;
+            m_startTimes = new AtomicLongArray(tasks.size());
+            m_pool = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), ToolExecutor::newToolThread) {
+                @Override
+                protected void terminated() {
+                    activeBatches.remove(ToolBatch.this);
+                }
+            };
+            m_completionService = new ExecutorCompletionService<>(m_pool);
+            activeBatches.add(this);
+            for (var i = 0; i < tasks.size(); i++) {
+                var task = tasks.get(i);
+                if (task == null) {
+                    // the result is cached
+                    continue;
+                }
+                var index = i;
+                var future = m_completionService.submit(() -> {
+                    m_startTimes.set(index, System.nanoTime());
+                    return task.call();
+                });
+                m_pending.put(future, index);
             }
-            var pyOutputs = Stream.of(result.outputs())//
-                .map(po -> PythonPortTypeRegistry.convertPortObjectToPython(po, conversionContext))//
-                .toArray(PythonPortObject[]::new);
+            // threads stop once the submitted tasks are done
+            m_pool.shutdown();
+        }
 
-            return new PythonToolResult(result.message(), pyOutputs, null, viewNodeIds);
-        } finally {
-            NodeContext.removeLastContext();
+        @Override
+        public synchronized PythonToolBatchResult next_result() throws InterruptedException {
+            if (!m_cachedResults.isEmpty()) {
+                return m_cachedResults.poll();
+            }
+            while (!m_pending.isEmpty()) {
+                var future = m_timeoutNanos > 0
+                    ? m_completionService.poll(TIMEOUT_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS)
+                    : m_completionService.take();
+                if (future != null) {
+                    var index = m_pending.remove(future);
+                    if (index != null) {
+                        return toBatchResult(index, future);
+                    }
+                    // the tool already timed out and its result has been handed out
+                } else {
+                    var timedOut = removeTimedOut();
+                    if (timedOut != null) {
+                        return timedOut;
+                    }
+                }
+            }
+            return null;
         }
+
+        private PythonToolBatchResult removeTimedOut() {
+            var now = System.nanoTime();
+            for (var iterator = m_pending.entrySet().iterator(); iterator.hasNext();) {
+                var entry = iterator.next();
+                var index = entry.getValue();
+                var start = m_startTimes.get(index);
+                if (start != 0 && now - start > m_timeoutNanos) {
+                    iterator.remove();
+                    entry.getKey().cancel(true);
+                    return new PythonToolBatchResult(index, null,
+                        String.format("Tool execution timed out after %.1f seconds.", m_timeoutNanos / 1e9));
+                }
+            }
+            return null;
+        }
+
+        private PythonToolBatchResult toBatchResult(final int index, final Future<R> future)
+            throws InterruptedException {
+            try {
+                return new PythonToolBatchResult(index, m_resultConverter.apply(index, future.get()), null);
+            } catch (CancellationException ex) { // NOSONAR
+                return new PythonToolBatchResult(index, null, "Tool execution has been cancelled.");
+            } catch (ExecutionException ex) {
+                var cause = ex.getCause() != null ? ex.getCause() : ex;
+                LOGGER.debug("Tool execution failed.", cause);
+                var message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+                return new PythonToolBatchResult(index, null, message);
+            }
+        }
+
+        @Override
+        public synchronized void cancel() {
+            m_pending.clear();
+            m_cachedResults.clear();
+            // also interrupts tools that timed out but are still running
+            m_pool.shutdownNow();
+        }
+
+        /**
+         * Waits until all threads of the batch have stopped, i.e. until all tools have completed or reacted to being
+         * cancelled.
+         *
+         * @param timeout the maximum time to wait
+         * @param unit the unit of the timeout
+         * @return {@code true} if all threads have stopped, {@code false} if the timeout elapsed before
+         * @throws InterruptedException if interrupted while waiting
+         */
+        boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+            return m_pool.awaitTermination(timeout, unit);
+        }
+    }
+
+    private static Thread newToolThread(final Runnable runnable) {
+        var thread = new Thread(runnable, "KNIME-Python-Tool-Executor-" + TOOL_THREAD_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
     }
 
     CombinedToolsWorkflowInfo initCombinedToolsWorkflow(final List<PythonPortObject> inputs,
@@ -335,6 +643,10 @@ private static ToolValue getTool(final BufferedDataTable toolTable) {
 
     @Override
     public void close() throws Exception {
+        // running tools might still create file stores, stop them before the file store handler is switched back
+        var batches = List.copyOf(m_batches);
+        batches.forEach(ToolBatch::cancel);
+        awaitTermination(batches);
         if (m_disposeCombinedToolsWorkflowOnClose) {
             m_combinedToolsWorkflow.dispose();
         }
@@ -351,6 +663,23 @@ public void close() throws Exception {
         m_fileStoreSwitcher = null;
     }
 
+    private static void awaitTermination(final List<ToolBatch<?>> batches) {
+        var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TOOL_TERMINATION_TIMEOUT_MS);
+        try {
+            for (var batch : batches) {
+                if (!batch.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    LOGGER.warnWithFormat(
+                        "Some tools are still running %d seconds after they have been cancelled. "
+                            + "File stores they create might not be accessible.",
+                        TimeUnit.MILLISECONDS.toSeconds(TOOL_TERMINATION_TIMEOUT_MS));
+                    return;
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private static class FileStoreHandlerSwitcher implements AutoCloseable {
 
         private NativeNodeContainer m_nodeContainer;
@@ -0,0 +1,197 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ */
+package org.knime.python3.nodes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.python3.nodes.ports.PythonPortObjects.PurePythonTablePortObject;
+import org.knime.python3.nodes.ports.PythonPortObjects.PythonPortObject;
+import org.knime.python3.nodes.proxy.PythonToolContext.PythonToolResult;
+
+/**
+ * Memoizes the results of tool executions within the lifetime of a {@link ToolExecutor}. Only tools that the caller
+ * declares as side-effect-free via the {@link #SIDE_EFFECT_FREE_HINT execution hint} are cached, and only if caching
+ * is enabled via {@link #CACHE_SIZE_PROPERTY}.
+ *
+ * A result is identified by the tool, the parameters and the input tables. Tools and input tables are compared by a
+ * fingerprint of the data Python wrote for them, since Python creates new tables for every call.
+ *
+ * The fingerprint relies on Python writing the same bytes for the same record batches: the Arrow IPC writer pads with
+ * zeros, the supported compression codecs are deterministic and batches are written in order even if a writer thread
+ * is used. The same data split into different batches (or written with a different codec) results in a different
+ * fingerprint, which only causes a cache miss but never hands out the result of a different call.
+ */
+final class ToolResultCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ToolResultCache.class);
+
+    /**
+     * System property that controls how many tool results are kept per {@link ToolExecutor}. Caching is disabled by
+     * default (size 0).
+     */
+    static final String CACHE_SIZE_PROPERTY = "knime.python.tools.result.cache.size";
+
+    /**
+     * Execution hint with which the caller declares that a tool has no side effects, i.e. that executing it again with
+     * the same parameters and inputs yields the same result.
+     */
+    static final String SIDE_EFFECT_FREE_HINT = "side_effect_free";
+
+    private static final int DEFAULT_CACHE_SIZE = 0;
+
+    private final int m_maxSize;
+
+    // access-ordered, i.e. the least recently used result comes first
+    private final LinkedHashMap<Key, PythonToolResult> m_results = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, PythonToolResult> eldest) {
+            return size() > m_maxSize;
+        }
+    };
+
+    ToolResultCache(final int maxSize) {
+        m_maxSize = maxSize;
+    }
+
+    static int getCacheSize() {
+        var value = System.getProperty(CACHE_SIZE_PROPERTY);
+        if (value == null) {
+            return DEFAULT_CACHE_SIZE;
+        }
+        try {
+            var size = Integer.parseInt(value.trim());
+            if (size >= 0) {
+                return size;
+            }
+        } catch (NumberFormatException ex) { // NOSONAR the value is logged below
+        }
+        LOGGER.errorWithFormat("Invalid value '%s' for system property %s, using the default of %d.", value,
+            CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE);
+        return DEFAULT_CACHE_SIZE;
+    }
+
+    /**
+     * Identifies the result of a tool execution.
+     *
+     * @param tool fingerprint of the table holding the tool
+     * @param parameters JSON with the parameters for the tool
+     * @param inputs fingerprints of the input tables
+     */
+    record Key(String tool, String parameters, List<String> inputs) {
+    }
+
+    /**
+     * @return the key identifying the result of the tool call or {@code null} if the result must not be cached
+     */
+    Key createKey(final PurePythonTablePortObject toolTable, final String parameters,
+        final List<PythonPortObject> inputs, final Map<String, String> executionHints) {
+        if (m_maxSize == 0 || executionHints == null
+            || !Boolean.parseBoolean(executionHints.get(SIDE_EFFECT_FREE_HINT))) {
+            return null;
+        }
+        try {
+            var inputFingerprints = new ArrayList<String>(inputs.size());
+            for (var input : inputs) {
+                if (!(input instanceof PurePythonTablePortObject table)) {
+                    return null;
+                }
+                inputFingerprints.add(fingerprint(table));
+            }
+            return new Key(fingerprint(toolTable), parameters, inputFingerprints);
+        } catch (IOException ex) {
+            LOGGER.debug("Failed to fingerprint the tool call, its result is not cached.", ex);
+            return null;
+        }
+    }
+
+    /**
+     * @param key of the tool call, may be {@code null}
+     * @return the cached result or {@code null} if there is none
+     */
+    synchronized PythonToolResult get(final Key key) {
+        return key == null ? null : m_results.get(key);
+    }
+
+    /**
+     * Caches the result unless the key is {@code null} or the tool execution failed.
+     *
+     * @param key of the tool call, may be {@code null}
+     * @param result of the tool call
+     */
+    synchronized void put(final Key key, final PythonToolResult result) {
+        if (key != null && result.outputs() != null) {
+            m_results.put(key, result);
+        }
+    }
+
+    private static String fingerprint(final PurePythonTablePortObject table) throws IOException {
+        var path = Path.of(table.getPythonArrowDataSink().getAbsolutePath());
+        try (InputStream in = Files.newInputStream(path)) {
+            var digest = MessageDigest.getInstance("SHA-256");
+            var buffer = new byte[8192];
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            // SHA-256 is available on every Java platform
+            throw new IllegalStateException(ex);
+        }
+    }
+}
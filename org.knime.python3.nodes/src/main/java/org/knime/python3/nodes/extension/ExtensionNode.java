@@ -107,6 +107,12 @@ public interface ExtensionNode {
      */
     boolean isHidden();
 
+    /**
+     * @return true if the node's execute is a pure batch map over its single input table so that it can be run in
+     *         streaming mode
+     */
+    boolean isStreamable();
+
     /**
      * @return the paths to the resources and index HTML for each view
      */
@@ -292,7 +292,10 @@ public NodeView createNodeView(final DelegatingNodeModel nodeModel) {
                         () -> nodeModel.getPathToHtmlView().orElseThrow(
                             () -> new IllegalStateException("View is not present. This is a coding error.")) //
                     ) //
-                    .resources(viewResources) //
+                    .resources(page -> {
+                        viewResources.addToPage(page);
+                        nodeModel.getViewAssetResources().addToPage(page);
+                    }) //
                     .canBeUsedInReport(nodeModel::canViewBeUsedInReport) //
                     .build();
             } else {
@@ -396,7 +399,8 @@ protected DelegatingNodeModel createNodeModel(final NodeCreationConfiguration cr
 
             // happens here to speed up the population of the node repository
             return new DelegatingNodeModel(m_proxyProvider, config.getInputPorts(), config.getOutputPorts(),
-                m_extensionVersion, config.getInputPortLocation(), config.getOutputPortLocation(), shouldHoldOutputs);
+                m_extensionVersion, config.getInputPortLocation(), config.getOutputPortLocation(), shouldHoldOutputs,
+                m_node.isStreamable());
         }
 
         @Override
@@ -56,6 +56,7 @@
 
 import org.knime.core.data.filestore.FileStore;
 import org.knime.core.data.filestore.FileStorePortObject;
+import org.knime.core.data.filestore.FileStoreUtil;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.port.PortObjectSpec;
@@ -127,6 +128,13 @@ public String getFilePath() {
         return getFileStore(0).getFile().getAbsolutePath();
     }
 
+    /**
+     * @return the key of the file store that contains the binary data, needed to identify the data in Python
+     */
+    public String getFileStoreKey() {
+        return FileStoreUtil.getFileStoreKey(getFileStore(0)).saveToString();
+    }
+
     @Override
     public String getSummary() {
         return shortenString(m_spec.getId(), 60, "...");
@@ -164,6 +164,14 @@ public interface PurePythonImagePortObject extends PythonPortObject {
          */
         String getImageBytes();
 
+        /**
+         * The image is handed over as a file to avoid encoding the bytes as a string. The receiver of the image must
+         * delete the file after reading it.
+         *
+         * @return The path to the file that contains the image bytes as they are, or null if the bytes are only
+         *         available via {@link #getImageBytes()}
+         */
+        String getImageFilePath();
     }
 
     /**
@@ -197,6 +205,8 @@ public static final class PythonTablePortObject implements PythonPortObject, Por
 
         private final PythonArrowTableConverter m_tableConverter;
 
+        private final PythonArrowDataSource m_dataSource;
+
         /**
          * Create a {@link PythonTablePortObject} from a {@link BufferedDataTable}.
          *
@@ -206,6 +216,20 @@ public static final class PythonTablePortObject implements PythonPortObject, Por
         public PythonTablePortObject(final BufferedDataTable table, final PythonArrowTableConverter tableConverter) {
             m_data = table;
             m_tableConverter = tableConverter;
+            m_dataSource = null;
+        }
+
+        /**
+         * Create a {@link PythonTablePortObject} that provides the given {@link PythonArrowDataSource} to Python, e.g. a
+         * window of the batches of the table.
+         *
+         * @param table The table data going along this port
+         * @param dataSource The source that is handed to Python instead of the whole table
+         */
+        public PythonTablePortObject(final BufferedDataTable table, final PythonArrowDataSource dataSource) {
+            m_data = table;
+            m_tableConverter = null;
+            m_dataSource = dataSource;
         }
 
         @Override
@@ -225,6 +249,9 @@ public String getJavaClassName() {
          * @throws IOException In case of a I/O error
          */
         public PythonDataSource getDataSource() throws IOException {
+            if (m_dataSource != null) {
+                return m_dataSource;
+            }
             // TODO: dispatch the task _before_ we actually access the data from Python?!
             return m_tableConverter.createSource(m_data);
         }
@@ -268,6 +295,15 @@ public String getFilePath() {
             return m_data.getFilePath();
         }
 
+        /**
+         * Used on the Python side to identify the binary data, e.g. to reuse an already deserialized object
+         *
+         * @return The key of the file store that contains the binary data
+         */
+        public String getFileStoreKey() {
+            return m_data.getFileStoreKey();
+        }
+
         /**
          * @return the {@link PythonBinaryPortObjectSpec} for this port object
          */
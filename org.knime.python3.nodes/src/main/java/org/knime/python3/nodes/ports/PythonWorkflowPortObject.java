@@ -48,7 +48,9 @@
  */
 package org.knime.python3.nodes.ports;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -68,7 +70,9 @@
 import org.knime.core.node.workflow.capture.WorkflowSegmentExecutor;
 import org.knime.core.node.workflow.capture.WorkflowSegmentExecutor.ExecutionMode;
 import org.knime.core.node.workflow.capture.WorkflowSegmentExecutor.WorkflowSegmentNodeMessage;
+import org.knime.python3.arrow.PythonArrowDataSink;
 import org.knime.python3.arrow.PythonArrowTableConverter;
+import org.knime.python3.nodes.ports.PythonPortObjects.PurePythonTablePortObject;
 import org.knime.python3.nodes.ports.PythonPortObjects.PythonPortObject;
 import org.knime.python3.nodes.ports.PythonPortObjects.PythonPortObjectSpec;
 import org.knime.python3.nodes.ports.converters.PortObjectConversionContext;
@@ -90,6 +94,14 @@ public final class PythonWorkflowPortObject implements PythonPortObject {
 
     private final PythonArrowTableConverter m_tableConverter;
 
+    // Python hands in the same sink again if a table is passed to repeated executions, see _PythonWorkflowPortObject
+    private final Map<PythonArrowDataSink, PortObject> m_convertedInputs =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    // e.g. if an output is passed through from an input or shared with an earlier execution
+    private final Map<PortObject, PythonPortObject> m_convertedOutputs =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
     /**
      * @param workflow to make available in Python
      * @param tableConverter for converting the inputs and outputs during workflow execution
@@ -123,6 +135,8 @@ public WorkflowPortObject getWorkflow() {
      *
      * NOTE: Currently only table inputs and outputs are fully supported.
      *
+     * Tables that have already been converted for an earlier execution are reused.
+     *
      * @param inputs to execute the workflow on
      * @param warningConsumer callback that is invoked when the workflow emits a warning
      * @return the result of the workflow execution
@@ -139,7 +153,7 @@ public WorkflowExecutionResult execute(final Map<String, PythonPortObject> input
         var inportObjectConversionContext = new PortObjectConversionContext(dummyFileStoreMap, m_tableConverter, exec);
         PortObject[] portObjects = workflowInputIDs.stream()//
             .map(inputs::get)// get inputs in order defined by workflow spec
-            .map(p -> PythonPortTypeRegistry.convertPortObjectFromPython(p, inportObjectConversionContext))
+            .map(p -> convertInputFromPython(p, inportObjectConversionContext))//
             .toArray(PortObject[]::new);
         var executor = createExecutor(warningConsumer, exec);
         try {
@@ -151,7 +165,8 @@ public WorkflowExecutionResult execute(final Map<String, PythonPortObject> input
             }
             var outportConversionContext = new PortObjectConversionContext(dummyFileStoreMap, m_tableConverter, null);
             var outputs = Stream.of(result.outputs())//
-                .map(p -> PythonPortTypeRegistry.convertPortObjectToPython(p, outportConversionContext))//
+                .map(p -> m_convertedOutputs.computeIfAbsent(p,
+                    o -> PythonPortTypeRegistry.convertPortObjectToPython(o, outportConversionContext)))//
                 .toArray(PythonPortObject[]::new);
             var flowVariables = FlowVariableUtils.convertToMap(result.flowVariables());
             return new WorkflowExecutionResult(outputs, flowVariables);
@@ -160,6 +175,15 @@ public WorkflowExecutionResult execute(final Map<String, PythonPortObject> input
         }
     }
 
+    private PortObject convertInputFromPython(final PythonPortObject input,
+        final PortObjectConversionContext conversionContext) {
+        if (input instanceof PurePythonTablePortObject table) {
+            return m_convertedInputs.computeIfAbsent(table.getPythonArrowDataSink(),
+                sink -> PythonPortTypeRegistry.convertPortObjectFromPython(input, conversionContext));
+        }
+        return PythonPortTypeRegistry.convertPortObjectFromPython(input, conversionContext);
+    }
+
     // NOSONAR only used as transport container to Python
     record WorkflowExecutionResult(PythonPortObject[] outputs, Map<String, Object> flowVariables) {
     }
@@ -49,6 +49,8 @@
 package org.knime.python3.nodes.ports.converters;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Base64;
 
 import org.knime.base.data.xml.SvgCell;
@@ -182,7 +184,7 @@ public PythonTransientConnectionPortObject fromPython(final PurePythonConnection
         @Override
         public ImagePortObject fromPython(final PurePythonImagePortObject purePythonPortObject,
             final PortObjectConversionContext context) {
-            final var bytes = Base64.getDecoder().decode(purePythonPortObject.getImageBytes().getBytes());
+            final var bytes = readImageBytes(purePythonPortObject);
             ImagePortObjectSpec spec;
 
             if (PythonImagePortObject.isPngBytes(bytes)) {
@@ -196,6 +198,29 @@ public ImagePortObject fromPython(final PurePythonImagePortObject purePythonPort
             var pythonPortObject = new PythonImagePortObject(bytes, spec);
             return pythonPortObject.getPortObject();
         }
+
+        /**
+         * Read the image from the file that Python handed over, or decode the Base64 string if Python did not write a
+         * file. The file is deleted afterwards.
+         */
+        private static byte[] readImageBytes(final PurePythonImagePortObject purePythonPortObject) {
+            final var filePath = purePythonPortObject.getImageFilePath();
+            if (filePath == null) {
+                return Base64.getDecoder().decode(purePythonPortObject.getImageBytes().getBytes());
+            }
+            final var path = Path.of(filePath);
+            try {
+                return Files.readAllBytes(path);
+            } catch (IOException ex) {
+                throw new RuntimeException("Failed to read the image written by Python", ex);
+            } finally {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException ex) { // NOSONAR
+                    // the file is in the temporary directory and will be cleaned up eventually
+                }
+            }
+        }
     }
 
     /**
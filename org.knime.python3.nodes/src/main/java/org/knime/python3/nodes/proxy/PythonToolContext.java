@@ -85,6 +85,53 @@ record PythonToolResult(String message, PythonPortObject[] outputs, List<String>
     PythonToolResult execute_tool(PurePythonTablePortObject toolTable, String parameters,
         List<PythonPortObject> inputs, Map<String, String> executionHints);
 
+    /**
+     * Result of a single tool execution within a {@link PythonToolBatch}.
+     *
+     * @param index of the tool call within the batch
+     * @param result of the tool execution or {@code null} if the execution failed
+     * @param error message describing why the execution failed or {@code null} if it succeeded
+     */
+    record PythonToolBatchResult(int index, PythonToolResult result, String error) {
+    }
+
+    /**
+     * Handle on a batch of tool executions that run concurrently. Results are handed out in the order in which the
+     * executions complete.
+     */
+    interface PythonToolBatch {
+
+        /**
+         * Blocks until the next tool execution of the batch completes or times out.
+         *
+         * @return the result of the next completed tool execution or {@code null} if all results have been handed out
+         * @throws InterruptedException if the calling thread is interrupted while waiting
+         */
+        PythonToolBatchResult next_result() throws InterruptedException; // NOSONAR
+
+        /**
+         * Cancels all tool executions of the batch that have not completed yet.
+         */
+        void cancel();
+    }
+
+    /**
+     * Executes independent tools concurrently in Java. The lists must all have the same size, the i-th entries
+     * describe the i-th tool call.
+     *
+     * @param toolTables each holding a single tool to execute
+     * @param parameters JSON with the parameters for each tool
+     * @param inputs input data for each tool
+     * @param executionHints additional, optional hints for each tool execution
+     * @param maxParallelism maximum number of tools executed at the same time, a value smaller than 1 selects the
+     *            default
+     * @param timeoutSeconds maximum time a single tool may run, a value of 0 or smaller disables the timeout
+     * @return a handle to retrieve the results as the executions complete
+     */
+    PythonToolBatch execute_tools(List<PurePythonTablePortObject> toolTables, List<String> parameters,
+        List<List<PythonPortObject>> inputs, List<Map<String, String>> executionHints, int maxParallelism,
+        double timeoutSeconds);
+
     /**
      * Info about an initialized combined-tools workflow.
      *
@@ -60,9 +60,14 @@ import knime.extension.parameter as kp
 import knime.api.schema as ks
 
 import knime._arrow._table as kat
+import pyarrow as pa
 import knime.api.table as kt
+import base64
+import collections.abc
+import decimal
 import importlib
 import json
+import os
 import logging
 import datetime as dt
 
@@ -206,20 +211,35 @@ class _PythonConnectionPortObject:
 
 
 class _PythonImagePortObject:
+    """
+    Hands the image bytes over to Java in a temporary file, so that they don't need to
+    be encoded as a string. Java reads the bytes as they are and deletes the file.
+    """
+
     def __init__(self, java_class_name, data):
-        import base64
+        import tempfile
 
         if isinstance(data, str):  # string potentially representing an SVG image
             data = data.encode("utf-8")
 
         self._java_class_name = java_class_name
-        self._img_bytes = base64.b64encode(data).decode("utf-8")
+        with tempfile.NamedTemporaryFile(
+            prefix="knime-image-", suffix=".img", delete=False
+        ) as f:
+            f.write(data)
+            self._img_file_path = f.name
 
     def getJavaClassName(self) -> str:  # NOSONAR
         return self._java_class_name
 
     def getImageBytes(self) -> str:  # NOSONAR
-        return self._img_bytes
+        import base64
+
+        with open(self._img_file_path, "rb") as f:
+            return base64.b64encode(f.read()).decode("utf-8")
+
+    def getImageFilePath(self) -> str:  # NOSONAR
+        return self._img_file_path
 
     class Java:
         implements = [
@@ -244,6 +264,9 @@ _bdt_java_type = "org.knime.core.node.BufferedDataTable"
 class _PythonWorkflowPortObject:
     _java_to_port_type = {_bdt_java_type: kn.PortType.TABLE}
 
+    # number of input tables whose converted form is kept for repeated executions
+    _MAX_PREPARED_INPUTS = 16
+
     def __init__(
         self,
         workflow,
@@ -253,6 +276,8 @@ class _PythonWorkflowPortObject:
         self._workflow = workflow
         self._workflow_spec = workflow_spec
         self._type_registry = type_registry
+        # id(table) -> (table, prepared_table), the table is kept to keep its id unique
+        self._prepared_inputs = collections.OrderedDict()
 
     @property
     def spec(self) -> ks.WorkflowPortObjectSpec:
@@ -279,8 +304,7 @@ class _PythonWorkflowPortObject:
 
         prepared_inputs = {}
         for key, input in inputs.items():
-            prepared_input = self._type_registry.table_from_python(input)
-            prepared_inputs[key] = prepared_input
+            prepared_inputs[key] = self._prepare_input(input)
 
         outports = [
             self._create_placeholder_port_type(id, outport)
@@ -306,6 +330,23 @@ class _PythonWorkflowPortObject:
             result.flowVariables(),
         )
 
+    def _prepare_input(self, table):
+        """
+        Writes the table for KNIME unless the same (immutable) table has been passed
+        to an earlier execution, in which case Java also reuses its converted table.
+        """
+        if not isinstance(table, kat.ArrowTable):
+            return self._type_registry.table_from_python(table)
+        entry = self._prepared_inputs.get(id(table))
+        if entry is not None and entry[0] is table:
+            self._prepared_inputs.move_to_end(id(table))
+            return entry[1]
+        prepared = self._type_registry.table_from_python(table)
+        self._prepared_inputs[id(table)] = (table, prepared)
+        while len(self._prepared_inputs) > self._MAX_PREPARED_INPUTS:
+            self._prepared_inputs.popitem(last=False)
+        return prepared
+
     def _create_placeholder_port_type(self, id: str, port_info: ks.WorkflowPortInfo):
         port_type = self._java_to_port_type.get(port_info.type_id)
         if port_type is None:
@@ -423,10 +464,161 @@ class _JavaConfigContext(_JavaBaseContext):
         ]
 
 
+class _RpcCursor:
+    """
+    The position in a result of a data service method that is sent to the view page by
+    page. Tables are iterated batch by batch, such that only the rows of the current
+    page need to be loaded and converted to JSON.
+    """
+
+    _END = object()
+
+    def __init__(self, result) -> None:
+        self._is_table = _RpcCursor.is_table(result)
+        self._items = (
+            _RpcCursor._record_batches(result) if self._is_table else iter(result)
+        )
+        self._column_names = None
+        self._batch = None
+        self._offset = 0
+        self._peeked = _RpcCursor._END
+        self._advance()
+
+    @staticmethod
+    def is_paged(result) -> bool:
+        return _RpcCursor.is_table(result) or isinstance(
+            result, collections.abc.Iterator
+        )
+
+    @staticmethod
+    def is_table(result) -> bool:
+        return isinstance(result, (kt.Table, pa.Table, pa.RecordBatch))
+
+    @staticmethod
+    def _record_batches(table):
+        if isinstance(table, pa.RecordBatch):
+            yield table
+        elif isinstance(table, pa.Table):
+            yield from table.to_batches()
+        elif hasattr(table, "batches"):
+            for batch in table.batches():
+                yield from batch.to_pyarrow().to_batches()
+        else:
+            yield from table.to_pyarrow().to_batches()
+
+    @property
+    def exhausted(self) -> bool:
+        if self._is_table:
+            return self._batch is None
+        return self._peeked is _RpcCursor._END
+
+    def next_page(self, page_size: int) -> Dict[str, Any]:
+        if self._is_table:
+            return {"data": self._next_rows(page_size)}
+        return {"items": self._next_items(page_size)}
+
+    def _next_items(self, page_size: int) -> List[Any]:
+        items = []
+        while len(items) < page_size and not self.exhausted:
+            items.append(self._peeked)
+            self._advance()
+        return items
+
+    def _next_rows(self, page_size: int) -> Dict[str, List[Any]]:
+        slices = []
+        num_rows = 0
+        while num_rows < page_size and not self.exhausted:
+            length = min(page_size - num_rows, self._batch.num_rows - self._offset)
+            slices.append(self._batch.slice(self._offset, length))
+            self._offset += length
+            num_rows += length
+            self._advance()
+
+        columns = {name: [] for name in self._column_names or []}
+        for batch_slice in slices:
+            for name, values in batch_slice.to_pydict().items():
+                columns[name].extend(values)
+        return columns
+
+    def _advance(self) -> None:
+        """Move to the next item or to the next batch that has rows left"""
+        if not self._is_table:
+            self._peeked = next(self._items, _RpcCursor._END)
+            return
+        while self._batch is None or self._offset >= self._batch.num_rows:
+            self._batch = next(self._items, None)
+            self._offset = 0
+            if self._batch is None:
+                return
+            if self._column_names is None:
+                self._column_names = self._batch.schema.names
+
+
 class _JsonRpcDataService:
+    """
+    Handles the JSON-RPC requests of a view by calling the methods of the data service.
+
+    Methods that return a table (a ``knext.Table`` or a pyarrow ``Table`` or
+    ``RecordBatch``) or an iterator are sent to the view page by page instead of as a
+    whole. The result is ``{"data": {column: [values]}, "cursor": cursor}`` for tables
+    and ``{"items": [items], "cursor": cursor}`` for iterators. The view requests the
+    next page with the method ``knime.nextPage`` and the parameters ``cursor`` and
+    optionally ``page_size``. The cursor is ``None`` on the last page. Cursors that are
+    not needed anymore can be released with ``knime.closeCursor``.
+    """
+
+    PAGE_SIZE = 1000
+    MAX_OPEN_CURSORS = 16
+
+    _NEXT_PAGE_METHOD = "knime.nextPage"
+    _CLOSE_CURSOR_METHOD = "knime.closeCursor"
+
     def __init__(self, portTypeRegistry: "_PortTypeRegistry", delegate):
         self._portTypeRegistry = portTypeRegistry
         self._delegate = delegate
+        self._cursors = collections.OrderedDict()
+        self._next_cursor_id = 0
+
+    def _open_cursor(self, result, page_size: int) -> Dict[str, Any]:
+        cursor = _RpcCursor(result)
+        cursor_id = str(self._next_cursor_id)
+        self._next_cursor_id += 1
+        self._cursors[cursor_id] = cursor
+        # Views that are scrolled away from a result never close its cursor
+        while len(self._cursors) > self.MAX_OPEN_CURSORS:
+            self._cursors.popitem(last=False)
+        return self._next_page(cursor_id, page_size)
+
+    def _next_page(self, cursor, page_size: Optional[int] = None) -> Dict[str, Any]:
+        if cursor not in self._cursors:
+            raise KeyError(f"Unknown or closed cursor '{cursor}'.")
+        rpc_cursor = self._cursors[cursor]
+        self._cursors.move_to_end(cursor)
+        page = rpc_cursor.next_page(page_size or self.PAGE_SIZE)
+        if rpc_cursor.exhausted:
+            del self._cursors[cursor]
+            page["cursor"] = None
+        else:
+            page["cursor"] = cursor
+        return page
+
+    def _close_cursor(self, cursor) -> None:
+        self._cursors.pop(cursor, None)
+
+    def _call(self, method: str, params):
+        if method == self._NEXT_PAGE_METHOD:
+            func = self._next_page
+        elif method == self._CLOSE_CURSOR_METHOD:
+            func = self._close_cursor
+        else:
+            func = getattr(self._delegate, method)
+        if isinstance(params, dict):
+            result = func(**params)
+        else:
+            result = func(*params)
+        if _RpcCursor.is_paged(result):
+            return self._open_cursor(result, self.PAGE_SIZE)
+        return result
 
     def handleJsonRpcRequest(self, request: str):
         try:
@@ -435,7 +627,9 @@ class _JsonRpcDataService:
             params = req.get("params", [])
             id_ = req.get("id", None)
 
-            if not hasattr(self._delegate, method):
+            if method in (self._NEXT_PAGE_METHOD, self._CLOSE_CURSOR_METHOD):
+                response = self._handle_cursor_request(method, params, id_)
+            elif not hasattr(self._delegate, method):
                 response = {
                     "jsonrpc": "2.0",
                     "id": id_,
@@ -445,11 +639,7 @@ class _JsonRpcDataService:
                     },
                 }
             else:
-                func = getattr(self._delegate, method)
-                if isinstance(params, dict):
-                    result = func(**params)
-                else:
-                    result = func(*params)
+                result = self._call(method, params)
                 response = {"jsonrpc": "2.0", "id": id_, "result": result}
         except Exception as ex:
             response = {
@@ -458,7 +648,18 @@ class _JsonRpcDataService:
                 "error": {"code": -32603, "message": str(ex)},
             }
 
-        return json.dumps(response)
+        return json.dumps(response, default=_json_default)
+
+    def _handle_cursor_request(self, method: str, params, id_):
+        try:
+            result = self._call(method, params)
+        except (KeyError, TypeError) as ex:
+            return {
+                "jsonrpc": "2.0",
+                "id": id_,
+                "error": {"code": -32602, "message": str(ex)},
+            }
+        return {"jsonrpc": "2.0", "id": id_, "result": result}
 
     def getViewData(self) -> "_PythonViewData":
         import json
@@ -482,6 +683,15 @@ class _JsonRpcDataService:
         ]
 
 
+def _json_default(value):
+    """Converts the values of table pages that JSON does not support to strings"""
+    if isinstance(value, (dt.date, dt.time, dt.timedelta, decimal.Decimal)):
+        return str(value)
+    if isinstance(value, bytes):
+        return base64.b64encode(value).decode("ascii")
+    raise TypeError(f"Object of type {type(value).__name__} is not JSON serializable")
+
+
 class _PythonViewData:
     def __init__(
         self,
@@ -513,6 +723,7 @@ class _ViewContext(kn._BaseContext):
         super().__init__(java_ctx, flow_variables)
         self._tool_executor = _ToolExecutor(java_ctx, type_registry)
         self._execute_tool = self._tool_executor.execute_tool
+        self._execute_tools = self._tool_executor.execute_tools
         self._execute_tool_in_combined_workflow = (
             self._tool_executor.execute_tool_in_combined_workflow
         )
@@ -546,6 +757,84 @@ class _ViewContext(kn._BaseContext):
         }
 
 
+class _PortObjectCache:
+    """
+    Cache of deserialized port objects of this Python process, so that nodes that are
+    executed in a warm gateway don't decode the same input again.
+
+    Entries are keyed by the file store key and the port object class, and are only
+    returned as long as the size and modification time of the file store match the
+    ones of the cached object. A file store that has been disposed thus invalidates
+    its entry. The cache is bounded by the size of the cached files and evicts the
+    least recently used entries first. A maximum size of 0 disables the cache.
+    """
+
+    def __init__(self, max_bytes: int = 0) -> None:
+        self._max_bytes = max_bytes
+        self._entries = collections.OrderedDict()
+        self._num_bytes = 0
+
+    def set_max_bytes(self, max_bytes: int) -> None:
+        self._max_bytes = max_bytes
+        self._evict_until(max_bytes)
+
+    @property
+    def enabled(self) -> bool:
+        return self._max_bytes > 0
+
+    def get_or_load(self, key, file_path: str, load: Callable[[], Any]) -> Any:
+        if not self.enabled:
+            return load()
+
+        try:
+            stat = os.stat(file_path)
+        except OSError:
+            self._remove(key)
+            return load()
+
+        fingerprint = (stat.st_size, stat.st_mtime_ns)
+        entry = self._entries.get(key)
+        if entry is not None:
+            if entry[1] == fingerprint:
+                self._entries.move_to_end(key)
+                return entry[2]
+            self._remove(key)
+
+        obj = load()
+        if stat.st_size <= self._max_bytes:
+            self._remove_disposed()
+            self._entries[key] = (file_path, fingerprint, obj)
+            self._num_bytes += stat.st_size
+            self._evict_until(self._max_bytes)
+        return obj
+
+    def clear(self) -> None:
+        self._entries.clear()
+        self._num_bytes = 0
+
+    def _remove(self, key) -> None:
+        entry = self._entries.pop(key, None)
+        if entry is not None:
+            self._num_bytes -= entry[1][0]
+
+    def _remove_disposed(self) -> None:
+        disposed = [
+            key
+            for key, (file_path, _, _) in self._entries.items()
+            if not os.path.exists(file_path)
+        ]
+        for key in disposed:
+            self._remove(key)
+
+    def _evict_until(self, max_bytes: int) -> None:
+        while self._entries and self._num_bytes > max_bytes:
+            _, (_, fingerprint, _) = self._entries.popitem(last=False)
+            self._num_bytes -= fingerprint[0]
+
+
+_port_object_cache = _PortObjectCache()
+
+
 class _PortTypeRegistry:
     # One global dictionary for all connections
     _connection_port_data = {}
@@ -806,12 +1095,25 @@ class _PortTypeRegistry:
                 incoming_port_type = self._extract_port_type_from_spec_data(
                     json.loads(java_spec.toJsonString()), port
                 )
-                if issubclass(incoming_port_type.object_class, kn.FilestorePortObject):
-                    return incoming_port_type.object_class.read_from(
-                        spec, port_object.getFilePath()
-                    )
-                data = read_port_object_data()
-                return incoming_port_type.object_class.deserialize(spec, data)
+                object_class = incoming_port_type.object_class
+                file_path = port_object.getFilePath()
+
+                def load_port_object():
+                    if issubclass(object_class, kn.FilestorePortObject):
+                        return object_class.read_from(spec, file_path)
+                    if issubclass(object_class, kn.MemoryMappedPortObject):
+                        return object_class.from_segments(
+                            spec, kn._read_segments(file_path)
+                        )
+                    return object_class.deserialize(spec, read_port_object_data())
+
+                if not _port_object_cache.enabled:
+                    return load_port_object()
+                return _port_object_cache.get_or_load(
+                    (port_object.getFileStoreKey(), object_class),
+                    file_path,
+                    load_port_object,
+                )
         elif (
             class_name
             == "org.knime.python3.nodes.ports.PythonTransientConnectionPortObject"
@@ -927,6 +1229,10 @@ class _PortTypeRegistry:
                     file_path = filestore.get_file_path()
                     obj.write_to(file_path)
                     return _PythonBinaryPortObject(class_name, filestore, spec)
+                elif issubclass(port.type.object_class, kn.MemoryMappedPortObject):
+                    filestore = file_creator()
+                    kn._write_segments(filestore.get_file_path(), obj.to_segments())
+                    return _PythonBinaryPortObject(class_name, filestore, spec)
                 else:
                     serialized = obj.serialize()
                     return _PythonBinaryPortObject.from_bytes(
@@ -1438,6 +1744,8 @@ class _ToolExecutor:
             The parameters to pass to the workflow tool.
         inputs: list of port object inputs for the tool. Only tables are supported, yet.
         execution_hints: optional hints controlling the tool execution - doesn't need to be respected by the implementation
+            {"side_effect_free": "true"} allows KNIME to return a cached result
+            for identical parameters and inputs if result caching is enabled.
 
         Returns
         -------
@@ -1457,6 +1765,67 @@ class _ToolExecutor:
         result = self._java_ctx.execute_tool(
             tool_table, parameter_json, prepared_inputs, execution_hints
         )
+        return self._tool_result_to_python(result)
+
+    def execute_tools(self, calls: List, max_parallelism: int = 0, timeout: float = 0):
+        """
+        Execute independent KNIME workflow tools concurrently.
+
+        Parameters
+        ----------
+        calls:
+            list of (tool, parameters, inputs, execution_hints) tuples, each as
+            expected by execute_tool.
+        max_parallelism: maximum number of tools running at the same time,
+            0 selects the default
+        timeout: maximum number of seconds a single tool may run, 0 disables it
+
+        Yields
+        ------
+        tuple
+            (index, result) as soon as a tool completes, where index is the position
+            of the call in calls and result is either the (message, outputs,
+            view_node_ids) tuple execute_tool would return or the RuntimeError
+            describing why the tool failed.
+        """
+        tool_tables = []
+        parameter_jsons = []
+        prepared_inputs = []
+        hints = []
+        for tool, parameters, inputs, execution_hints in calls:
+            tool_tables.append(self._wrap_tool_in_table(tool))
+            parameter_jsons.append(json.dumps(parameters))
+            prepared_inputs.append(
+                [self._type_registry.table_from_python(input) for input in inputs]
+            )
+            hints.append(execution_hints or {})
+
+        batch = self._java_ctx.execute_tools(
+            tool_tables,
+            parameter_jsons,
+            prepared_inputs,
+            hints,
+            int(max_parallelism or 0),
+            float(timeout or 0),
+        )
+        try:
+            while True:
+                batch_result = batch.next_result()
+                if batch_result is None:
+                    return
+                if batch_result.error() is not None:
+                    yield batch_result.index(), RuntimeError(batch_result.error())
+                    continue
+                try:
+                    result = self._tool_result_to_python(batch_result.result())
+                except RuntimeError as error:
+                    result = error
+                yield batch_result.index(), result
+        finally:
+            # stops the tools that are still running if the caller stops early
+            batch.cancel()
+
+    def _tool_result_to_python(self, result):
         outputs = result.outputs()
         if outputs is None:
             raise RuntimeError(result.message())
@@ -1561,6 +1930,7 @@ class _ExecutionContext(kn.ExecutionContext):
         self._type_registry = type_registry
         self._tool_executor = _ToolExecutor(java_exec_context, type_registry)
         self._execute_tool = self._tool_executor.execute_tool
+        self._execute_tools = self._tool_executor.execute_tools
         self._get_combined_tools_workflow = (
             self._tool_executor.get_combined_tools_workflow
         )
@@ -1678,6 +2048,7 @@ class _KnimeNodeBackend(kg.EntryPoint, kn._KnimeNodeBackend):
         _push_log_callback(lambda msg, sev: callback.log(msg, sev))
         _set_proxy_settings(callback)
         _set_tmp_directory(callback)
+        _port_object_cache.set_max_bytes(callback.get_port_object_cache_size())
 
     def retrieveCategoriesAsJson(self) -> str:
         category_dicts = [category.to_dict() for category in kn._categories]
@@ -52,6 +52,8 @@ from abc import ABC, abstractmethod
 from dataclasses import dataclass, asdict
 from enum import Enum
 from typing import Any, Dict, List, Optional, Callable, Type, Union
+import json
+import mmap
 import os.path
 
 import knime.extension.parameter as kp
@@ -268,6 +270,94 @@ class FilestorePortObject(PortObject):
         """
 
 
+class MemoryMappedPortObject(PortObject):
+    """
+    MemoryMappedPortObjects are a special kind of PortObject that is read from a memory
+    map of its file instead of from a bytes object. Large objects like embeddings,
+    indices or models can thereby be opened lazily and partially: only the accessed
+    pages are read from disk and nothing is copied into the Python heap.
+
+    The data of the object consists of named segments, which are stored in one file
+    together with a header that indexes them.
+
+    This is experimental internal API that may change arbitrarily between releases.
+    """
+
+    def serialize(self) -> bytes:
+        raise RuntimeError(
+            "Serialize should not be called for MemoryMappedPortObjects."
+        )
+
+    @classmethod
+    def deserialize(cls, spec: PortObjectSpec, storage: bytes) -> "PortObject":
+        raise RuntimeError(
+            "Deserialize should not be called for MemoryMappedPortObjects."
+        )
+
+    @abstractmethod
+    def to_segments(self) -> Dict[str, Any]:
+        """
+        Returns the data of the object as named segments. The values can be any
+        C-contiguous objects that support the buffer protocol, e.g. bytes, memoryviews
+        or numpy arrays.
+        """
+
+    @classmethod
+    @abstractmethod
+    def from_segments(
+        cls, spec: PortObjectSpec, segments: Dict[str, memoryview]
+    ) -> "MemoryMappedPortObject":
+        """
+        Creates the object from the segments that were returned by to_segments. Each
+        segment is a read-only memoryview of the mapped file that is aligned to 64
+        bytes, such that it can directly back e.g. a numpy array via numpy.frombuffer.
+        The file stays mapped as long as one of the memoryviews is referenced.
+        """
+
+
+_SEGMENTS_MAGIC = b"KNIMESEG"
+_SEGMENT_ALIGNMENT = 64
+
+
+def _write_segments(file_path: str, segments: Dict[str, Any]) -> None:
+    """
+    Writes the segments to the file: the magic number, the length of the header, the
+    header (JSON with the name, offset and length of each segment) and the segments.
+    """
+    views = {name: memoryview(data).cast("B") for name, data in segments.items()}
+    header_entries = []
+    offset = 0
+    for name, view in views.items():
+        header_entries.append([name, offset, view.nbytes])
+        offset += view.nbytes + (-view.nbytes % _SEGMENT_ALIGNMENT)
+
+    # The offsets in the header are relative to the (aligned) end of the header
+    header = json.dumps(header_entries).encode("utf-8")
+    with open(file_path, "wb") as f:
+        f.write(_SEGMENTS_MAGIC)
+        f.write(len(header).to_bytes(8, "little"))
+        f.write(header)
+        for name, view in views.items():
+            f.write(b"\x00" * (-f.tell() % _SEGMENT_ALIGNMENT))
+            f.write(view)
+
+
+def _read_segments(file_path: str) -> Dict[str, memoryview]:
+    with open(file_path, "rb") as f:
+        if f.read(len(_SEGMENTS_MAGIC)) != _SEGMENTS_MAGIC:
+            raise ValueError(f"The file '{file_path}' does not contain segments.")
+        view = memoryview(mmap.mmap(f.fileno(), 0, access=mmap.ACCESS_READ))
+    header_start = len(_SEGMENTS_MAGIC) + 8
+    header_length = int.from_bytes(view[len(_SEGMENTS_MAGIC) : header_start], "little")
+    header = json.loads(bytes(view[header_start : header_start + header_length]))
+    data_start = header_start + header_length
+    data_start += -data_start % _SEGMENT_ALIGNMENT
+    return {
+        name: view[data_start + offset : data_start + offset + length]
+        for name, offset, length in header
+    }
+
+
 def load_port_object(
     port_object_type: Type[PortObject], spec: PortObjectSpec, file_path: str
 ) -> PortObject:
@@ -278,6 +368,8 @@ def load_port_object(
     """
     if issubclass(port_object_type, FilestorePortObject):
         return port_object_type.read_from(spec, file_path)
+    elif issubclass(port_object_type, MemoryMappedPortObject):
+        return port_object_type.from_segments(spec, _read_segments(file_path))
     else:
         with open(file_path, "rb") as f:
             return port_object_type.deserialize(spec, f.read())
@@ -291,6 +383,8 @@ def save_port_object(port_object: PortObject, file_path: str) -> None:
     """
     if issubclass(type(port_object), FilestorePortObject):
         port_object.write_to(file_path)
+    elif issubclass(type(port_object), MemoryMappedPortObject):
+        _write_segments(file_path, port_object.to_segments())
     else:
         with open(file_path, "wb") as f:
             f.write(port_object.serialize())
@@ -1121,6 +1215,7 @@ class _Node:
     category: str
     after: str
     keywords: Optional[List[str]]
+    is_streamable: bool
     input_ports: List[Port]
     output_ports: List[Port]
     views: List[
@@ -1139,6 +1234,7 @@ class _Node:
         category: str,
         after: str,
         keywords: Optional[List[str]],
+        is_streamable: bool = False,
     ) -> None:
         self.id = id
         self.name = name
@@ -1149,9 +1245,12 @@ class _Node:
         self.category = category
         self.after = after
         self.keywords = keywords
+        self.is_streamable = is_streamable
         self.input_ports = _get_ports(node_factory, "input_ports")
         self.output_ports = _get_ports(node_factory, "output_ports")
         self.views = [_get_view(node_factory)]
+        if is_streamable:
+            self.assert_streamable()
 
         def port_injector(*args, **kwargs):
             """
@@ -1190,6 +1289,32 @@ class _Node:
                 Individual parameters need to be moved out of the node's `__init__` method and be either defined at the class-level or encapsulated in a parameter group."""
             )
 
+    def assert_streamable(self):
+        """
+        A streamable node applies its execute method independently to each chunk of its input table,
+        hence it must consume exactly one table and produce exactly one table and must not have a view.
+        """
+
+        def is_single_table_port(ports):
+            return (
+                len(ports) == 1
+                and isinstance(ports[0], Port)
+                and not ports[0].optional
+                and ports[0].type == PortType.TABLE
+            )
+
+        if not is_single_table_port(self.input_ports) or not is_single_table_port(
+            self.output_ports
+        ):
+            raise ValueError(
+                f"The node '{self.name}' is declared as streamable but streamable nodes must have "
+                "exactly one input table and exactly one output table."
+            )
+        if any(v is not None for v in self.views):
+            raise ValueError(
+                f"The node '{self.name}' is declared as streamable but streamable nodes cannot have a view."
+            )
+
     def to_dict(self):
         return {
             "id": self.id,
@@ -1197,6 +1322,7 @@ class _Node:
             "node_type": self.node_type,
             "is_deprecated": self.is_deprecated,
             "is_hidden": self.is_hidden,
+            "is_streamable": self.is_streamable,
             "icon_path": self.icon_path,
             "category": self.category,
             "after": self.after,
@@ -1246,6 +1372,7 @@ def node(
     id: str = None,
     is_deprecated: bool = False,
     is_hidden: bool = False,
+    is_streamable: bool = False,
 ) -> Callable:
     """
     Use this decorator to annotate a PythonNode class or function that creates a PythonNode
@@ -1271,6 +1398,16 @@ def node(
         Default is false.
     is_hidden: bool
         Default is false. If true your node will not shown during search and not be listed in it's category.
+    is_streamable: bool
+        Default is false. If true, the node's `execute` is treated as a pure batch map: KNIME may call it
+        independently on consecutive chunks of the input table and concatenate the resulting tables. This
+        allows the node to run in streaming mode (e.g. inside streamed components) with bounded memory,
+        and in parallel on multiple Python processes if the system property
+        `knime.python.extension.batchmap.workers` is larger than 1.
+        Streamable nodes must have exactly one input table, exactly one output table and no view.
+        Since each chunk is processed on its own, the RowIDs of the output must be unique across
+        all chunks, which is easiest achieved by keeping the RowIDs of the input rows. Generating
+        RowIDs such as `Row0`, `Row1`, ... per call makes the execution fail.
 
     Returns
     -------
@@ -1297,6 +1434,7 @@ def node(
             category=category,
             after=after,
             keywords=keywords,
+            is_streamable=is_streamable,
         )
         _nodes[node_id] = n
 
@@ -160,7 +160,7 @@ class _TestingTable(ktab.Table):
     def __init__(self, data: "pandas.DataFrame"):
         self._df = data.copy()
 
-    def batches(self):
+    def batches(self, num_batches_ahead: int = 0):
         return iter([_TestingTable(self._df)])
 
     @property
@@ -353,6 +353,9 @@ class _TestingBackend(ktab._Backend):
     def create_table_from_pyarrow(self, data, sentinel=None, row_ids: str = "auto"):
         raise RuntimeError(_PYARROW_NOT_AVAILABLE)
 
+    def create_table_from_polars(self, data, sentinel=None, row_ids: str = "auto"):
+        raise RuntimeError(_PYARROW_NOT_AVAILABLE)
+
     def create_batch_output_table(self, row_ids: str = "keep"):
         return _TestingBatchOutputTable()
 
@@ -0,0 +1,121 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.python3.scripting.nodes2;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.python3.arrow.PythonArrowDataSink;
+import org.knime.python3.arrow.PythonArrowTableConverter;
+
+/**
+ * Tests that {@link PythonIOUtils#getOutputTables} concatenates the sinks of tables that were written by multiple
+ * workers of <code>knio.map_batches</code> and converts all other tables as before.
+ */
+@SuppressWarnings("javadoc")
+public class PythonIOUtilsTest {
+
+    private final PythonScriptingEntryPoint m_entryPoint = mock(PythonScriptingEntryPoint.class);
+
+    private final PythonArrowTableConverter m_tableConverter = mock(PythonArrowTableConverter.class);
+
+    private final ExecutionContext m_exec = mock(ExecutionContext.class);
+
+    @Test
+    public void testMultipleSinksAreConcatenatedInOrder() throws Exception {
+        var singleSink0 = mock(PythonArrowDataSink.class);
+        var workerSink0 = mock(PythonArrowDataSink.class);
+        var workerSink1 = mock(PythonArrowDataSink.class);
+        var workerSink2 = mock(PythonArrowDataSink.class);
+        var singleSink2 = mock(PythonArrowDataSink.class);
+        when(m_entryPoint.getOutputTableSinks(0)).thenReturn(List.of(singleSink0));
+        when(m_entryPoint.getOutputTableSinks(1)).thenReturn(List.of(workerSink0, workerSink1, workerSink2));
+        when(m_entryPoint.getOutputTableSinks(2)).thenReturn(List.of(singleSink2));
+
+        var table0 = mock(BufferedDataTable.class);
+        var table1 = mock(BufferedDataTable.class);
+        var table2 = mock(BufferedDataTable.class);
+        when(m_tableConverter.convertToTables(List.of(singleSink0, singleSink2), m_exec))
+            .thenReturn(new BufferedDataTable[]{table0, table2});
+        when(m_tableConverter.convertToConcatenatedTable(List.of(workerSink0, workerSink1, workerSink2), m_exec))
+            .thenReturn(table1);
+
+        var tables = PythonIOUtils.getOutputTables(3, m_entryPoint, m_tableConverter, m_exec);
+
+        assertArrayEquals(new BufferedDataTable[]{table0, table1, table2}, tables);
+    }
+
+    @Test
+    public void testSingleSinksAreConvertedTogether() throws Exception {
+        var sink0 = mock(PythonArrowDataSink.class);
+        var sink1 = mock(PythonArrowDataSink.class);
+        when(m_entryPoint.getOutputTableSinks(0)).thenReturn(List.of(sink0));
+        when(m_entryPoint.getOutputTableSinks(1)).thenReturn(List.of(sink1));
+
+        var table0 = mock(BufferedDataTable.class);
+        var table1 = mock(BufferedDataTable.class);
+        when(m_tableConverter.convertToTables(List.of(sink0, sink1), m_exec))
+            .thenReturn(new BufferedDataTable[]{table0, table1});
+
+        var tables = PythonIOUtils.getOutputTables(2, m_entryPoint, m_tableConverter, m_exec);
+
+        assertArrayEquals(new BufferedDataTable[]{table0, table1}, tables);
+        verify(m_tableConverter, never()).convertToConcatenatedTable(anyList(), any());
+    }
+}
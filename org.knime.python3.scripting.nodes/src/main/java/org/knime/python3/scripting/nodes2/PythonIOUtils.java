@@ -58,7 +58,9 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import javax.imageio.ImageIO;
@@ -95,6 +97,19 @@
  */
 final class PythonIOUtils {
 
+    /**
+     * System property to choose how Python writes the objects of pickled object ports. One of "pickle" (the default, a
+     * plain pickle file that all Python nodes including the legacy ones can read), "segmented" (the buffers of large
+     * objects are written separately and memory-mapped on read) or "segmented-zstd" (the buffers are compressed).
+     */
+    static final String PICKLED_OBJECT_FORMAT_PROPERTY = "knime.python.pickledobject.format";
+
+    private static final String DEFAULT_PICKLED_OBJECT_FORMAT = "pickle";
+
+    private static final Set<String> PICKLED_OBJECT_FORMATS = Set.of("pickle", "segmented", "segmented-zstd");
+
+    private static final byte[] PNG_SIGNATURE = {(byte)0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
     private PythonIOUtils() {
         // Utility class
     }
@@ -164,13 +179,29 @@ static PythonDataSource[] createSources(final PortObject[] data, final PythonArr
     static BufferedDataTable[] getOutputTables(final int numOutTables, final PythonScriptingEntryPoint pythonEntryPoint,
         final PythonArrowTableConverter tableConverter, final ExecutionContext exec)
         throws IOException, CanceledExecutionException {
-        final var sinks = new ArrayList<PythonArrowDataSink>();
+        final var sinks = new ArrayList<List<PythonArrowDataSink>>();
         exec.setMessage("Retrieving output tables");
         for (int i = 0; i < numOutTables; i++) {
-            sinks.add(pythonEntryPoint.getOutputTable(i));
+            sinks.add(pythonEntryPoint.getOutputTableSinks(i));
             exec.checkCanceled();
         }
-        final var tables = tableConverter.convertToTables(sinks, exec);
+        // Only the results of knio.map_batches consist of multiple sinks, all other tables are converted as before
+        final var singleSinks = sinks.stream() //
+            .filter(s -> s.size() == 1) //
+            .map(s -> s.get(0)) //
+            .toList();
+        final var singleSinkTables = tableConverter.convertToTables(singleSinks, exec);
+        final var tables = new BufferedDataTable[numOutTables];
+        int singleSinkIdx = 0; // NOSONAR
+        for (int i = 0; i < numOutTables; i++) { // NOSONAR
+            final var tableSinks = sinks.get(i);
+            if (tableSinks.size() == 1) {
+                tables[i] = singleSinkTables[singleSinkIdx];
+                singleSinkIdx++;
+            } else {
+                tables[i] = tableConverter.convertToConcatenatedTable(tableSinks, exec);
+            }
+        }
         exec.setProgress(1.0);
         return tables;
     }
@@ -236,7 +267,7 @@ static PickledObjectFileStorePortObject[] getOutputObjects(final int numOutObjec
                 PickledObjectFileStorePortObject.create( //
                     fileStoreFactory, //
                     file -> {
-                        pythonEntryPoint.writeOutputObject(idx, file.getAbsolutePath());
+                        pythonEntryPoint.writeOutputObject(idx, file.getAbsolutePath(), getPickledObjectFormat());
                         var type = pythonEntryPoint.getOutputObjectType(idx);
                         var stringRep = pythonEntryPoint.getOutputObjectStringRepr(idx);
                         return new PickledObjectFile(file, type, stringRep);
@@ -249,6 +280,17 @@ static PickledObjectFileStorePortObject[] getOutputObjects(final int numOutObjec
         return objects.toArray(PickledObjectFileStorePortObject[]::new);
     }
 
+    private static String getPickledObjectFormat() {
+        final var format = System.getProperty(PICKLED_OBJECT_FORMAT_PROPERTY, DEFAULT_PICKLED_OBJECT_FORMAT);
+        if (!PICKLED_OBJECT_FORMATS.contains(format)) {
+            NodeLogger.getLogger(PythonIOUtils.class) //
+                .errorWithFormat("Unknown format '%s' for pickled objects. Must be one of %s. Using %s.", format,
+                    PICKLED_OBJECT_FORMATS, DEFAULT_PICKLED_OBJECT_FORMAT);
+            return DEFAULT_PICKLED_OBJECT_FORMAT;
+        }
+        return format;
+    }
+
     /**
      * Write the output view to a new temporary file and return the path to the file if an output view is available. The
      * caller must delete the file when it is not needed anymore.
@@ -271,6 +313,12 @@ static Optional<PythonNodeViewStoragePath> getOutputView(final PythonScriptingEn
      * not contain an image.
      */
     private static PortObject readImage(final Path path) throws IOException {
+        // Pass PNG images through as they are - decoding and re-encoding them would only cost time
+        if (hasPngSignature(path)) {
+            return new ImagePortObject(new PNGImageContent(Files.readAllBytes(path)),
+                new ImagePortObjectSpec(PNGImageContent.TYPE));
+        }
+
         // Try to read as an SVG
         try (var reader = new BufferedReader(new InputStreamReader(Files.newInputStream(path)))) {
             final var factory = new SAXSVGDocumentFactory(XMLResourceDescriptor.getXMLParserClassName());
@@ -284,12 +332,12 @@ private static PortObject readImage(final Path path) throws IOException {
             // IllegalArgumentException:
             // - The check in the SvgImageContent constructor failed
 
-            // Ignore all issues and try to read it as an PNG
+            // Ignore all issues and try to read it as another image format
             NodeLogger.getLogger(PythonIOUtils.class) //
-                .debug("Reading the image as SVG failed. Trying to read as PNG.", e);
+                .debug("Reading the image as SVG failed. Trying to read it with ImageIO.", e);
         }
 
-        // Read as an PNG
+        // Read other image formats (e.g. JPEG) and convert them to PNG
         final BufferedImage image;
         try (var input = new BufferedInputStream(Files.newInputStream(path))) {
             image = ImageIO.read(input);
@@ -304,6 +352,13 @@ private static PortObject readImage(final Path path) throws IOException {
         return InactiveBranchPortObject.INSTANCE;
     }
 
+    /** Check if the file at the given path starts with the PNG signature */
+    private static boolean hasPngSignature(final Path path) throws IOException {
+        try (var input = Files.newInputStream(path)) {
+            return Arrays.equals(input.readNBytes(PNG_SIGNATURE.length), PNG_SIGNATURE);
+        }
+    }
+
     /** Get the bytes of the PNG representation of the given image object */
     private static byte[] imageToPngBytes(final BufferedImage image) throws IOException {
         try (final ByteArrayOutputStream os = new ByteArrayOutputStream()) {
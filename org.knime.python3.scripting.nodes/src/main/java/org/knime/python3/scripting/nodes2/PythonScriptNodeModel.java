@@ -94,6 +94,7 @@
 import org.knime.python3.scripting.nodes2.PythonScriptingSession.FileStoreHandlerSupplier;
 import org.knime.python3.utils.FlowVariableUtils;
 import org.knime.python3.views.PythonNodeViewStoragePath;
+import org.knime.python3.views.ViewResources;
 
 import py4j.Py4JException;
 
@@ -162,6 +163,13 @@ public Path getPathToHtmlView() {
             .orElseThrow(() -> new IllegalStateException("View is not present. This is an implementation error."));
     }
 
+    /**
+     * @return the resources that provide the scripts that were moved out of the HTML document of the view
+     */
+    public ViewResources getViewAssetResources() {
+        return m_view.map(PythonNodeViewStoragePath::getAssetResources).orElse(ViewResources.EMPTY_RESOURCES);
+    }
+
     /**
      * @return {@code true} if the node has a view that can be used in a report, {@code false} otherwise.
      */
@@ -308,6 +316,7 @@ private void collectViewFromSession(final PythonScriptingSession session) throws
                 // NB: This should not happen because this is checked before
                 throw new KNIMEException("No output view available.");
             }
+            m_view.get().extractAssets();
         }
     }
 
@@ -49,6 +49,7 @@
 package org.knime.python3.scripting.nodes2;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 
 import org.knime.python3.PythonDataSource;
@@ -116,6 +117,15 @@ void setupIO(PythonDataSource[] sources, Map<String, Object> flowVarSources, int
      */
     PythonArrowDataSink getOutputTable(int idx);
 
+    /**
+     * Get the sinks of the table at the given output index. A table consists of multiple sinks if its batches were
+     * written by multiple worker threads (see <code>knio.map_batches</code>).
+     *
+     * @param idx the index of the output table
+     * @return the data sinks of the table in the order in which their rows belong to the table
+     */
+    List<PythonArrowDataSink> getOutputTableSinks(int idx);
+
     /**
      * Write the output image to the given file.
      *
@@ -129,8 +139,11 @@ void setupIO(PythonDataSource[] sources, Map<String, Object> flowVarSources, int
      *
      * @param idx the index of the object to write to the file
      * @param path the path to write the file to
+     * @param format {@code "pickle"} for a plain pickle file that all Python nodes can read, {@code "segmented"} to
+     *            write the out-of-band buffers of pickle protocol 5 to memory-mappable segments or
+     *            {@code "segmented-zstd"} to additionally compress the segments
      */
-    void writeOutputObject(int idx, String path);
+    void writeOutputObject(int idx, String path, String format);
 
     /**
      * Get the type of the output object at the given index.
@@ -90,6 +90,7 @@ public NodeDialog createNodeDialog() {
     public NodeView createNodeView(final PythonScriptNodeModel nodeModel) {
         return HtmlFileNodeView.builder() //
             .htmlSupplier(nodeModel::getPathToHtmlView) //
+            .resources(page -> nodeModel.getViewAssetResources().addToPage(page)) //
             .canBeUsedInReport(nodeModel::canViewBeUsedInReport) //
             .build();
     }
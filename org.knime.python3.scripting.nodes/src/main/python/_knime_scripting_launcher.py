@@ -50,6 +50,7 @@ from contextlib import redirect_stdout, redirect_stderr
 from typing import Any, Dict, List, TextIO, Callable, Optional
 
 import py4j.clientserver
+from py4j.java_collections import ListConverter
 from py4j.java_gateway import JavaClass
 
 from knime.api.env import _set_proxy_settings, _set_tmp_directory
@@ -60,6 +61,7 @@ from knime.scripting._backend import (
     ScriptingBackendV1,
 )
 import knime.scripting._io_containers as _ioc
+import knime.scripting._pickled_objects as _pickled_objects
 
 import knime._arrow._backend as ka
 import knime._backend._gateway as kg
@@ -72,7 +74,6 @@ import json
 import sys
 import logging
 import warnings
-import pickle
 
 
 @kg.data_source("org.knime.python3.pickledobject")
@@ -80,8 +81,7 @@ def read_pickled_obj(java_data_source):
     """
     Read the pickled object from the file that is provided by the java_data_source object
     """
-    with open(java_data_source.getAbsolutePath(), "rb") as file:
-        return pickle.load(file)
+    return _pickled_objects.read_object(java_data_source.getAbsolutePath())
 
 
 class ScriptingEntryPoint(kg.EntryPoint):
@@ -228,6 +228,12 @@ class ScriptingEntryPoint(kg.EntryPoint):
     ) -> Optional[JavaClass]:
         return self._backends.get_output_table_sink(table_index)
 
+    def getOutputTableSinks(self, table_index: int) -> JavaClass:
+        return ListConverter().convert(
+            self._backends.get_output_table_sinks(table_index),
+            kg.client_server._gateway_client,
+        )
+
     def closeOutputs(self, check_outputs):
         # called form nodemodal
         # if called from execute it should also setup arrow afterwards
@@ -246,10 +252,8 @@ class ScriptingEntryPoint(kg.EntryPoint):
         with open(path, "wb") as file:
             file.write(_ioc._output_images[idx])
 
-    def writeOutputObject(self, idx: int, path: str) -> None:
-        obj = _ioc._output_objects[idx]
-        with open(path, "wb") as file:
-            pickle.dump(obj=obj, file=file)
+    def writeOutputObject(self, idx: int, path: str, format: str) -> None:
+        _pickled_objects.write_object(_ioc._output_objects[idx], path, format)
 
     def getOutputObjectType(self, idx: int) -> str:
         return type(_ioc._output_objects[idx]).__name__
@@ -266,12 +270,7 @@ class ScriptingEntryPoint(kg.EntryPoint):
             return False
 
     def getOutputObjectStringRepr(self, idx: int) -> str:
-        object_as_string = str(_ioc._output_objects[idx])
-        return (
-            (object_as_string[:996] + "\n...")
-            if len(object_as_string) > 1000
-            else object_as_string
-        )
+        return _pickled_objects.string_repr(_ioc._output_objects[idx])
 
     def _getVariablesInWorkspace(self) -> List[Dict[str, str]]:
         # TODO(AP-19345) provide integers + doubles not as string
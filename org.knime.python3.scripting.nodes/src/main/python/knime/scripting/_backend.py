@@ -51,7 +51,7 @@ from abc import ABC, abstractmethod
 import sys
 from py4j.java_collections import JavaArray
 from py4j.java_gateway import JavaClass
-from typing import Any, Dict, Optional
+from typing import Any, Dict, List, Optional
 
 import knime.scripting._deprecated._table as kt
 import knime.scripting._deprecated._arrow_table as kat
@@ -62,6 +62,7 @@ import knime.api.views as kv
 from knime.api.types import FileStoreHandler
 
 import knime.scripting._io_containers as _ioc
+import knime.scripting._map_batches as _mb
 
 import knime._backend._gateway as kg
 
@@ -82,6 +83,9 @@ class ScriptingBackend(ABC):
     def get_output_table_sink(self, table_index: int) -> JavaClass:
         pass
 
+    def get_output_table_sinks(self, table_index: int) -> List[JavaClass]:
+        return [self.get_output_table_sink(table_index)]
+
     @abstractmethod
     def set_up_arrow(self, sink_factory, file_store_handler: FileStoreHandler):
         pass
@@ -153,12 +157,18 @@ class ScriptingBackendV1(ScriptingBackend):
             not isinstance(table, katn.ArrowTable)
             and not isinstance(table, ktn._TabularView)
             and not isinstance(table, katn.ArrowBatchOutputTable)
+            and not isinstance(table, _mb.MappedBatchesTable)
         ):
             raise KnimeUserError(_wrong_table_type_error_msg(table, idx))
 
     def get_output_table_sink(self, table_index: int):
         return _ioc._output_tables[table_index]
 
+    def get_output_table_sinks(self, table_index: int):
+        # the result of map_batches consists of one sink per worker
+        sinks = _ioc._output_tables[table_index]
+        return sinks if isinstance(sinks, list) else [sinks]
+
     def set_up_arrow(self, sink_factory, file_store_handler: FileStoreHandler):
         ktn._backend = katn._ArrowBackend(sink_factory)
         ktn._backend.file_store_handler = file_store_handler
@@ -177,6 +187,8 @@ class ScriptingBackendV1(ScriptingBackend):
                 if table.num_batches == 0:
                     table._write_empty_batch()
                 _ioc._output_tables[idx] = table._sink._java_data_sink
+            elif isinstance(table, _mb.MappedBatchesTable):
+                _ioc._output_tables[idx] = table._java_sinks
             else:
                 raise KnimeUserError(_wrong_table_type_error_msg(table, idx))
 
@@ -223,6 +235,9 @@ class ScriptingBackendCollection:
     def get_output_table_sink(self, table_index: int) -> JavaClass:
         return self.get_active_backend_or_raise().get_output_table_sink(table_index)
 
+    def get_output_table_sinks(self, table_index: int) -> List[JavaClass]:
+        return self.get_active_backend_or_raise().get_output_table_sinks(table_index)
+
     @property
     def active_backend(self) -> ScriptingBackend:
         """
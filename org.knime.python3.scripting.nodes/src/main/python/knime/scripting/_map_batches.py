@@ -0,0 +1,231 @@
+# -*- coding: utf-8 -*-
+# ------------------------------------------------------------------------
+#  Copyright by KNIME AG, Zurich, Switzerland
+#  Website: http://www.knime.com; Email: contact@knime.com
+#
+#  This program is free software; you can redistribute it and/or modify
+#  it under the terms of the GNU General Public License, Version 3, as
+#  published by the Free Software Foundation.
+#
+#  This program is distributed in the hope that it will be useful, but
+#  WITHOUT ANY WARRANTY; without even the implied warranty of
+#  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+#  GNU General Public License for more details.
+#
+#  You should have received a copy of the GNU General Public License
+#  along with this program; if not, see <http://www.gnu.org/licenses>.
+#
+#  Additional permission under GNU GPL version 3 section 7:
+#
+#  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+#  Hence, KNIME and ECLIPSE are both independent programs and are not
+#  derived from each other. Should, however, the interpretation of the
+#  GNU GPL Version 3 ("License") under any applicable laws result in
+#  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+#  you the additional permission to use and propagate KNIME together with
+#  ECLIPSE with only the license terms in place for ECLIPSE applying to
+#  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+#  license terms of ECLIPSE themselves allow for the respective use and
+#  propagation of ECLIPSE together with KNIME.
+#
+#  Additional permission relating to nodes for KNIME that extend the Node
+#  Extension (and in particular that are based on subclasses of NodeModel,
+#  NodeDialog, and NodeView) and that only interoperate with KNIME through
+#  standard APIs ("Nodes"):
+#  Nodes are deemed to be separate and independent programs and to not be
+#  covered works.  Notwithstanding anything to the contrary in the
+#  License, the License does not apply to Nodes, you are not required to
+#  license Nodes under the License, and you are granted a license to
+#  prepare and propagate Nodes, in each case even if such Nodes are
+#  propagated with or for interoperation with KNIME.  The owner of a Node
+#  may freely choose the license terms applicable to such Node, including
+#  when such Node is propagated with or for interoperation with KNIME.
+# ------------------------------------------------------------------------
+"""
+Concurrent processing of the batches of an input table in worker threads.
+
+Each worker writes its results to its own KNIME data sink. The workers do not communicate
+with KNIME directly. Instead, they record the information that has to be reported to KNIME
+and the calling thread reports it after all workers are done. KNIME concatenates the sinks of
+all workers.
+
+Worker processes are deliberately not used: forking the multithreaded Python process (Py4J,
+prefetching and writer threads) can deadlock, and spawned processes could neither access the
+function defined in the script nor the memory-mapped input. Consequently, the workers only
+run in parallel while they are outside of the GIL, i.e. in native code that releases it or
+while writing the results. Pure Python functions are not sped up.
+"""
+
+import concurrent.futures
+import os
+from typing import Any, Callable, List, Optional
+
+import pyarrow as pa
+
+import knime.api.table as knt
+import knime._arrow._backend as ka
+import knime._arrow._table as kat
+
+import knime.scripting._io_containers as _ioc
+
+
+class _RecordingJavaSink:
+    """
+    Stands in for the Java data sink in a worker thread and records everything that
+    would be reported to Java.
+    """
+
+    def __init__(self, path: str, max_domain_values: int, compression_codec: str):
+        self._path = path
+        self._max_domain_values = max_domain_values
+        self._compression_codec = compression_codec
+        self.schema = None
+        self.offsets = []
+        self.statistics = []
+        self.size = 0
+
+    def getAbsolutePath(self) -> str:  # NOSONAR mimics the Java interface
+        return self._path
+
+    def getMaxPossibleNominalDomainValues(self) -> int:  # NOSONAR
+        return self._max_domain_values
+
+    def getCompressionCodec(self) -> str:  # NOSONAR
+        return self._compression_codec
+
+    def reportBatchWritten(self, offset: int) -> None:  # NOSONAR
+        self.offsets.append(offset)
+        self.statistics.append(None)
+
+    def reportBatchWrittenWithStatistics(  # NOSONAR
+        self, offset: int, statistics: str
+    ) -> None:
+        self.offsets.append(offset)
+        self.statistics.append(statistics)
+
+    def setFinalSize(self, size: int) -> None:  # NOSONAR
+        self.size = size
+
+
+class _DetachedArrowDataSink(ka.ArrowDataSink):
+    """
+    An ArrowDataSink that writes to the file of a Java sink without calling Java.
+    """
+
+    def __init__(self, path: str, max_domain_values: int, compression_codec: str):
+        super().__init__(_RecordingJavaSink(path, max_domain_values, compression_codec))
+
+    def _report_schema(self, schema: pa.Schema):
+        # The schema is converted and reported by the calling thread
+        self._java_data_sink.schema = schema
+
+
+class MappedBatchesTable(knt.BatchOutputTable):
+    """
+    The result of ``map_batches`` if the batches were processed by multiple workers.
+    Assign it to one of the ``output_tables`` of the node. The outputs of the workers are
+    concatenated in the order of the input batches.
+    """
+
+    def __init__(self, java_sinks: List[Any], num_batches: int):
+        self._java_sinks = java_sinks
+        self._num_batches = num_batches
+
+    def append(self, batch) -> None:
+        raise RuntimeError(
+            "Cannot append batches to the result of map_batches. "
+            "Process all batches in the mapped function instead."
+        )
+
+    @property
+    def num_batches(self) -> int:
+        return self._num_batches
+
+
+def map_batches(
+    fn: Callable[[knt.Table], Any],
+    input_table: knt.Table,
+    workers: Optional[int] = None,
+) -> knt.BatchOutputTable:
+    if not isinstance(input_table, kat.ArrowSourceTable):
+        raise TypeError(
+            "map_batches can only be applied to the input tables of the node, "
+            f"but got {type(input_table)}."
+        )
+    source = input_table._source
+    num_batches = len(source)
+    if workers is None:
+        workers = os.cpu_count() or 1
+    if workers < 1:
+        raise ValueError(f"The number of workers must be at least 1, but got {workers}.")
+    workers = min(workers, num_batches)
+
+    if workers <= 1:
+        output = knt.BatchOutputTable.create()
+        for batch in input_table.batches():
+            output.append(fn(batch))
+        return output
+
+    # The workers must be able to read the input without calling Java
+    source._detach_from_java()
+
+    java_sinks = [_ioc._java_callback.create_sink() for _ in range(workers)]
+    with concurrent.futures.ThreadPoolExecutor(
+        max_workers=workers, thread_name_prefix="knime-map-batches"
+    ) as executor:
+        futures = []
+        for worker_idx, java_sink in enumerate(java_sinks):
+            first_batch = worker_idx * num_batches // workers
+            end_batch = (worker_idx + 1) * num_batches // workers
+            futures.append(
+                executor.submit(
+                    _run_worker,
+                    fn,
+                    source,
+                    first_batch,
+                    end_batch,
+                    java_sink.getAbsolutePath(),
+                    ka._get_max_domain_values(java_sink),
+                    ka._get_compression_codec(java_sink),
+                )
+            )
+        recorders = []
+        try:
+            for worker_idx, future in enumerate(futures):
+                try:
+                    recorders.append(future.result())
+                except Exception as e:
+                    raise RuntimeError(
+                        f"Worker {worker_idx} of map_batches failed: {e}"
+                    ) from e
+        finally:
+            # don't start the batches of workers that have not started yet
+            for future in futures:
+                future.cancel()
+
+    # Report what the workers have written to the Java sinks
+    for java_sink, recorder in zip(java_sinks, recorders):
+        java_sink.setColumnarSchema(ka.convert_schema(recorder.schema))
+        ka._report_batches_written(java_sink, recorder.offsets, recorder.statistics)
+        java_sink.setFinalSize(recorder.size)
+
+    return MappedBatchesTable(java_sinks, num_batches)
+
+
+def _run_worker(
+    fn,
+    source,
+    first_batch,
+    end_batch,
+    path,
+    max_domain_values,
+    compression_codec,
+) -> _RecordingJavaSink:
+    sink = _DetachedArrowDataSink(path, max_domain_values, compression_codec)
+    try:
+        output = kat.ArrowBatchOutputTable(sink, row_ids="keep")
+        for batch_idx in range(first_batch, end_batch):
+            output.append(fn(kat.ArrowTable(source[batch_idx])))
+    finally:
+        sink.close()
+    return sink._java_data_sink
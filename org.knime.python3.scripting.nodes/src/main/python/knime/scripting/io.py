@@ -61,7 +61,7 @@ if "knime_io" in sys.modules:
             "Cannot use knime_io and knime.scripting.io in the same Python script"
         )
 
-from typing import Any, Dict, List, Union, Optional
+from typing import Any, Callable, Dict, List, Union, Optional
 
 # Do not remove, meant to be reexported.
 from knime.api.table import Table, BatchOutputTable
@@ -213,6 +213,53 @@ def get_workflow_data_area_dir() -> str:
     return _ioc._get_workflow_data_area_dir()
 
 
+def map_batches(
+    fn: Callable[[Table], Union[Table, "pandas.DataFrame", "pyarrow.Table"]],
+    input_table: Table,
+    workers: Optional[int] = None,
+) -> BatchOutputTable:
+    """
+    Applies ``fn`` to each batch of ``input_table`` and collects the results in an output table
+    that can be assigned to one of the ``output_tables``. The batches are distributed across
+    ``workers`` threads (the number of CPUs by default), which write their results directly to
+    KNIME. The results are concatenated in the order of the input batches.
+
+    ``fn`` is called concurrently, so it must only depend on the batch it gets and must not
+    modify shared variables of the script. The workers are threads of the Python process, so
+    they only run in parallel while ``fn`` spends its time in code that releases the GIL, such
+    as pyarrow compute functions and most numpy operations, and while the results are written.
+    A ``fn`` that mostly runs pure Python code, e.g. loops over the rows or
+    ``DataFrame.apply``, is not faster with more than one worker.
+
+    Parameters
+    ----------
+    fn : Callable
+        A function that receives one batch as ``Table`` and returns a ``Table``, ``pandas.DataFrame``,
+        or ``pyarrow.Table``. The RowIDs of the returned batches must be unique across all batches.
+        All returned batches must have the same schema.
+    input_table : Table
+        One of the ``input_tables`` of this node.
+    workers : int, optional
+        The number of worker threads. ``1`` processes all batches one after another.
+
+    Examples
+    --------
+
+        >>> import knime.scripting.io as knio
+
+        >>> def process(batch):
+        ...     df = batch.to_pandas()
+        ...     df["doubled"] = df["value"] * 2
+        ...     return df
+
+        >>> knio.output_tables[0] = knio.map_batches(process, knio.input_tables[0], workers=4)
+
+    """
+    import knime.scripting._map_batches as _mb
+
+    return _mb.map_batches(fn, input_table, workers)
+
+
 # Note: Whenever changing this list, also update the docs!
 __all__ = [
     "flow_variables",
@@ -226,4 +273,5 @@ __all__ = [
     "BatchOutputTable",
     "get_workflow_temp_dir",
     "get_workflow_data_area_dir",
+    "map_batches",
 ]
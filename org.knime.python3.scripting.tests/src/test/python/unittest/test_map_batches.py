@@ -0,0 +1,239 @@
+import os
+import tempfile
+import threading
+import time
+import unittest
+
+import pyarrow as pa
+import pyarrow.compute as pc
+
+import knime.api.table as ktn
+import knime._arrow._backend as ka
+import knime._arrow._table as kat
+import knime.scripting._io_containers as _ioc
+import knime.scripting._map_batches as _mb
+
+NUM_BATCHES = 6
+BATCH_SIZE = 4
+
+
+class DummyJavaDataSource:
+    def __init__(self, file_path):
+        self.file_path = file_path
+
+    def getAbsolutePath(self):
+        return self.file_path
+
+    def isFooterWritten(self):
+        return True
+
+    def hasColumnNames(self):
+        return False
+
+
+class DummyJavaDataSink:
+    def __init__(self, file_path):
+        self.file_path = file_path
+        self.calling_threads = []
+        self.offsets = []
+        self.final_size = None
+
+    def _record_call(self):
+        self.calling_threads.append(threading.current_thread())
+
+    def getAbsolutePath(self):
+        self._record_call()
+        return self.file_path
+
+    def setColumnarSchema(self, columnar_schema):
+        self._record_call()
+        self.columnar_schema = columnar_schema
+
+    def reportBatchWritten(self, offset):
+        self._record_call()
+        self.offsets.append(offset)
+
+    def setFinalSize(self, size):
+        self._record_call()
+        self.final_size = size
+
+
+class DummyJavaCallback:
+    def __init__(self, directory):
+        self._directory = directory
+        self.sinks = []
+
+    def create_sink(self):
+        path = os.path.join(self._directory, f"sink_{len(self.sinks)}.arrow")
+        sink = DummyJavaDataSink(path)
+        self.sinks.append(sink)
+        return sink
+
+
+class DummyDataSink:
+    def __enter__(self):
+        return self
+
+    def __exit__(self, exc_type, exc_val, exc_tb):
+        self.close()
+        return False
+
+    def write(self, data):
+        pass
+
+    def close(self):
+        pass
+
+
+def _create_batch(batch_idx):
+    first_row = batch_idx * BATCH_SIZE
+    return pa.record_batch(
+        [
+            pa.array([f"Row{r}" for r in range(first_row, first_row + BATCH_SIZE)]),
+            pa.array(list(range(first_row, first_row + BATCH_SIZE))),
+        ],
+        names=["<RowID>", "value"],
+    )
+
+
+def _double(batch):
+    table = batch.to_pyarrow()
+    return pa.table(
+        [table.column(0), pc.multiply(table.column(1), 2)], names=table.column_names
+    )
+
+
+class MapBatchesTest(unittest.TestCase):
+    def setUp(self):
+        self._tmp_dir = tempfile.TemporaryDirectory()
+        self._input_path = os.path.join(self._tmp_dir.name, "input.arrow")
+        batches = [_create_batch(i) for i in range(NUM_BATCHES)]
+        with pa.ipc.new_file(self._input_path, batches[0].schema) as writer:
+            for batch in batches:
+                writer.write(batch)
+        self._source = ka.ArrowDataSource(DummyJavaDataSource(self._input_path))
+        self._input_table = kat.ArrowSourceTable(self._source)
+
+        self._callback = DummyJavaCallback(self._tmp_dir.name)
+        self._backup_java_callback = _ioc._java_callback
+        _ioc._java_callback = self._callback
+        # convert_schema requires the gateway. Therefore we mock it
+        self._backup_convert_schema = ka.convert_schema
+        ka.convert_schema = lambda schema: schema
+        self._backup_backend = ktn._backend
+        ktn._backend = kat._ArrowBackend(lambda: DummyDataSink())
+
+    def tearDown(self):
+        _ioc._java_callback = self._backup_java_callback
+        ka.convert_schema = self._backup_convert_schema
+        ktn._backend = self._backup_backend
+        self._source.close()
+        self._tmp_dir.cleanup()
+
+    def _read_sinks(self, java_sinks):
+        tables = []
+        for java_sink in java_sinks:
+            with pa.OSFile(java_sink.file_path, "rb") as f:
+                tables.append(pa.ipc.open_file(f).read_all())
+        return pa.concat_tables(tables)
+
+    def test_results_are_concatenated_in_input_order(self):
+        def slow_first_batches(batch):
+            # the workers of the first batches finish last
+            row_ids = batch.to_pyarrow().column(0).to_pylist()
+            time.sleep(0.05 * (NUM_BATCHES - int(row_ids[0][3:]) // BATCH_SIZE))
+            return _double(batch)
+
+        output = _mb.map_batches(slow_first_batches, self._input_table, workers=3)
+
+        self.assertIsInstance(output, _mb.MappedBatchesTable)
+        self.assertEqual(NUM_BATCHES, output.num_batches)
+        # one sink per worker, reported on the calling thread
+        java_sinks = self._callback.sinks
+        self.assertEqual(3, len(java_sinks))
+        for java_sink in java_sinks:
+            self.assertEqual(
+                [threading.current_thread()], list(set(java_sink.calling_threads))
+            )
+            self.assertEqual(2, len(java_sink.offsets))
+            self.assertEqual(2 * BATCH_SIZE, java_sink.final_size)
+            self.assertEqual(["<RowID>", "value"], java_sink.columnar_schema.names)
+
+        result = self._read_sinks(java_sinks)
+        num_rows = NUM_BATCHES * BATCH_SIZE
+        self.assertEqual(
+            [f"Row{r}" for r in range(num_rows)], result.column(0).to_pylist()
+        )
+        self.assertEqual(
+            [2 * r for r in range(num_rows)], result.column(1).to_pylist()
+        )
+
+    def test_error_of_worker_is_raised(self):
+        def fail_on_last_batch(batch):
+            if batch.to_pyarrow().column(0)[0].as_py() == f"Row{BATCH_SIZE * 5}":
+                raise ValueError("Failing batch")
+            return batch
+
+        with self.assertRaises(RuntimeError) as context:
+            _mb.map_batches(fail_on_last_batch, self._input_table, workers=2)
+        self.assertIn("Worker 1 of map_batches failed", str(context.exception))
+        self.assertIsInstance(context.exception.__cause__, ValueError)
+        # nothing is reported for the output of the failed execution
+        for java_sink in self._callback.sinks:
+            self.assertIsNone(java_sink.final_size)
+
+    def test_single_worker_processes_batches_sequentially(self):
+        output = _mb.map_batches(_double, self._input_table, workers=1)
+
+        self.assertNotIsInstance(output, _mb.MappedBatchesTable)
+        self.assertEqual(NUM_BATCHES, output.num_batches)
+        self.assertEqual([], self._callback.sinks)
+
+    def test_invalid_arguments(self):
+        with self.assertRaises(ValueError):
+            _mb.map_batches(_double, self._input_table, workers=0)
+        with self.assertRaises(TypeError):
+            _mb.map_batches(_double, ktn.Table.from_pyarrow(_create_batch(0)))
+
+
+class DetachedArrowDataSinkTest(unittest.TestCase):
+    def setUp(self):
+        self._tmp_dir = tempfile.TemporaryDirectory()
+
+    def tearDown(self):
+        self._tmp_dir.cleanup()
+
+    def test_recording_java_sink(self):
+        recorder = _mb._RecordingJavaSink("file.arrow", 10, "lz4")
+        self.assertEqual("file.arrow", recorder.getAbsolutePath())
+        self.assertEqual(10, recorder.getMaxPossibleNominalDomainValues())
+        self.assertEqual("lz4", recorder.getCompressionCodec())
+
+        recorder.reportBatchWritten(8)
+        recorder.reportBatchWrittenWithStatistics(100, '{"1": {}}')
+        recorder.setFinalSize(20)
+
+        self.assertEqual([8, 100], recorder.offsets)
+        self.assertEqual([None, '{"1": {}}'], recorder.statistics)
+        self.assertEqual(20, recorder.size)
+
+    def test_detached_sink_records_instead_of_reporting(self):
+        path = os.path.join(self._tmp_dir.name, "detached.arrow")
+        batches = [_create_batch(i) for i in range(3)]
+        sink = _mb._DetachedArrowDataSink(path, -1, "none")
+        for batch in batches:
+            sink.write(batch)
+        sink.close()
+
+        recorder = sink._java_data_sink
+        self.assertEqual(["<RowID>", "value"], recorder.schema.names)
+        self.assertEqual(3, len(recorder.offsets))
+        self.assertEqual([None] * 3, recorder.statistics)
+        self.assertEqual(3 * BATCH_SIZE, recorder.size)
+        with pa.OSFile(path, "rb") as f:
+            reader = pa.ipc.open_file(f)
+            self.assertEqual(batches, [reader.get_batch(i) for i in range(3)])
+
+
+if __name__ == "__main__":
+    unittest.main()
@@ -69,6 +69,7 @@ import knime.api.views as kv
 import knime._views  # to register the NodeViewSink
 
 import knime.scripting._io_containers as _ioc
+import knime.scripting._pickled_objects as _pickled_objects
 
 import knime._backend._gateway as kg
 from knime._backend._mainloop import MainLoop
@@ -287,8 +288,7 @@ class ScriptingBackendCollection:
 
     def set_input_object(self, object_index: int, path: Optional[str]) -> None:
         if path is not None:
-            with open(path, "rb") as file:
-                obj = pickle.load(file)
+            obj = _pickled_objects.read_object(path)
         else:
             obj = None
         _ioc._pad_up_to_length(_ioc._input_objects, object_index + 1)
@@ -306,12 +306,7 @@ class ScriptingBackendCollection:
         return type(_ioc._output_objects[object_index]).__name__
 
     def get_output_object_string_representation(self, object_index: int) -> str:
-        object_as_string = str(_ioc._output_objects[object_index])
-        return (
-            (object_as_string[:996] + "\n...")
-            if len(object_as_string) > 1000
-            else object_as_string
-        )
+        return _pickled_objects.string_repr(_ioc._output_objects[object_index])
 
     def set_num_expected_output_images(self, num_output_images: int) -> None:
         _ioc._pad_up_to_length(_ioc._output_images, num_output_images)
@@ -0,0 +1,114 @@
+# -*- coding: utf-8 -*-
+# ------------------------------------------------------------------------
+#  Copyright by KNIME AG, Zurich, Switzerland
+#  Website: http://www.knime.com; Email: contact@knime.com
+#
+#  This program is free software; you can redistribute it and/or modify
+#  it under the terms of the GNU General Public License, Version 3, as
+#  published by the Free Software Foundation.
+#
+#  This program is distributed in the hope that it will be useful, but
+#  WITHOUT ANY WARRANTY; without even the implied warranty of
+#  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+#  GNU General Public License for more details.
+#
+#  You should have received a copy of the GNU General Public License
+#  along with this program; if not, see <http://www.gnu.org/licenses>.
+#
+#  Additional permission under GNU GPL version 3 section 7:
+#
+#  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+#  Hence, KNIME and ECLIPSE are both independent programs and are not
+#  derived from each other. Should, however, the interpretation of the
+#  GNU GPL Version 3 ("License") under any applicable laws result in
+#  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+#  you the additional permission to use and propagate KNIME together with
+#  ECLIPSE with only the license terms in place for ECLIPSE applying to
+#  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+#  license terms of ECLIPSE themselves allow for the respective use and
+#  propagation of ECLIPSE together with KNIME.
+#
+#  Additional permission relating to nodes for KNIME that extend the Node
+#  Extension (and in particular that are based on subclasses of NodeModel,
+#  NodeDialog, and NodeView) and that only interoperate with KNIME through
+#  standard APIs ("Nodes"):
+#  Nodes are deemed to be separate and independent programs and to not be
+#  covered works.  Notwithstanding anything to the contrary in the
+#  License, the License does not apply to Nodes, you are not required to
+#  license Nodes under the License, and you are granted a license to
+#  prepare and propagate Nodes, in each case even if such Nodes are
+#  propagated with or for interoperation with KNIME.  The owner of a Node
+#  may freely choose the license terms applicable to such Node, including
+#  when such Node is propagated with or for interoperation with KNIME.
+# ------------------------------------------------------------------------
+
+import os
+import pickle
+import tempfile
+import unittest
+
+import numpy as np
+
+import knime.scripting._pickled_objects as kpo
+
+
+class PickledObjectsTest(unittest.TestCase):
+    def setUp(self):
+        self._path = os.path.join(tempfile.gettempdir(), "test_object.pkl")
+        self._obj = {
+            "weights": np.arange(100_000, dtype=np.float64).reshape(1000, 100),
+            "strided": np.arange(100)[::2],
+            "name": "model",
+        }
+
+    def tearDown(self):
+        os.remove(self._path)
+
+    def _assert_roundtrip(self, format):
+        kpo.write_object(self._obj, self._path, format)
+        obj = kpo.read_object(self._path)
+        self.assertEqual(obj.keys(), self._obj.keys())
+        np.testing.assert_array_equal(obj["weights"], self._obj["weights"])
+        np.testing.assert_array_equal(obj["strided"], self._obj["strided"])
+        self.assertEqual(obj["name"], "model")
+        # The arrays are writable without changing the file
+        obj["weights"][0, 0] = -1
+        self.assertEqual(kpo.read_object(self._path)["weights"][0, 0], 0)
+
+    def test_plain_pickle(self):
+        self._assert_roundtrip(kpo.FORMAT_PICKLE)
+        # Readable by every Python node
+        with open(self._path, "rb") as file:
+            self.assertEqual(pickle.load(file)["name"], "model")
+
+    def test_segmented(self):
+        self._assert_roundtrip(kpo.FORMAT_SEGMENTED)
+
+    def test_segmented_zstd(self):
+        self._assert_roundtrip(kpo.FORMAT_SEGMENTED_ZSTD)
+        self.assertLess(os.path.getsize(self._path), self._obj["weights"].nbytes)
+
+    def test_unknown_format(self):
+        with open(self._path, "wb"):
+            pass
+        with self.assertRaises(ValueError):
+            kpo.write_object(self._obj, self._path, "unknown")
+
+    def test_string_repr(self):
+        self.assertEqual(kpo.string_repr("foobar"), "foobar")
+        self.assertEqual(kpo.string_repr([1, 2]), "[1, 2]")
+        long_repr = kpo.string_repr("x" * 2000)
+        self.assertEqual(len(long_repr), 1000)
+        self.assertTrue(long_repr.endswith("\n..."))
+        # Large containers are shortened without converting all elements
+        self.assertLessEqual(len(kpo.string_repr(list(range(1_000_000)))), 1000)
+        # Containers show as many elements as fit like the full str() does
+        for container in [list(range(20)), {i: i for i in range(20)}, set(range(20))]:
+            self.assertEqual(kpo.string_repr(container), str(container))
+        self.assertEqual(
+            kpo.string_repr(list(range(1_000_000)))[:900], str(list(range(300)))[:900]
+        )
+
+
+if __name__ == "__main__":
+    unittest.main()
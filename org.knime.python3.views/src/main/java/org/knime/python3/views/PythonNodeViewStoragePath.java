@@ -49,10 +49,16 @@
 package org.knime.python3.views;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
+import org.knime.core.node.NodeLogger;
 import org.knime.core.util.PathUtils;
 
 /**
@@ -63,6 +69,8 @@
  */
 public class PythonNodeViewStoragePath {
 
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(PythonNodeViewStoragePath.class);
+
     private static final String VIEW_HTML_FILE_NAME = "view.html";
 
     private static final String REPORT_MARKER_FILE_NAME = "can_be_used_in_report";
@@ -71,6 +79,14 @@ public class PythonNodeViewStoragePath {
 
     private boolean m_canBeUsedInReport;
 
+    /** The directory of the {@link ViewAssetStore} that holds the assets or null if the view has no assets */
+    private Path m_assetDirectory;
+
+    private Set<String> m_assetNames = Set.of();
+
+    /** The directory in which this view retains its assets, see {@link ViewAssetStore#retainAssets} */
+    private Path m_retainedAssetDirectory;
+
     /**
      * Creates a temporary HTML file for the Python node view.
      *
@@ -119,14 +135,62 @@ public boolean canBeUsedInReport() {
     }
 
     /**
-     * Deletes the HTML file if it exists.
+     * Moves large scripts that are embedded in the HTML file and shared with other views to a content-addressed store,
+     * such that the same script (e.g. the Plotly library) is only stored once for all views. Scripts that are unique
+     * to this view stay in the HTML file. Must be called after the view has been written. The view must then be opened
+     * with the {@link #getAssetResources() asset resources}.
+     *
+     * @throws IOException if the HTML file cannot be read or written
+     */
+    public void extractAssets() throws IOException {
+        final var html = Files.readString(m_path, StandardCharsets.UTF_8);
+        final var directory = ViewAssetStore.getSessionDirectory();
+        final var assetNames = new LinkedHashSet<String>();
+        final var htmlWithoutAssets = ViewAssetStore.extractAssets(html, directory, assetNames);
+        if (!assetNames.isEmpty()) {
+            Files.writeString(m_path, htmlWithoutAssets, StandardCharsets.UTF_8);
+            m_assetDirectory = directory;
+            m_assetNames = assetNames;
+        }
+    }
+
+    /**
+     * Gets the resources that provide the assets that have been moved out of the HTML file by
+     * {@link #extractAssets()}.
+     *
+     * @return the resources that must be added to the page of the view
+     */
+    public ViewResources getAssetResources() {
+        if (m_assetDirectory == null) {
+            return ViewResources.EMPTY_RESOURCES;
+        }
+        return new FolderViewResources(m_assetDirectory, ViewAssetStore.RELATIVE_PATH_PREFIX, true);
+    }
+
+    /**
+     * Deletes the HTML file if it exists. The assets of the view are no longer retained, such that they are deleted
+     * from the workflow when no other view references them.
      *
      * @throws IOException if the file cannot be deleted.
      */
     public void deleteIfExists() throws IOException {
+        retainAssetsIn(null);
         PathUtils.deleteFileIfExists(m_path);
     }
 
+    private void retainAssetsIn(final Path directory) {
+        if (Objects.equals(directory, m_retainedAssetDirectory)) {
+            return;
+        }
+        if (m_retainedAssetDirectory != null) {
+            ViewAssetStore.releaseAssets(m_assetNames, m_retainedAssetDirectory);
+        }
+        if (directory != null) {
+            ViewAssetStore.retainAssets(m_assetNames, directory);
+        }
+        m_retainedAssetDirectory = directory;
+    }
+
     /**
      * Creates a sink for the Python process to populate the view.
      *
@@ -140,20 +204,51 @@ public PythonNodeViewSink getSink() {
      * Loads the storage path from the internal directory.
      *
      * @param nodeInternDir the internal directory of the node.
-     * @return an {@link Optional} containing the storage path if the file is readable, or an empty {@link Optional}
-     *         otherwise.
+     * @return an {@link Optional} containing the storage path if the file and its assets are readable, or an empty
+     *         {@link Optional} otherwise.
+     * @throws IOException if the names of the assets of the view cannot be read.
      */
-    public static Optional<PythonNodeViewStoragePath> loadFromInternals(final Path nodeInternDir) {
+    public static Optional<PythonNodeViewStoragePath> loadFromInternals(final Path nodeInternDir)
+        throws IOException {
         var viewHtmlPath = nodeInternDir.resolve(VIEW_HTML_FILE_NAME);
         if (Files.isReadable(viewHtmlPath)) {
             var canBeUsedInReport = Files.exists(nodeInternDir.resolve(REPORT_MARKER_FILE_NAME));
-            return Optional.of(new PythonNodeViewStoragePath(viewHtmlPath, canBeUsedInReport));
+            var storagePath = new PythonNodeViewStoragePath(viewHtmlPath, canBeUsedInReport);
+            if (!storagePath.loadAssetNames(nodeInternDir)) {
+                LOGGER.warn("The scripts of the view saved in '" + nodeInternDir
+                    + "' are missing. The view is not available until the node is executed again.");
+                return Optional.empty();
+            }
+            return Optional.of(storagePath);
         }
         return Optional.empty();
     }
 
+    /** @return whether all assets of the view have been found */
+    private boolean loadAssetNames(final Path nodeInternDir) throws IOException {
+        var assetNamesPath = nodeInternDir.resolve(ViewAssetStore.ASSET_NAMES_FILE_NAME);
+        if (!Files.exists(assetNamesPath)) {
+            return true;
+        }
+        m_assetNames = new LinkedHashSet<>(Files.readAllLines(assetNamesPath, StandardCharsets.UTF_8));
+        // The assets are in the node internals if the workflow directory was unknown when saving
+        var nodeDirectory = ViewAssetStore.getNodeDirectory(nodeInternDir);
+        var workflowDirectory = ViewAssetStore.getWorkflowDirectory(nodeInternDir);
+        if (ViewAssetStore.containsAssets(m_assetNames, workflowDirectory)) {
+            m_assetDirectory = workflowDirectory;
+            retainAssetsIn(workflowDirectory);
+            return true;
+        } else if (ViewAssetStore.containsAssets(m_assetNames, nodeDirectory)) {
+            m_assetDirectory = nodeDirectory;
+            return true;
+        }
+        return false;
+    }
+
     /**
-     * Saves the storage path to the internals directory of the node.
+     * Saves the storage path to the internals directory of the node. The shared assets of the view are saved to a
+     * directory of the workflow, which is the only data that is written outside of the internals directory. Assets in
+     * this directory that no view references anymore are deleted.
      *
      * @param nodeInternDir the internal directory of the node.
      * @throws IOException if the file cannot be saved.
@@ -165,6 +260,21 @@ public void saveToInternals(final Path nodeInternDir) throws IOException {
         } else {
             Files.deleteIfExists(nodeInternDir.resolve(REPORT_MARKER_FILE_NAME));
         }
+        final var workflowDirectory = ViewAssetStore.getWorkflowDirectory(nodeInternDir);
+        if (m_assetDirectory != null) {
+            // Assets that other views of the workflow use already are not copied again
+            ViewAssetStore.copyAssets(m_assetNames, m_assetDirectory, workflowDirectory);
+            retainAssetsIn(workflowDirectory);
+            Files.write(nodeInternDir.resolve(ViewAssetStore.ASSET_NAMES_FILE_NAME), List.copyOf(m_assetNames),
+                StandardCharsets.UTF_8);
+        } else {
+            Files.deleteIfExists(nodeInternDir.resolve(ViewAssetStore.ASSET_NAMES_FILE_NAME));
+        }
+        try {
+            ViewAssetStore.deleteUnreferencedAssets(workflowDirectory);
+        } catch (IOException ex) { // NOSONAR the view has been saved, the unused assets are deleted with the next save
+            LOGGER.debug("Could not delete the unused scripts of Python views in '" + workflowDirectory + "'.", ex);
+        }
     }
 
     /** Represents a sink for the Python process to populate the view. */
@@ -0,0 +1,386 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ */
+package org.knime.python3.views;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.knime.core.util.PathUtils;
+
+/**
+ * A content-addressed store for large scripts that are shared by the HTML documents of Python node views. Libraries
+ * like Plotly or Bokeh embed their JavaScript into every view which makes each view tens of MB large. Such scripts are
+ * moved to files that are named by the SHA-256 hash of their content, such that the same script is only stored once
+ * for all views - in a temporary directory while KNIME is running and in a directory of the workflow when the workflow
+ * is saved. The views load the scripts as static resources via {@link FolderViewResources}.
+ * <P>
+ * Only shared scripts are moved: known library bundles and scripts that another view of this session contains, too.
+ * Scripts that are unique to a view stay in its HTML document and therefore in the internals of its node. Because the
+ * directory of the workflow is outside the internals of the nodes, assets that no view references anymore are deleted
+ * by {@link #deleteUnreferencedAssets(Path)}.
+ */
+final class ViewAssetStore {
+
+    /** The relative path under which the assets are available to the view */
+    static final String RELATIVE_PATH_PREFIX = "python_view_assets";
+
+    /** The name of the directory inside the workflow directory that contains the assets of all views */
+    private static final String WORKFLOW_DIRECTORY_NAME = ".python_view_assets";
+
+    /** The name of the fallback directory in the node internals if the workflow directory cannot be determined */
+    private static final String NODE_DIRECTORY_NAME = "view_assets";
+
+    private static final String WORKFLOW_FILE_NAME = "workflow.knime";
+
+    /** The name of the file in the node internals that lists the assets of the saved view */
+    static final String ASSET_NAMES_FILE_NAME = "view_asset_names";
+
+    private static final String ASSET_FILE_EXTENSION = ".js";
+
+    /** Scripts that are smaller than this number of characters stay in the HTML document */
+    private static final int MIN_ASSET_LENGTH = 64 * 1024;
+
+    private static final Set<String> JAVASCRIPT_TYPES = Set.of("text/javascript", "application/javascript", "module");
+
+    private static final Pattern INLINE_SCRIPT =
+        Pattern.compile("<script(\\s[^>]*)?>(.*?)</script\\s*>", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private static final Pattern SCRIPT_TYPE =
+        Pattern.compile("\\btype\\s*=\\s*[\"']?([^\"'\\s>]+)", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern SCRIPT_SRC = Pattern.compile("\\bsrc\\s*=", Pattern.CASE_INSENSITIVE);
+
+    /** Boolean attributes that only affect scripts with a src, see {@link #attributesForExternalScript(String)} */
+    private static final Pattern ASYNC_OR_DEFER = Pattern.compile(
+        "\\s(async|defer)(\\s*=\\s*(\"[^\"]*\"|'[^']*'|[^\\s>]*))?(?=\\s|$)", Pattern.CASE_INSENSITIVE);
+
+    private static final String MODULE_TYPE = "module";
+
+    /** The banners of library bundles that are moved even if only one view contains them */
+    private static final Pattern LIBRARY_BANNER =
+        Pattern.compile("plotly\\.js|Bokeh Contributors|vega-lite|vega-embed|Apache ECharts", Pattern.CASE_INSENSITIVE);
+
+    /** Library bundles start with their banner, so only the beginning of a script is searched for it */
+    private static final int BANNER_SEARCH_LENGTH = 2048;
+
+    private static Path sessionDirectory;
+
+    /** The names of the large scripts that the views of this session contained so far */
+    private static final Set<String> SEEN_SCRIPTS = ConcurrentHashMap.newKeySet();
+
+    /** The number of views of this session that reference an asset file, which must therefore not be deleted */
+    private static final Map<Path, Integer> ASSETS_IN_USE = new ConcurrentHashMap<>();
+
+    private ViewAssetStore() {
+    }
+
+    /**
+     * @return the directory that holds the assets of the views of this KNIME session
+     * @throws IOException if the temporary directory cannot be created
+     */
+    static synchronized Path getSessionDirectory() throws IOException {
+        if (sessionDirectory == null) {
+            sessionDirectory = PathUtils.createTempDir("python_view_assets");
+        }
+        return sessionDirectory;
+    }
+
+    /**
+     * Find the directory that holds the assets of all views of the workflow to which the given node internals
+     * directory belongs. Falls back to a directory inside the node internals if the node is not part of a workflow
+     * directory.
+     *
+     * @param nodeInternDir the internals directory of a node
+     * @return the directory for the assets
+     */
+    static Path getWorkflowDirectory(final Path nodeInternDir) {
+        // The outermost directory with a workflow file is the workflow (components and metanodes have one, too)
+        Path workflowDir = null;
+        for (var dir = nodeInternDir.toAbsolutePath().getParent(); dir != null; dir = dir.getParent()) {
+            if (Files.exists(dir.resolve(WORKFLOW_FILE_NAME))) {
+                workflowDir = dir;
+            } else if (workflowDir != null) {
+                break;
+            }
+        }
+        return workflowDir == null //
+            ? getNodeDirectory(nodeInternDir) //
+            : workflowDir.resolve(WORKFLOW_DIRECTORY_NAME);
+    }
+
+    /**
+     * @param nodeInternDir the internals directory of a node
+     * @return the fallback directory for the assets inside the node internals
+     */
+    static Path getNodeDirectory(final Path nodeInternDir) {
+        return nodeInternDir.resolve(NODE_DIRECTORY_NAME);
+    }
+
+    /**
+     * Move the large inline scripts of the given HTML document that are shared with other views to the given directory
+     * and replace them by a reference.
+     *
+     * @param html the HTML document
+     * @param directory the directory to write the scripts to
+     * @param assetNames collects the names of the assets that the returned document references
+     * @return the HTML document that references the moved scripts
+     * @throws IOException if writing a script failed
+     */
+    static String extractAssets(final String html, final Path directory, final Collection<String> assetNames)
+        throws IOException {
+        final var matcher = INLINE_SCRIPT.matcher(html);
+        final var result = new StringBuilder();
+        while (matcher.find()) {
+            final var attributes = Objects.requireNonNullElse(matcher.group(1), "");
+            final var content = matcher.group(2);
+            if (content.length() < MIN_ASSET_LENGTH || !isInlineJavaScript(attributes)) {
+                // NB: The text of this match is appended with the next replacement or the tail
+                continue;
+            }
+            final var bytes = content.getBytes(StandardCharsets.UTF_8);
+            final var name = sha256(bytes) + ASSET_FILE_EXTENSION;
+            if (!isShared(name, content)) {
+                continue;
+            }
+            writeAsset(name, bytes, directory);
+            assetNames.add(name);
+            final var externalAttributes = attributesForExternalScript(attributes);
+            matcher.appendReplacement(result, Matcher.quoteReplacement(
+                "<script" + externalAttributes + " src=\"" + RELATIVE_PATH_PREFIX + "/" + name + "\"></script>"));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    /**
+     * Copy the given assets to another directory unless they are present there already.
+     *
+     * @param assetNames the names of the assets
+     * @param source the directory that contains the assets
+     * @param target the directory to copy the assets to
+     * @throws IOException if copying an asset failed
+     */
+    static void copyAssets(final Collection<String> assetNames, final Path source, final Path target)
+        throws IOException {
+        if (source.equals(target)) {
+            return;
+        }
+        Files.createDirectories(target);
+        for (var name : assetNames) {
+            final var targetFile = target.resolve(name);
+            if (!Files.exists(targetFile)) {
+                final var tmpFile = Files.createTempFile(target, name, ".tmp");
+                Files.copy(source.resolve(name), tmpFile, StandardCopyOption.REPLACE_EXISTING);
+                moveIntoPlace(tmpFile, targetFile);
+            }
+        }
+    }
+
+    /**
+     * @param assetNames the names of the assets
+     * @param directory the directory to check
+     * @return if all assets are present in the directory
+     */
+    static boolean containsAssets(final Collection<String> assetNames, final Path directory) {
+        return assetNames.stream().allMatch(name -> Files.isReadable(directory.resolve(name)));
+    }
+
+    /**
+     * Mark the given assets as referenced by a view of this session, such that
+     * {@link #deleteUnreferencedAssets(Path)} keeps them until they are {@link #releaseAssets(Collection, Path)
+     * released}. Later views that contain the same scripts share them, too.
+     *
+     * @param assetNames the names of the assets
+     * @param directory the directory that contains the assets
+     */
+    static void retainAssets(final Collection<String> assetNames, final Path directory) {
+        for (var name : assetNames) {
+            SEEN_SCRIPTS.add(name);
+            ASSETS_IN_USE.merge(assetFile(directory, name), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Release assets that have been {@link #retainAssets(Collection, Path) retained} before.
+     *
+     * @param assetNames the names of the assets
+     * @param directory the directory that contains the assets
+     */
+    static void releaseAssets(final Collection<String> assetNames, final Path directory) {
+        for (var name : assetNames) {
+            ASSETS_IN_USE.computeIfPresent(assetFile(directory, name), (file, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    /**
+     * Delete the assets in the given workflow asset directory that are neither retained by a view of this session nor
+     * listed by a view that is saved in the workflow. Does nothing for the fallback directories in the node internals
+     * because they are replaced with the internals.
+     *
+     * @param directory the directory of the assets, as returned by {@link #getWorkflowDirectory(Path)}
+     * @throws IOException if the directory cannot be listed or an asset cannot be deleted
+     */
+    static void deleteUnreferencedAssets(final Path directory) throws IOException {
+        if (!Files.isDirectory(directory) || !WORKFLOW_DIRECTORY_NAME.equals(directory.getFileName().toString())) {
+            return;
+        }
+        final List<Path> candidates;
+        try (var files = Files.list(directory)) {
+            candidates = files //
+                .filter(file -> file.getFileName().toString().endsWith(ASSET_FILE_EXTENSION)) //
+                .filter(file -> !ASSETS_IN_USE.containsKey(file.toAbsolutePath().normalize())) //
+                .toList();
+        }
+        if (candidates.isEmpty()) {
+            // NB: Usually all assets are in use, so the workflow does not need to be searched
+            return;
+        }
+        final var referencedNames = findSavedAssetNames(directory.getParent());
+        for (var file : candidates) {
+            if (!referencedNames.contains(file.getFileName().toString())) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static Set<String> findSavedAssetNames(final Path workflowDir) throws IOException {
+        final var names = new HashSet<String>();
+        final List<Path> assetNameFiles;
+        try (var files = Files.walk(workflowDir)) {
+            assetNameFiles = files.filter(file -> ASSET_NAMES_FILE_NAME.equals(String.valueOf(file.getFileName())))
+                .toList();
+        }
+        for (var file : assetNameFiles) {
+            names.addAll(Files.readAllLines(file, StandardCharsets.UTF_8));
+        }
+        return names;
+    }
+
+    private static Path assetFile(final Path directory, final String name) {
+        return directory.resolve(name).toAbsolutePath().normalize();
+    }
+
+    /**
+     * A script is shared if it is a known library bundle or if another view of this session contained it before.
+     * Remembers the script for the views that follow.
+     */
+    private static boolean isShared(final String name, final String content) {
+        final var seenBefore = !SEEN_SCRIPTS.add(name);
+        return seenBefore
+            || LIBRARY_BANNER.matcher(content).region(0, Math.min(content.length(), BANNER_SEARCH_LENGTH)).find();
+    }
+
+    private static boolean isInlineJavaScript(final String attributes) {
+        if (SCRIPT_SRC.matcher(attributes).find()) {
+            return false;
+        }
+        final var type = getScriptType(attributes);
+        return type == null || JAVASCRIPT_TYPES.contains(type);
+    }
+
+    private static String getScriptType(final String attributes) {
+        final var type = SCRIPT_TYPE.matcher(attributes);
+        return type.find() ? type.group(1).toLowerCase(Locale.ROOT) : null;
+    }
+
+    /**
+     * Browsers ignore "async" and "defer" on inline classic scripts but honor them once the script has a src, which
+     * would change the order in which the scripts of the view run. The attributes are therefore removed. Inline module
+     * scripts are deferred anyway and honor "async", so only "defer" is removed for them. "nomodule" keeps its meaning
+     * for scripts with a src and is kept.
+     */
+    private static String attributesForExternalScript(final String attributes) {
+        final var isModule = MODULE_TYPE.equals(getScriptType(attributes));
+        final var matcher = ASYNC_OR_DEFER.matcher(attributes);
+        final var result = new StringBuilder();
+        while (matcher.find()) {
+            final var keep = isModule && "async".equalsIgnoreCase(matcher.group(1));
+            matcher.appendReplacement(result, keep ? "$0" : "");
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    private static void writeAsset(final String name, final byte[] bytes, final Path directory) throws IOException {
+        final var file = directory.resolve(name);
+        if (!Files.exists(file)) {
+            Files.createDirectories(directory);
+            final var tmpFile = Files.createTempFile(directory, name, ".tmp");
+            Files.write(tmpFile, bytes);
+            moveIntoPlace(tmpFile, file);
+        }
+    }
+
+    private static void moveIntoPlace(final Path tmpFile, final Path file) throws IOException {
+        // Another view might write the same asset concurrently - both have the same content
+        Files.move(tmpFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static String sha256(final byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException ex) {
+            // Every Java platform must support SHA-256
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -127,7 +127,11 @@ class _Tabular(ks._Columnar):
             return _TabularView(self, ks._ColumnSlicingOperation(slicing))
 
     def to_pandas(
-        self, sentinel: Optional[Union[str, int]] = None
+        self,
+        sentinel: Optional[Union[str, int]] = None,
+        lazy: bool = False,
+        dtype_backend: Optional[str] = None,
+        preserve_dictionary: bool = False,
     ) -> "pandas.DataFrame":
         """
         Access this table as a pandas.DataFrame.
@@ -141,10 +145,28 @@ class _Tabular(ks._Columnar):
                 * ``"min"`` min int32 or min int64 depending on the type of the column
                 * ``"max"`` max int32 or max int64 depending on the type of the column
                 * An integer value that should be inserted for each missing value
+        lazy : bool
+            If True, a facade of the pandas.DataFrame is returned that only converts
+            the columns that are accessed by name. Any other operation converts all
+            columns. Call ``to_pandas()`` on the facade to get the pandas.DataFrame
+            itself, e.g. to pass it to ``pandas.concat``.
+        dtype_backend : str, optional
+            If ``"pyarrow"``, columns of standard types are backed by
+            ``pandas.ArrowDtype`` and share the memory of the table data instead of
+            being copied into NumPy arrays. Requires pandas 1.5 or newer.
+        preserve_dictionary : bool
+            If True, string columns that KNIME stores dictionary encoded become
+            ``pandas.Categorical`` columns instead of plain string columns.
         """
-        return self.get().to_pandas()
+        return self.get().to_pandas(
+            sentinel, lazy, dtype_backend, preserve_dictionary=preserve_dictionary
+        )
 
-    def to_pyarrow(self, sentinel: Optional[Union[str, int]] = None) -> "pyarrow.Table":
+    def to_pyarrow(
+        self,
+        sentinel: Optional[Union[str, int]] = None,
+        preserve_dictionary: bool = False,
+    ) -> "pyarrow.Table":
         """
         Access this table as a pyarrow.Table.
 
@@ -156,8 +178,58 @@ class _Tabular(ks._Columnar):
             - "min": minimum value of int32 or int64 depending on the type of the column
             - "max": maximum value of int32 or int64 depending on the type of the column
             - An integer value that should be inserted for each missing value
+        preserve_dictionary : bool
+            If True, string columns that KNIME stores dictionary encoded are returned
+            as ``pyarrow.DictionaryArray`` instead of plain string arrays.
+        """
+        return self.get().to_pyarrow(preserve_dictionary=preserve_dictionary)
+
+    def to_polars(
+        self, sentinel: Optional[Union[str, int]] = None, lazy: bool = False
+    ) -> "polars.DataFrame":
+        """
+        Access this table as a polars.DataFrame. The RowIDs are contained in the first
+        column "<RowID>". Date, time and duration columns are converted to the
+        corresponding polars types. Columns of other KNIME types that polars does not
+        support contain the values in the representation KNIME stores them in.
+        Requires the polars package.
+
+        Parameters
+        ----------
+        sentinel : str or int
+            Replace missing values in integral columns by the given value, see
+            :meth:`~_Tabular.to_pyarrow`.
+        lazy : bool
+            If True, a polars.LazyFrame is returned that scans the record batches of
+            the table, so that filters and projections are pushed down to the scan.
+            For input tables the batches are converted while they are scanned, so
+            the LazyFrame can only be collected once.
         """
-        return self.get().to_pyarrow()
+        return self.get().to_polars(sentinel, lazy)
+
+    def to_duckdb_relation(
+        self, sentinel: Optional[Union[str, int]] = None, *, connection=None
+    ) -> "duckdb.DuckDBPyRelation":
+        """
+        Access this table as a relation of DuckDB that scans the record batches of the
+        table, so that filters and projections are pushed down to the scan. For input
+        tables the batches are converted while they are scanned, so the relation can
+        only be queried once. The RowIDs are contained in the first column "<RowID>".
+        Date, time and duration columns are converted to the corresponding DuckDB
+        types. Columns of other KNIME types that DuckDB does not support contain the
+        values in the representation KNIME stores them in. Requires the duckdb
+        package.
+
+        Parameters
+        ----------
+        sentinel : str or int
+            Replace missing values in integral columns by the given value, see
+            :meth:`~_Tabular.to_pyarrow`.
+        connection : duckdb.DuckDBPyConnection, optional
+            The connection to create the relation in. Uses the default connection of
+            DuckDB if None.
+        """
+        return self.get().to_duckdb_relation(sentinel, connection=connection)
 
     @abstractmethod
     def _select_rows(self, selection):
@@ -190,18 +262,44 @@ class _TabularView(_Tabular, ks._ColumnarView):
         super().__init__(delegate, operation)
 
     def to_pandas(
-        self, sentinel: Optional[Union[str, int]] = None
+        self,
+        sentinel: Optional[Union[str, int]] = None,
+        lazy: bool = False,
+        dtype_backend: Optional[str] = None,
+        preserve_dictionary: bool = False,
     ) -> "pandas.DataFrame":
         """
         See :meth:`~_Tabular.to_pandas`
         """
-        return self.get().to_pandas(sentinel)
+        return self.get().to_pandas(
+            sentinel, lazy, dtype_backend, preserve_dictionary=preserve_dictionary
+        )
 
-    def to_pyarrow(self, sentinel: Optional[Union[str, int]] = None) -> "pyarrow.Table":
+    def to_pyarrow(
+        self,
+        sentinel: Optional[Union[str, int]] = None,
+        preserve_dictionary: bool = False,
+    ) -> "pyarrow.Table":
         """
         See :meth:`_Tabular.to_pyarrow`
         """
-        return self.get().to_pyarrow(sentinel)
+        return self.get().to_pyarrow(sentinel, preserve_dictionary=preserve_dictionary)
+
+    def to_polars(
+        self, sentinel: Optional[Union[str, int]] = None, lazy: bool = False
+    ) -> "polars.DataFrame":
+        """
+        See :meth:`_Tabular.to_polars`
+        """
+        return self.get().to_polars(sentinel, lazy)
+
+    def to_duckdb_relation(
+        self, sentinel: Optional[Union[str, int]] = None, *, connection=None
+    ) -> "duckdb.DuckDBPyRelation":
+        """
+        See :meth:`_Tabular.to_duckdb_relation`
+        """
+        return self.get().to_duckdb_relation(sentinel, connection=connection)
 
     @property
     def num_rows(self):
@@ -256,6 +354,10 @@ class _Backend:
     def create_table_from_pandas(self, data, sentinel, row_ids: str = "auto"):
         raise RuntimeError("Not implemented")
 
+    @abstractmethod
+    def create_table_from_polars(self, data, sentinel, row_ids: str = "auto"):
+        raise RuntimeError("Not implemented")
+
     @abstractmethod
     def create_batch_output_table(self, row_ids: str = "keep"):
         raise RuntimeError("Not implemented")
@@ -385,19 +487,63 @@ class Table(_Tabular):
         """
         return _backend.create_table_from_pandas(data, sentinel, row_ids=row_ids)
 
+    @staticmethod
+    def from_polars(
+        data: "polars.DataFrame",
+        sentinel: Optional[Union[str, int]] = None,
+        row_ids: str = "auto",
+    ):
+        """
+        Factory method to create a Table given a polars.DataFrame or polars.LazyFrame.
+        A LazyFrame is collected first.
+
+        Examples
+        --------
+
+        >>> Table.from_polars(my_polars_df, row_ids="generate")
+
+        Parameters
+        ----------
+        data : polars.DataFrame
+            A polars DataFrame.
+        sentinel : str, optional
+            Interpret the following values in integral columns as missing value:
+
+            - ``"min"``: min int32 or min int64 depending on the type of the column
+            - ``"max"``: max int32 or max int64 depending on the type of the column
+            - a special integer value that should be interpreted as missing value
+        row_ids : {'keep', 'generate', 'auto'}, optional
+            Defines what RowID should be used, see :meth:`~Table.from_pyarrow`.
+
+        Returns
+        -------
+        Table
+            The created Table object.
+        """
+        return _backend.create_table_from_polars(data, sentinel, row_ids=row_ids)
+
     def to_batches(self) -> Iterator["Table"]:
         """
         Alias for `Table.batches()`
         """
         return self.batches()
 
-    def batches(self) -> Iterator["Table"]:
+    def batches(self, num_batches_ahead: int = 0) -> Iterator["Table"]:
         """
         Returns a generator over the batches in this table. A batch is part of the table
         with all columns, but only a subset of the rows. A batch should always fit into
         memory (max size currently 64mb). The table being passed to execute() is already
         present in batches, so accessing the data this way is very efficient.
 
+        Parameters
+        ----------
+        num_batches_ahead : int
+            How many batches a background thread reads ahead of the batch that is
+            currently processed, so that reading the data overlaps with processing it.
+            The batches read ahead occupy at most 256 MB of memory. The thread is
+            stopped when the generator is exhausted, closed or garbage collected. The
+            default of 0 reads each batch when it is requested.
+
         Returns
         -------
         generator
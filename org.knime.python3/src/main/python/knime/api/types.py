@@ -82,6 +82,14 @@ class PythonValueFactory:
     def encode(self, value):
         return value
 
+    def decode_array(self, storage: "pyarrow.Array") -> "pyarrow.Array":
+        """
+        Decode a whole array of storage values at once. Returns a pyarrow array with
+        a native type whose values are the decoded values, or None if the values have
+        to be decoded one by one with decode().
+        """
+        return None
+
     def needs_conversion(self):
         return True
 
@@ -0,0 +1,211 @@
+# -*- coding: utf-8 -*-
+# ------------------------------------------------------------------------
+#  Copyright by KNIME AG, Zurich, Switzerland
+#  Website: http://www.knime.com; Email: contact@knime.com
+#
+#  This program is free software; you can redistribute it and/or modify
+#  it under the terms of the GNU General Public License, Version 3, as
+#  published by the Free Software Foundation.
+#
+#  This program is distributed in the hope that it will be useful, but
+#  WITHOUT ANY WARRANTY; without even the implied warranty of
+#  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+#  GNU General Public License for more details.
+#
+#  You should have received a copy of the GNU General Public License
+#  along with this program; if not, see <http://www.gnu.org/licenses>.
+#
+#  Additional permission under GNU GPL version 3 section 7:
+#
+#  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+#  Hence, KNIME and ECLIPSE are both independent programs and are not
+#  derived from each other. Should, however, the interpretation of the
+#  GNU GPL Version 3 ("License") under any applicable laws result in
+#  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+#  you the additional permission to use and propagate KNIME together with
+#  ECLIPSE with only the license terms in place for ECLIPSE applying to
+#  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+#  license terms of ECLIPSE themselves allow for the respective use and
+#  propagation of ECLIPSE together with KNIME.
+#
+#  Additional permission relating to nodes for KNIME that extend the Node
+#  Extension (and in particular that are based on subclasses of NodeModel,
+#  NodeDialog, and NodeView) and that only interoperate with KNIME through
+#  standard APIs ("Nodes"):
+#  Nodes are deemed to be separate and independent programs and to not be
+#  covered works.  Notwithstanding anything to the contrary in the
+#  License, the License does not apply to Nodes, you are not required to
+#  license Nodes under the License, and you are granted a license to
+#  prepare and propagate Nodes, in each case even if such Nodes are
+#  propagated with or for interoperation with KNIME.  The owner of a Node
+#  may freely choose the license terms applicable to such Node, including
+#  when such Node is propagated with or for interoperation with KNIME.
+# ------------------------------------------------------------------------
+"""
+Reading and writing the objects of the object ports of the Python scripting nodes.
+
+Objects are written either as a plain pickle file, which every Python node can read, or
+in a segmented layout: the object is pickled with protocol 5 and each out-of-band buffer
+(e.g. the data of numpy arrays and pandas frames) is written to its own aligned segment.
+Reading a segmented file maps it into memory and gives the uncompressed segments to the
+unpickler without copying them, so the data of large models is only read from disk when
+it is accessed. The segments can optionally be compressed with zstd in chunks.
+
+A segmented file looks like: magic | segments | footer (JSON) | footer length | magic
+"""
+
+import json
+import mmap
+import pickle
+import reprlib
+from collections import deque
+from typing import Any, List, Optional
+
+FORMAT_PICKLE = "pickle"
+FORMAT_SEGMENTED = "segmented"
+FORMAT_SEGMENTED_ZSTD = "segmented-zstd"
+
+# Not a valid start of a pickle stream, so plain pickle files are told apart
+_MAGIC = b"\x00KNIMEOB"
+_FOOTER_LENGTH_SIZE = 8
+_SEGMENT_ALIGNMENT = 64
+_COMPRESSION_CHUNK_SIZE = 16 * 1024 * 1024
+
+_MAX_STRING_REPR_LENGTH = 1000
+
+_CONTAINER_TYPES = (list, tuple, dict, set, frozenset, deque)
+
+
+def write_object(obj: Any, path: str, format: str = FORMAT_PICKLE) -> None:
+    """
+    Writes the object to the file at the given path in the given format, one of
+    FORMAT_PICKLE, FORMAT_SEGMENTED or FORMAT_SEGMENTED_ZSTD.
+    """
+    if format == FORMAT_PICKLE:
+        with open(path, "wb") as file:
+            pickle.dump(obj=obj, file=file)
+        return
+    if format == FORMAT_SEGMENTED:
+        compression = None
+    elif format == FORMAT_SEGMENTED_ZSTD:
+        compression = "zstd"
+    else:
+        raise ValueError(f"Unknown format '{format}' for pickled objects.")
+
+    buffers = []
+
+    def collect_buffer(buffer: pickle.PickleBuffer) -> bool:
+        try:
+            buffers.append(buffer.raw())
+        except BufferError:
+            # Non-contiguous buffers are pickled in-band
+            return True
+        return False
+
+    data = pickle.dumps(obj, protocol=5, buffer_callback=collect_buffer)
+    with open(path, "wb") as file:
+        file.write(_MAGIC)
+        # The pickle stream is the first segment, the out-of-band buffers follow
+        segments = [_write_segment(file, memoryview(data), compression)]
+        del data
+        for buffer in buffers:
+            segments.append(_write_segment(file, buffer, compression))
+        footer = json.dumps(
+            {"version": 1, "compression": compression, "segments": segments}
+        ).encode("utf-8")
+        file.write(footer)
+        file.write(len(footer).to_bytes(_FOOTER_LENGTH_SIZE, "little"))
+        file.write(_MAGIC)
+
+
+def _write_segment(file, view: memoryview, compression: Optional[str]) -> dict:
+    # Aligned segments can back numpy arrays of any type
+    file.write(b"\x00" * (-file.tell() % _SEGMENT_ALIGNMENT))
+    offset = file.tell()
+    if compression is None:
+        file.write(view)
+        return {"offset": offset, "length": view.nbytes}
+
+    import pyarrow as pa
+
+    codec = pa.Codec(compression)
+    chunks = []
+    for start in range(0, view.nbytes, _COMPRESSION_CHUNK_SIZE):
+        chunk = view[start : start + _COMPRESSION_CHUNK_SIZE]
+        compressed = codec.compress(chunk, asbytes=False)
+        file.write(compressed)
+        chunks.append([compressed.size, chunk.nbytes])
+    return {"offset": offset, "length": view.nbytes, "chunks": chunks}
+
+
+def read_object(path: str) -> Any:
+    """
+    Reads the object from the file at the given path, which can be in any of the
+    formats written by write_object.
+    """
+    with open(path, "rb") as file:
+        if file.read(len(_MAGIC)) != _MAGIC:
+            file.seek(0)
+            return pickle.load(file)
+        # A copy-on-write mapping, such that the unpickled arrays are writable
+        # without changing the file
+        view = memoryview(mmap.mmap(file.fileno(), 0, access=mmap.ACCESS_COPY))
+
+    footer_end = len(view) - len(_MAGIC) - _FOOTER_LENGTH_SIZE
+    footer_length = int.from_bytes(view[footer_end : footer_end + 8], "little")
+    footer = json.loads(bytes(view[footer_end - footer_length : footer_end]))
+    segments = [
+        _read_segment(view, segment, footer["compression"])
+        for segment in footer["segments"]
+    ]
+    return pickle.loads(segments[0], buffers=segments[1:])
+
+
+def _read_segment(view: memoryview, segment: dict, compression: Optional[str]):
+    offset = segment["offset"]
+    if compression is None:
+        return view[offset : offset + segment["length"]]
+
+    import pyarrow as pa
+
+    codec = pa.Codec(compression)
+    data = bytearray(segment["length"])
+    position = 0
+    for compressed_size, size in segment["chunks"]:
+        data[position : position + size] = codec.decompress(
+            view[offset : offset + compressed_size],
+            decompressed_size=size,
+            asbytes=False,
+        )
+        offset += compressed_size
+        position += size
+    return data
+
+
+def string_repr(obj: Any) -> str:
+    """
+    The string representation of the object that is shown in the port view, shortened
+    to about 1000 characters. Built-in containers are not converted as a whole, such
+    that the representation of large lists or dicts is cheap.
+    """
+    if isinstance(obj, _CONTAINER_TYPES):
+        container_repr = reprlib.Repr()
+        container_repr.maxstring = _MAX_STRING_REPR_LENGTH
+        container_repr.maxother = _MAX_STRING_REPR_LENGTH
+        # enough elements to fill the shortened representation like str() does, the
+        # defaults of reprlib only show a handful of elements
+        max_elements = _MAX_STRING_REPR_LENGTH // 2
+        container_repr.maxlist = max_elements
+        container_repr.maxtuple = max_elements
+        container_repr.maxdict = max_elements
+        container_repr.maxset = max_elements
+        container_repr.maxfrozenset = max_elements
+        container_repr.maxdeque = max_elements
+        object_as_string = container_repr.repr(obj)
+    else:
+        object_as_string = str(obj)
+    return (
+        (object_as_string[: _MAX_STRING_REPR_LENGTH - 4] + "\n...")
+        if len(object_as_string) > _MAX_STRING_REPR_LENGTH
+        else object_as_string
+    )